@@ -41,14 +41,6 @@
 ## Retrofit
 -dontwarn retrofit2.**
 
-## SimpleXML
--dontwarn org.simpleframework.xml.stream.**
--keep class org.simpleframework.xml.** { *; }
--keepclassmembers,allowobfuscation class * {
-    @org.simpleframework.xml.* <fields>;
-    public <init>();
-}
-
 ## TextRazor
 -keep class com.textrazor.** { *; }
 -keepnames class com.fasterxml.jackson.** { *; }
@@ -0,0 +1,145 @@
+package com.github.ayltai.newspaper.app.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import android.support.annotation.NonNull;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.util.Log;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.github.ayltai.newspaper.app.data.model.NewsItem;
+
+import io.realm.Realm;
+import io.realm.RealmConfiguration;
+import io.realm.RealmResults;
+
+/**
+ * Compares {@link ItemManager#putItems(List)} with the previous per-item upsert, for a first load and for a refresh of the same items.
+ * <p>The results are written to logcat with the tag {@code ItemManagerBenchmark}.</p>
+ */
+@RunWith(AndroidJUnit4.class)
+public final class ItemManagerBenchmark {
+    private static final String TAG = ItemManagerBenchmark.class.getSimpleName();
+
+    private static final int[] SIZES  = { 100, 1000, 10000 };
+    private static final int   ROUNDS = 3;
+
+    @Before
+    public void setUp() {
+        Realm.init(InstrumentationRegistry.getTargetContext());
+    }
+
+    @Test
+    public void benchmarkPutItems() {
+        for (final int size : ItemManagerBenchmark.SIZES) {
+            long perItemInsert = Long.MAX_VALUE;
+            long perItemUpdate = Long.MAX_VALUE;
+            long batchInsert   = Long.MAX_VALUE;
+            long batchUpdate   = Long.MAX_VALUE;
+
+            for (int round = 0; round < ItemManagerBenchmark.ROUNDS; round++) {
+                Realm realm = ItemManagerBenchmark.createRealm("per-item-" + size + "-" + round);
+
+                try {
+                    long start = System.nanoTime();
+                    ItemManagerBenchmark.putItemsPerItem(realm, ItemManagerBenchmark.createItems(size));
+                    perItemInsert = Math.min(perItemInsert, System.nanoTime() - start);
+
+                    start = System.nanoTime();
+                    ItemManagerBenchmark.putItemsPerItem(realm, ItemManagerBenchmark.createItems(size));
+                    perItemUpdate = Math.min(perItemUpdate, System.nanoTime() - start);
+
+                    Assert.assertEquals(size, realm.where(NewsItem.class).count());
+                } finally {
+                    realm.close();
+                }
+
+                realm = ItemManagerBenchmark.createRealm("batch-" + size + "-" + round);
+
+                try {
+                    final ItemManager manager = ItemManager.create(realm);
+
+                    long start = System.nanoTime();
+                    manager.putItems(ItemManagerBenchmark.createItems(size)).blockingGet();
+                    batchInsert = Math.min(batchInsert, System.nanoTime() - start);
+
+                    start = System.nanoTime();
+                    manager.putItems(ItemManagerBenchmark.createItems(size)).blockingGet();
+                    batchUpdate = Math.min(batchUpdate, System.nanoTime() - start);
+
+                    Assert.assertEquals(size, realm.where(NewsItem.class).count());
+                } finally {
+                    realm.close();
+                }
+            }
+
+            Log.i(ItemManagerBenchmark.TAG, String.format(Locale.ENGLISH, "%5d items: insert %6d ms per item, %6d ms batched; update %6d ms per item, %6d ms batched", size, perItemInsert / 1000000, batchInsert / 1000000, perItemUpdate / 1000000, batchUpdate / 1000000));
+        }
+    }
+
+    @NonNull
+    private static Realm createRealm(@NonNull final String name) {
+        return Realm.getInstance(new RealmConfiguration.Builder()
+            .name(name)
+            .inMemory()
+            .build());
+    }
+
+    @NonNull
+    private static List<NewsItem> createItems(final int size) {
+        final List<NewsItem> items = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            final NewsItem item = new NewsItem();
+            item.setLink("https://example.com/" + i);
+            item.setTitle("Title " + i);
+            item.setDescription("Description " + i);
+            item.setSource("Source");
+            item.setCategory("Category");
+            item.setPublishDate(System.currentTimeMillis() - i);
+            item.setIsFullDescription(i % 2 == 0);
+
+            items.add(item);
+        }
+
+        return items;
+    }
+
+    /**
+     * The previous implementation of {@link ItemManager#putItems(List)}, with one query and one write per item.
+     */
+    private static void putItemsPerItem(@NonNull final Realm realm, @NonNull final List<NewsItem> newsItems) {
+        realm.beginTransaction();
+
+        for (final NewsItem newsItem : newsItems) {
+            final RealmResults<NewsItem> items = realm.where(NewsItem.class)
+                .equalTo(NewsItem.FIELD_LINK, newsItem.getLink())
+                .findAll();
+
+            if (items.isEmpty()) {
+                realm.insert(newsItem);
+            } else {
+                final NewsItem item = items.first();
+
+                if (item.isFullDescription()) {
+                    if (newsItem.isFullDescription()) {
+                        item.setBookmarked(newsItem.isBookmarked());
+
+                        realm.insertOrUpdate(item);
+                    }
+                } else {
+                    realm.insertOrUpdate(newsItem);
+                }
+            }
+        }
+
+        realm.commitTransaction();
+    }
+}
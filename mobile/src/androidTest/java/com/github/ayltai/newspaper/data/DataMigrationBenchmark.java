@@ -0,0 +1,172 @@
+package com.github.ayltai.newspaper.data;
+
+import java.util.Date;
+import java.util.Locale;
+
+import android.support.annotation.NonNull;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.util.Log;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.github.ayltai.newspaper.app.data.model.NewsItem;
+
+import io.realm.DynamicRealm;
+import io.realm.Realm;
+import io.realm.RealmConfiguration;
+import io.realm.RealmObjectSchema;
+import io.realm.Sort;
+
+/**
+ * Times the {@link NewsItem} queries of {@link com.github.ayltai.newspaper.app.data.ItemManager} against a schema version 1 store, migrates it with {@link DataMigration}, and times them again.
+ * <p>The results are written to logcat with the tag {@code DataMigrationBenchmark}.</p>
+ */
+@RunWith(AndroidJUnit4.class)
+public final class DataMigrationBenchmark {
+    //region Constants
+
+    private static final String TAG = DataMigrationBenchmark.class.getSimpleName();
+
+    private static final int SIZE   = 10000;
+    private static final int ROUNDS = 5;
+
+    private static final String[] SOURCES    = { "蘋果日報", "東方日報", "星島日報", "明報", "頭條日報", "經濟日報", "信報", "文匯報" };
+    private static final String[] CATEGORIES = { "港聞", "國際", "財經", "娛樂", "體育" };
+
+    private static final String[] INDEXES = {
+        NewsItem.FIELD_PUBLISH_DATE,
+        NewsItem.FIELD_SOURCE,
+        NewsItem.FIELD_CATEGORY,
+        NewsItem.FIELD_BOOKMARKED,
+        NewsItem.FIELD_LAST_ACCESSED_DATE
+    };
+
+    //endregion
+
+    @Before
+    public void setUp() {
+        Realm.init(InstrumentationRegistry.getTargetContext());
+    }
+
+    @Test
+    public void benchmarkQueries() {
+        final RealmConfiguration configuration = new RealmConfiguration.Builder()
+            .name("migration-benchmark.realm")
+            .schemaVersion(DataMigration.SCHEMA_VERSION)
+            .build();
+
+        Realm.deleteRealm(configuration);
+
+        DataMigrationBenchmark.populate(configuration);
+
+        final DynamicRealm realm = DynamicRealm.getInstance(configuration);
+
+        try {
+            final RealmObjectSchema schema = realm.getSchema().get(NewsItem.class.getSimpleName());
+            Assert.assertNotNull(schema);
+
+            // Brings the store back to schema version 1
+            realm.beginTransaction();
+            for (final String field : DataMigrationBenchmark.INDEXES) schema.removeIndex(field);
+            realm.commitTransaction();
+
+            final long[] before = DataMigrationBenchmark.query(realm);
+
+            realm.beginTransaction();
+            new DataMigration().migrate(realm, 1, DataMigration.SCHEMA_VERSION);
+            realm.commitTransaction();
+
+            for (final String field : DataMigrationBenchmark.INDEXES) Assert.assertTrue(schema.hasIndex(field));
+            Assert.assertEquals(DataMigrationBenchmark.SIZE, realm.where(NewsItem.class.getSimpleName()).count());
+
+            final long[] after = DataMigrationBenchmark.query(realm);
+
+            Log.i(DataMigrationBenchmark.TAG, String.format(Locale.ENGLISH, "%d items: items %d -> %d us, bookmarks %d -> %d us, histories %d -> %d us", DataMigrationBenchmark.SIZE, before[0], after[0], before[1], after[1], before[2], after[2]));
+        } finally {
+            realm.close();
+
+            Realm.deleteRealm(configuration);
+        }
+    }
+
+    private static void populate(@NonNull final RealmConfiguration configuration) {
+        final Realm realm = Realm.getInstance(configuration);
+
+        try {
+            final long now = System.currentTimeMillis();
+
+            realm.beginTransaction();
+
+            for (int i = 0; i < DataMigrationBenchmark.SIZE; i++) {
+                final NewsItem item = new NewsItem();
+                item.setLink("https://example.com/" + i);
+                item.setTitle("Title " + i);
+                item.setSource(DataMigrationBenchmark.SOURCES[i % DataMigrationBenchmark.SOURCES.length]);
+                item.setCategory(DataMigrationBenchmark.CATEGORIES[i % DataMigrationBenchmark.CATEGORIES.length]);
+                item.setPublishDate(now - i * 60 * 1000L);
+                item.setBookmarked(i % 50 == 0);
+                if (i % 20 == 0) item.setLastAccessedDate(new Date(now - i));
+
+                realm.insert(item);
+            }
+
+            realm.commitTransaction();
+        } finally {
+            realm.close();
+        }
+    }
+
+    /**
+     * Returns the best times, in microseconds, of the item, bookmark and history queries.
+     */
+    @NonNull
+    private static long[] query(@NonNull final DynamicRealm realm) {
+        final String   className  = NewsItem.class.getSimpleName();
+        final String[] sources    = { DataMigrationBenchmark.SOURCES[0], DataMigrationBenchmark.SOURCES[1] };
+        final String[] categories = { DataMigrationBenchmark.CATEGORIES[0] };
+        final long[]   times      = { Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE };
+
+        for (int round = 0; round < DataMigrationBenchmark.ROUNDS; round++) {
+            final long now = System.currentTimeMillis();
+
+            long start = System.nanoTime();
+            realm.where(className)
+                .in(NewsItem.FIELD_SOURCE, sources)
+                .in(NewsItem.FIELD_CATEGORY, categories)
+                .greaterThan(NewsItem.FIELD_PUBLISH_DATE, 0L)
+                .lessThanOrEqualTo(NewsItem.FIELD_PUBLISH_DATE, now)
+                .sort(NewsItem.FIELD_LAST_ACCESSED_DATE, Sort.DESCENDING)
+                .findAll()
+                .size();
+            times[0] = Math.min(times[0], (System.nanoTime() - start) / 1000);
+
+            start = System.nanoTime();
+            realm.where(className)
+                .equalTo(NewsItem.FIELD_BOOKMARKED, true)
+                .greaterThan(NewsItem.FIELD_PUBLISH_DATE, 0L)
+                .lessThanOrEqualTo(NewsItem.FIELD_PUBLISH_DATE, now)
+                .sort(NewsItem.FIELD_LAST_ACCESSED_DATE, Sort.DESCENDING)
+                .findAll()
+                .size();
+            times[1] = Math.min(times[1], (System.nanoTime() - start) / 1000);
+
+            start = System.nanoTime();
+            final int size = realm.where(className)
+                .greaterThan(NewsItem.FIELD_LAST_ACCESSED_DATE, 0L)
+                .greaterThan(NewsItem.FIELD_PUBLISH_DATE, 0L)
+                .lessThanOrEqualTo(NewsItem.FIELD_PUBLISH_DATE, now)
+                .sort(NewsItem.FIELD_LAST_ACCESSED_DATE, Sort.DESCENDING)
+                .findAll()
+                .size();
+            times[2] = Math.min(times[2], (System.nanoTime() - start) / 1000);
+
+            Assert.assertTrue(size > 0);
+        }
+
+        return times;
+    }
+}
@@ -12,6 +12,7 @@ public final class Constants {
     public static final int MAX_RETRIES                    = 5;
     public static final int CONNECTION_TIMEOUT             = 5;
     public static final int REFRESH_TIMEOUT                = 7;
+    public static final int STALE_REFRESH_TIMEOUT          = 15;
     public static final int HOUSEKEEP_TIME                 = 72 * 60 * 60 * 1000;
     public static final int REMOTE_CONFIG_CACHE_EXPIRATION = 30 * 60 * 1000;
 
@@ -54,6 +55,16 @@ public final class Constants {
 
     public static final boolean AUTO_PLAY_DEFAULT = false;
 
+    public static final int DATA_SAVING_OFF     = 0;
+    public static final int DATA_SAVING_AUTO    = 1;
+    public static final int DATA_SAVING_METERED = 2;
+    public static final int DATA_SAVING_ALWAYS  = 3;
+    public static final int DATA_SAVING_DEFAULT = DATA_SAVING_AUTO;
+
+    @IntDef({ Constants.DATA_SAVING_OFF, Constants.DATA_SAVING_AUTO, Constants.DATA_SAVING_METERED, Constants.DATA_SAVING_ALWAYS })
+    public @interface DataSaving {
+    }
+
     private Constants() {
     }
 }
@@ -0,0 +1,20 @@
+package com.github.ayltai.newspaper.analytics;
+
+public final class DataUsageEvent extends Event {
+    public static final String NAME = "Data Usage";
+
+    public static final String ATTRIBUTE_NEWS_BYTES  = "News Bytes";
+    public static final String ATTRIBUTE_MEDIA_BYTES = "Media Bytes";
+    public static final String ATTRIBUTE_DATA_SAVING = "Data Saving";
+
+    /**
+     * @param isDataSaving {@code true} if data was being saved when the session ended.
+     */
+    public DataUsageEvent(final long newsBytes, final long mediaBytes, final boolean isDataSaving) {
+        super(DataUsageEvent.NAME);
+
+        this.attributes.add(new Attribute(DataUsageEvent.ATTRIBUTE_NEWS_BYTES, String.valueOf(newsBytes)));
+        this.attributes.add(new Attribute(DataUsageEvent.ATTRIBUTE_MEDIA_BYTES, String.valueOf(mediaBytes)));
+        this.attributes.add(new Attribute(DataUsageEvent.ATTRIBUTE_DATA_SAVING, String.valueOf(isDataSaving)));
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.ayltai.newspaper.analytics;
+
+import android.support.annotation.NonNull;
+
+public final class LatencyEvent extends Event {
+    public static final String NAME = "Latency";
+
+    public static final String ATTRIBUTE_SOURCE = "Source";
+    public static final String ATTRIBUTE_COUNT  = "Count";
+
+    public LatencyEvent(@NonNull final String source, final int count) {
+        super(LatencyEvent.NAME);
+
+        this.attributes.add(new Attribute(LatencyEvent.ATTRIBUTE_SOURCE, source));
+        this.attributes.add(new Attribute(LatencyEvent.ATTRIBUTE_COUNT, String.valueOf(count)));
+    }
+
+    /**
+     * Adds the median and the 90th percentile, in milliseconds, of the given phase of the requests.
+     */
+    @NonNull
+    public LatencyEvent setLatency(@NonNull final String phase, final long p50, final long p90) {
+        this.attributes.add(new Attribute(phase + " p50", String.valueOf(p50)));
+        this.attributes.add(new Attribute(phase + " p90", String.valueOf(p90)));
+        return this;
+    }
+}
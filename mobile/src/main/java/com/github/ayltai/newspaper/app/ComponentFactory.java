@@ -23,12 +23,18 @@ import com.github.ayltai.newspaper.media.ImageComponent;
 import com.github.ayltai.newspaper.media.ImageModule;
 import com.github.ayltai.newspaper.net.DaggerHttpComponent;
 import com.github.ayltai.newspaper.net.HttpComponent;
+import com.github.ayltai.newspaper.net.HttpModule;
 
 import io.reactivex.disposables.Disposable;
 
 public final class ComponentFactory implements Disposable, LifecycleObserver {
     private static ComponentFactory instance;
 
+    /**
+     * The network stack is application-scoped, so that images, videos and news share its connection pool and threads, and it survives {@link #dispose()}.
+     */
+    private static HttpComponent httpComponent;
+
     private ConfigComponent    configComponent;
     private ImageComponent     imageComponent;
     private AnalyticsComponent analyticsComponent;
@@ -68,8 +74,14 @@ public final class ComponentFactory implements Disposable, LifecycleObserver {
         return this.configComponent;
     }
 
-    public HttpComponent getHttpComponent() {
-        return DaggerHttpComponent.builder().build();
+    public HttpComponent getHttpComponent(@NonNull final Context context) {
+        synchronized (ComponentFactory.class) {
+            if (ComponentFactory.httpComponent == null) ComponentFactory.httpComponent = DaggerHttpComponent.builder()
+                .httpModule(new HttpModule(context.getApplicationContext()))
+                .build();
+
+            return ComponentFactory.httpComponent;
+        }
     }
 
     public DataComponent getDataComponent(@NonNull final Context context) {
@@ -10,6 +10,7 @@ import android.support.annotation.CallSuper;
 import android.support.annotation.Nullable;
 import android.support.v7.app.AppCompatActivity;
 import android.support.v7.app.AppCompatDelegate;
+import android.util.Log;
 import android.view.MenuItem;
 import android.view.Window;
 import android.view.WindowManager;
@@ -19,9 +20,13 @@ import com.github.ayltai.newspaper.R;
 import com.github.ayltai.newspaper.analytics.AppOpenEvent;
 import com.github.ayltai.newspaper.analytics.Attribute;
 import com.github.ayltai.newspaper.app.config.UserConfig;
+import com.github.ayltai.newspaper.app.data.Housekeeper;
 import com.github.ayltai.newspaper.data.DataManager;
 import com.github.ayltai.newspaper.media.FaceCenterFinder;
+import com.github.ayltai.newspaper.net.DataUsage;
+import com.github.ayltai.newspaper.net.NetworkUtils;
 import com.github.ayltai.newspaper.util.ContextUtils;
+import com.github.ayltai.newspaper.util.DevUtils;
 import com.github.ayltai.newspaper.util.Irrelevant;
 import com.github.ayltai.newspaper.util.RxUtils;
 import com.github.ayltai.newspaper.view.RxFlow;
@@ -69,6 +74,8 @@ public final class MainActivity extends AppCompatActivity {
             .compose(RxUtils.applySingleSchedulers(DataManager.SCHEDULER))
             .subscribe(realm -> this.realm = realm);
 
+        Housekeeper.requestHousekeeping(this);
+
         this.initImageModule();
 
         ComponentFactory.getInstance()
@@ -88,6 +95,8 @@ public final class MainActivity extends AppCompatActivity {
         this.flow = null;
 
         if (this.isFinishing()) {
+            this.exportDataUsage();
+
             if (this.realm != null) Single.<Irrelevant>create(
                 emitter -> {
                     this.realm.close();
@@ -126,6 +135,21 @@ public final class MainActivity extends AppCompatActivity {
         if (!this.flow.onBackPressed()) super.onBackPressed();
     }
 
+    /**
+     * Reports the bytes received in this session, so that the savings of data saving can be verified.
+     */
+    private void exportDataUsage() {
+        final DataUsage dataUsage = ComponentFactory.getInstance()
+            .getHttpComponent(this)
+            .dataUsage();
+
+        if (DevUtils.isLoggable()) Log.d(this.getClass().getSimpleName(), dataUsage.toString());
+
+        dataUsage.export(ComponentFactory.getInstance()
+            .getAnalyticsComponent(this)
+            .eventLogger(), NetworkUtils.isDataSaving(this));
+    }
+
     private void initImageModule() {
         final ImageLoader imageLoader = ComponentFactory.getInstance().getImageComponent(this).imageLoader();
         if (imageLoader instanceof LifecycleObserver) this.getLifecycle().addObserver((LifecycleObserver)imageLoader);
@@ -22,9 +22,9 @@ import com.facebook.imagepipeline.listener.RequestLoggingListener;
 import com.github.ayltai.newspaper.BuildConfig;
 import com.github.ayltai.newspaper.Constants;
 import com.github.ayltai.newspaper.R;
+import com.github.ayltai.newspaper.app.data.Synchronizer;
 import com.github.ayltai.newspaper.media.DaggerImageComponent;
 import com.github.ayltai.newspaper.media.ImageModule;
-import com.github.ayltai.newspaper.net.DaggerHttpComponent;
 import com.github.ayltai.newspaper.util.DevUtils;
 import com.github.ayltai.newspaper.util.ThreadPolicyFactory;
 import com.github.ayltai.newspaper.util.VmPolicyFactory;
@@ -51,6 +51,8 @@ public final class MainApplication extends BaseApplication {
         this.initFresco();
         this.initBigImageViewer();
         this.initCalligraphy();
+
+        Synchronizer.schedule(this);
     }
 
     private void applyDevMode() {
@@ -87,9 +89,9 @@ public final class MainApplication extends BaseApplication {
         ImagePipelineConfig.getDefaultImageRequestConfig()
             .setProgressiveRenderingEnabled(true);
 
-        if (!DevUtils.isRunningUnitTest()) Fresco.initialize(this, OkHttpImagePipelineConfigFactory.newBuilder(this, DaggerHttpComponent.builder()
-            .build()
-            .httpClient())
+        if (!DevUtils.isRunningUnitTest()) Fresco.initialize(this, OkHttpImagePipelineConfigFactory.newBuilder(this, ComponentFactory.getInstance()
+            .getHttpComponent(this)
+            .mediaHttpClient())
             .setDownsampleEnabled(true)
             .setResizeAndRotateEnabledForNetwork(true)
             .setExecutorSupplier(new DefaultExecutorSupplier(Runtime.getRuntime().availableProcessors()))
@@ -19,6 +19,7 @@ import android.view.WindowManager;
 import com.google.android.exoplayer2.ExoPlayerFactory;
 import com.google.android.exoplayer2.Player;
 import com.google.android.exoplayer2.SimpleExoPlayer;
+import com.google.android.exoplayer2.ext.okhttp.OkHttpDataSourceFactory;
 import com.google.android.exoplayer2.extractor.DefaultExtractorsFactory;
 import com.google.android.exoplayer2.source.ExtractorMediaSource;
 import com.google.android.exoplayer2.trackselection.AdaptiveTrackSelection;
@@ -88,7 +89,7 @@ public final class VideoActivity extends AppCompatActivity {
             this.finish();
         });
 
-        this.videoPlayer.prepare(new ExtractorMediaSource(Uri.parse(videoUrl), new DefaultDataSourceFactory(this, Util.getUserAgent(this, BuildConfig.APPLICATION_ID + "/" + BuildConfig.VERSION_NAME), null), new DefaultExtractorsFactory(), null, null));
+        this.videoPlayer.prepare(new ExtractorMediaSource(Uri.parse(videoUrl), new DefaultDataSourceFactory(this, null, new OkHttpDataSourceFactory(ComponentFactory.getInstance().getHttpComponent(this).mediaHttpClient(), Util.getUserAgent(this, BuildConfig.APPLICATION_ID + "/" + BuildConfig.VERSION_NAME), null)), new DefaultExtractorsFactory(), null, null));
         this.videoPlayer.seekTo(seekPosition);
 
         this.findViewById(R.id.exo_playback_control_view).setVisibility(View.VISIBLE);
@@ -9,6 +9,7 @@ import javax.inject.Singleton;
 import android.content.Context;
 import android.preference.PreferenceManager;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.text.TextUtils;
 
 import com.google.gson.Gson;
@@ -22,19 +23,28 @@ import com.github.ayltai.newspaper.util.Sets;
 public final class UserConfig {
     //region Constants
 
-    private static final String KEY_SOURCES    = "sources";
-    private static final String KEY_CATEGORIES = "categories";
-    private static final String KEY_VIEW_STYLE = "viewStyle";
-    private static final String KEY_THEME      = "theme";
-    private static final String KEY_AUTO_PLAY  = "autoPlay";
-    private static final String KEY_PANORAMA   = "panorama";
+    private static final String KEY_SOURCES     = "sources";
+    private static final String KEY_CATEGORIES  = "categories";
+    private static final String KEY_VIEW_STYLE  = "viewStyle";
+    private static final String KEY_THEME       = "theme";
+    private static final String KEY_AUTO_PLAY   = "autoPlay";
+    private static final String KEY_PANORAMA    = "panorama";
+    private static final String KEY_DATA_SAVING = "dataSaving";
 
     //endregion
 
     private final Context      context;
     private final RemoteConfig remoteConfig;
 
-    UserConfig(@NonNull final Context context, @NonNull final RemoteConfig remoteConfig) {
+    /**
+     * Returns a {@link UserConfig} that reads the preferences only, for use without an {@link android.app.Activity}, such as in background jobs. The settings that fall back to {@link RemoteConfig} fall back to their defaults instead.
+     */
+    @NonNull
+    public static UserConfig create(@NonNull final Context context) {
+        return new UserConfig(context, null);
+    }
+
+    UserConfig(@NonNull final Context context, @Nullable final RemoteConfig remoteConfig) {
         this.context      = context.getApplicationContext();
         this.remoteConfig = remoteConfig;
     }
@@ -74,7 +84,7 @@ public final class UserConfig {
     @SuppressWarnings("WrongConstant")
     @Constants.ViewStyle
     public int getViewStyle() {
-        return PreferenceManager.getDefaultSharedPreferences(this.context).getInt(UserConfig.KEY_VIEW_STYLE, this.remoteConfig.getViewStyle());
+        return PreferenceManager.getDefaultSharedPreferences(this.context).getInt(UserConfig.KEY_VIEW_STYLE, this.remoteConfig == null ? Constants.VIEW_STYLE_DEFAULT : this.remoteConfig.getViewStyle());
     }
 
     public void setViewStyle(@Constants.ViewStyle final int viewStyle) {
@@ -84,7 +94,7 @@ public final class UserConfig {
     @SuppressWarnings("WrongConstant")
     @Constants.Theme
     public int getTheme() {
-        return PreferenceManager.getDefaultSharedPreferences(this.context).getInt(UserConfig.KEY_THEME, this.remoteConfig.getTheme());
+        return PreferenceManager.getDefaultSharedPreferences(this.context).getInt(UserConfig.KEY_THEME, this.remoteConfig == null ? Constants.THEME_DEFAULT : this.remoteConfig.getTheme());
     }
 
     public void setTheme(@Constants.Theme final int theme) {
@@ -99,6 +109,16 @@ public final class UserConfig {
         PreferenceManager.getDefaultSharedPreferences(this.context).edit().putBoolean(UserConfig.KEY_AUTO_PLAY, enabled).apply();
     }
 
+    @SuppressWarnings("WrongConstant")
+    @Constants.DataSaving
+    public int getDataSaving() {
+        return PreferenceManager.getDefaultSharedPreferences(this.context).getInt(UserConfig.KEY_DATA_SAVING, Constants.DATA_SAVING_DEFAULT);
+    }
+
+    public void setDataSaving(@Constants.DataSaving final int dataSaving) {
+        PreferenceManager.getDefaultSharedPreferences(this.context).edit().putInt(UserConfig.KEY_DATA_SAVING, dataSaving).apply();
+    }
+
     public void setPanoramaEnabled(final boolean enabled) {
         PreferenceManager.getDefaultSharedPreferences(this.context).edit().putBoolean(UserConfig.KEY_PANORAMA, enabled).apply();
     }
@@ -0,0 +1,109 @@
+package com.github.ayltai.newspaper.app.data;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import android.content.Context;
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+import android.util.Log;
+
+import com.akaita.java.rxjava2debug.RxJava2Debug;
+import com.github.ayltai.newspaper.app.ComponentFactory;
+import com.github.ayltai.newspaper.data.DataManager;
+import com.github.ayltai.newspaper.net.NetworkMetrics;
+import com.github.ayltai.newspaper.util.AppSchedulers;
+import com.github.ayltai.newspaper.util.DevUtils;
+import com.github.ayltai.newspaper.util.MonitoredExecutor;
+
+import io.reactivex.Single;
+
+/**
+ * Deletes obsolete and invalid items in the background, so that reading items never needs a write transaction, and indexes the items stored before the search index existed.
+ */
+public final class Housekeeper {
+    //region Constants
+
+    /**
+     * The minimum time, in milliseconds, between two housekeeping runs.
+     */
+    private static final long INTERVAL = 60 * 60 * 1000;
+
+    //endregion
+
+    private static final AtomicLong LAST_RUN_TIME = new AtomicLong();
+
+    private Housekeeper() {
+    }
+
+    /**
+     * Runs housekeeping in the background, unless it has already run within the last {@link #INTERVAL}. This is meant to be called on launch and after new items are stored.
+     */
+    public static void requestHousekeeping(@NonNull final Context context) {
+        if (DevUtils.isRunningUnitTest()) return;
+
+        final long now         = System.currentTimeMillis();
+        final long lastRunTime = Housekeeper.LAST_RUN_TIME.get();
+
+        if (now - lastRunTime < Housekeeper.INTERVAL || !Housekeeper.LAST_RUN_TIME.compareAndSet(lastRunTime, now)) return;
+
+        Housekeeper.housekeep(context).subscribe(
+            count -> {
+            },
+            error -> {
+                if (DevUtils.isLoggable()) Log.e(Housekeeper.class.getSimpleName(), error.getMessage(), RxJava2Debug.getEnhancedStackTrace(error));
+            });
+    }
+
+    /**
+     * Runs housekeeping now.
+     * @return The number of items deleted.
+     */
+    @NonNull
+    public static Single<Integer> housekeep(@NonNull final Context context) {
+        return ItemManager.using(context, DataManager.SCHEDULER, manager -> {
+                final long startTime = SystemClock.elapsedRealtime();
+
+                // Timed on its own, as indexing runs in separate tasks afterwards
+                return manager.housekeep()
+                    .doOnSuccess(count -> {
+                        if (DevUtils.isLoggable()) Log.d(Housekeeper.class.getSimpleName(), "Deleted " + count + " items in " + (SystemClock.elapsedRealtime() - startTime) + " ms");
+                    });
+            })
+            .flatMap(count -> Housekeeper.indexItems(context)
+                .map(indexedCount -> {
+                    if (DevUtils.isLoggable() && indexedCount > 0) Log.d(Housekeeper.class.getSimpleName(), "Indexed " + indexedCount + " items");
+
+                    return count;
+                }))
+            .doOnSuccess(count -> {
+                final NetworkMetrics metrics = ComponentFactory.getInstance()
+                    .getHttpComponent(context)
+                    .networkMetrics();
+
+                if (DevUtils.isLoggable()) {
+                    // Reports the queue wait of the database reader and writer threads since launch
+                    for (final MonitoredExecutor executor : AppSchedulers.getExecutors()) Log.d(Housekeeper.class.getSimpleName(), executor.toString());
+
+                    // Reports the refresh latencies since launch
+                    Log.d(Housekeeper.class.getSimpleName(), metrics.getReport());
+                } else {
+                    // Reports the refresh latencies since the last housekeeping run
+                    metrics.export(ComponentFactory.getInstance()
+                        .getAnalyticsComponent(context)
+                        .eventLogger());
+                }
+            });
+    }
+
+    /**
+     * Indexes the items stored before the search index existed, one batch per task on the writer thread, so that other writes run between batches.
+     * @return The number of items indexed.
+     */
+    @NonNull
+    private static Single<Integer> indexItems(@NonNull final Context context) {
+        return ItemManager.using(context, DataManager.SCHEDULER, ItemManager::indexItems)
+            .repeat()
+            .takeUntil(count -> count < ItemManager.BATCH_SIZE)
+            .reduce(0, (total, count) -> total + count);
+    }
+}
@@ -3,10 +3,11 @@ package com.github.ayltai.newspaper.app.data;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
 
 import android.content.Context;
 import android.os.Bundle;
+import android.os.SystemClock;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.v4.app.LoaderManager;
@@ -15,25 +16,28 @@ import android.support.v7.app.AppCompatActivity;
 import android.util.Log;
 
 import com.akaita.java.rxjava2debug.RxJava2Debug;
-import com.github.ayltai.newspaper.Constants;
+import com.github.ayltai.newspaper.app.ComponentFactory;
 import com.github.ayltai.newspaper.app.data.model.Category;
 import com.github.ayltai.newspaper.app.data.model.Item;
 import com.github.ayltai.newspaper.app.data.model.NewsItem;
+import com.github.ayltai.newspaper.app.data.model.RefreshState;
 import com.github.ayltai.newspaper.app.data.model.SourceFactory;
 import com.github.ayltai.newspaper.client.Client;
 import com.github.ayltai.newspaper.client.ClientFactory;
 import com.github.ayltai.newspaper.data.RealmLoader;
+import com.github.ayltai.newspaper.net.HttpComponent;
+import com.github.ayltai.newspaper.net.NetworkMetrics;
 import com.github.ayltai.newspaper.net.NetworkUtils;
 import com.github.ayltai.newspaper.util.DevUtils;
+import com.github.ayltai.newspaper.util.Irrelevant;
 import com.github.ayltai.newspaper.util.Lists;
 import com.github.ayltai.newspaper.util.RxUtils;
 import com.github.ayltai.newspaper.util.StringUtils;
 
 import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
 import io.reactivex.Single;
-import io.reactivex.schedulers.Schedulers;
-import io.realm.RealmObject;
 
 public final class ItemListLoader extends RealmLoader<Item> {
     //region Constants
@@ -99,7 +103,12 @@ public final class ItemListLoader extends RealmLoader<Item> {
 
                     @Override
                     public void onLoadFinished(@NonNull final Loader<List<Item>> loader, final List<Item> items) {
-                        emitter.onNext(Lists.transform(items, item -> (NewsItem)item));
+                        // The final result is delivered again after the last source, to signal the completion
+                        if (((ItemListLoader)loader).isComplete()) {
+                            emitter.onComplete();
+                        } else {
+                            emitter.onNext(Lists.transform(items, item -> (NewsItem)item));
+                        }
                     }
 
                     @Override
@@ -109,10 +118,18 @@ public final class ItemListLoader extends RealmLoader<Item> {
         }
     }
 
+    /**
+     * The publish date of the oldest local item emitted, if more local items are available, so that remote items older than it are left to later pages.
+     */
+    private volatile long windowStart;
+
     private ItemListLoader(@NonNull final Context context, @Nullable final Bundle args) {
         super(context, args);
     }
 
+    /**
+     * Loads the first {@link ItemManager#PAGE_SIZE} local items. Older items are loaded with {@link ItemManager#getItemPage(String[], String[], long, String[])} as the list scrolls.
+     */
     @NonNull
     @Override
     protected Flowable<List<Item>> loadFromLocalSource(@NonNull final Context context, @Nullable final Bundle args) {
@@ -120,12 +137,12 @@ public final class ItemListLoader extends RealmLoader<Item> {
 
         return Flowable.create(emitter -> {
             if (this.isValid()) {
-                ItemManager.create(this.getRealm())
-                    .getItems(ItemListLoader.getSources(args).toArray(StringUtils.EMPTY_ARRAY), ItemListLoader.getCategories(args).toArray(StringUtils.EMPTY_ARRAY))
-                    .compose(RxUtils.applySingleSchedulers(this.getScheduler()))
-                    .map(items -> items.isEmpty() ? items : RealmObject.isManaged(items.get(0)) ? this.getRealm().copyFromRealm(items) : items)
+                final Scheduler scheduler = this.getReadScheduler();
+
+                // Reads on a reader thread, so that opening a page does not wait for other pages to store their items
+                ItemManager.using(context, scheduler, manager -> manager.getItemPage(ItemListLoader.getSources(args).toArray(StringUtils.EMPTY_ARRAY), ItemListLoader.getCategories(args).toArray(StringUtils.EMPTY_ARRAY), Long.MAX_VALUE, StringUtils.EMPTY_ARRAY))
                     .map(items -> {
-                        Collections.sort(items);
+                        this.windowStart = items.size() < ItemManager.PAGE_SIZE ? 0 : items.get(items.size() - 1).getPublishDate().getTime();
 
                         return Lists.transform(items, item -> (Item)item);
                     })
@@ -136,76 +153,112 @@ public final class ItemListLoader extends RealmLoader<Item> {
         }, BackpressureStrategy.LATEST);
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Streams items from the remote sources. Items of each source are persisted and emitted as soon as all categories of that source are fetched, and the returned {@link Flowable} completes after the last source.
+     * <p>Categories refreshed recently are skipped unless a refresh is forced, as decided by {@link RefreshPolicy}.</p>
+     */
     @NonNull
     @Override
     protected Flowable<List<Item>> loadFromRemoteSource(@NonNull final Context context, @Nullable final Bundle args) {
-        if (NetworkUtils.isOnline(context)) {
-            final List<Single<List<NewsItem>>> singles = this.createSingles(context, args);
-            if (singles.isEmpty()) Flowable.just(new ArrayList<>());
-
-            return Flowable.create(emitter -> Single.zip(
-                singles,
-                lists -> {
-                    final List<NewsItem> combinedList = new ArrayList<>();
-                    for (final Object list : lists) combinedList.addAll((List<NewsItem>)list);
-
-                    return combinedList;
-                })
-                .map(items -> {
-                    if (this.isValid()) {
-                        final List<NewsItem> newsItems = ItemManager.create(this.getRealm())
-                            .putItems(items)
-                            .compose(RxUtils.applySingleSchedulers(this.getScheduler()))
-                            .blockingGet();
-
-                        Collections.sort(newsItems);
-
-                        return newsItems;
-                    } else {
-                        Collections.sort(items);
-
-                        return items;
-                    }
-                })
-                .subscribe(
-                    items -> emitter.onNext(Lists.transform(items, item -> (Item)item)),
-                    error -> {
-                        if (DevUtils.isLoggable()) Log.e(this.getClass().getSimpleName(), error.getMessage(), RxJava2Debug.getEnhancedStackTrace(error));
-                    }
-                ), BackpressureStrategy.LATEST);
-        }
+        if (NetworkUtils.isOnline(context)) return ItemManager.using(context, this.getReadScheduler(), manager -> manager.getRefreshStates(ItemListLoader.getSources(args).toArray(StringUtils.EMPTY_ARRAY)))
+            .onErrorResumeNext(error -> {
+                if (DevUtils.isLoggable()) Log.e(this.getClass().getSimpleName(), error.getMessage(), RxJava2Debug.getEnhancedStackTrace(error));
+
+                return Single.just(Collections.<String, RefreshState>emptyMap());
+            })
+            .flatMapPublisher(states -> this.loadFromRemoteSource(context, args, states));
 
         return Flowable.just(new ArrayList<>());
     }
 
-    private List<Single<List<NewsItem>>> createSingles(@NonNull final Context context, @Nullable final Bundle args) {
-        final List<Single<List<NewsItem>>> singles      = new ArrayList<>();
-        final List<String>                 categories   = ItemListLoader.getCategories(args);
-        final boolean                      forceRefresh = RealmLoader.isForceRefresh(args);
+    @NonNull
+    private Flowable<List<Item>> loadFromRemoteSource(@NonNull final Context context, @Nullable final Bundle args, @NonNull final Map<String, RefreshState> states) {
+        final List<Single<List<NewsItem>>> singles = this.createSingles(context, args, states);
+        if (singles.isEmpty()) return Flowable.just(new ArrayList<>());
+
+        return Single.merge(singles)
+            .map(items -> {
+                if (this.windowStart == 0) return Lists.transform(items, item -> (Item)item);
+
+                final List<Item> newItems = new ArrayList<>(items.size());
+
+                for (final NewsItem item : items) {
+                    if (item.getPublishDate() != null && item.getPublishDate().getTime() >= this.windowStart) newItems.add(item);
+                }
+
+                return newItems;
+            })
+            .doOnComplete(() -> Housekeeper.requestHousekeeping(context));
+    }
+
+    private List<Single<List<NewsItem>>> createSingles(@NonNull final Context context, @Nullable final Bundle args, @NonNull final Map<String, RefreshState> states) {
+        final List<Single<List<NewsItem>>> singles       = new ArrayList<>();
+        final List<String>                 categories    = ItemListLoader.getCategories(args);
+        final boolean                      forceRefresh  = RealmLoader.isForceRefresh(args);
+        final long                         now           = System.currentTimeMillis();
+        final HttpComponent                httpComponent = ComponentFactory.getInstance().getHttpComponent(context);
+        final NetworkMetrics               metrics       = httpComponent.networkMetrics();
 
         for (final String source : ItemListLoader.getSources(args)) {
+            final Client client = ClientFactory.getInstance(context).getClient(source);
+            if (client == null) continue;
+
+            final List<Single<List<NewsItem>>> sourceSingles = new ArrayList<>();
+            final List<RefreshState>           newStates     = Collections.synchronizedList(new ArrayList<>());
+
             for (final Category category : SourceFactory.getInstance(context).getSource(source).getCategories()) {
-                if (ItemListLoader.containsCategory(categories, category)) {
-                    final Client client = ClientFactory.getInstance(context).getClient(source);
-
-                    if (client != null) singles.add(client.getItems(category.getUrl())
-                        // TODO: If the previous refresh timestamp is very old, wait for a longer time to refresh
-                        .timeout(forceRefresh ? Constants.REFRESH_TIMEOUT : Constants.CONNECTION_TIMEOUT, TimeUnit.SECONDS)
-                        .onErrorResumeNext(error -> {
-                            if (DevUtils.isLoggable()) Log.w(this.getClass().getSimpleName(), error.getMessage(), RxJava2Debug.getEnhancedStackTrace(error));
-
-                            return Single.just(new ArrayList<>());
-                        })
-                        .subscribeOn(Schedulers.newThread())
-                        .observeOn(Schedulers.io()));
-                }
+                if (!ItemListLoader.containsCategory(categories, category)) continue;
+
+                final RefreshState state = states.get(RefreshState.toKey(source, category.getName()));
+
+                if (forceRefresh || !RefreshPolicy.isFresh(state, now)) sourceSingles.add(Synchronizer.fetch(client, source, category, state, forceRefresh, now, metrics, httpComponent.resilienceInterceptor(), newStates));
             }
+
+            if (!sourceSingles.isEmpty()) singles.add(Single.merge(sourceSingles)
+                .<List<NewsItem>>collect(ArrayList::new, List::addAll)
+                .flatMap(items -> this.putItems(items, source, metrics))
+                .flatMap(items -> this.putRefreshStates(new ArrayList<>(newStates)).map(irrelevant -> items))
+                .onErrorResumeNext(error -> {
+                    if (DevUtils.isLoggable()) Log.e(this.getClass().getSimpleName(), error.getMessage(), RxJava2Debug.getEnhancedStackTrace(error));
+
+                    return Single.just(new ArrayList<>());
+                }));
         }
 
         return singles;
     }
 
+    @NonNull
+    private Single<List<NewsItem>> putItems(@NonNull final List<NewsItem> items, @NonNull final String source, @NonNull final NetworkMetrics metrics) {
+        if (this.isValid()) return Single.defer(() -> {
+                // Timed on the writer thread, so that waiting for other sources to be stored is not counted
+                final long startTime = SystemClock.elapsedRealtime();
+
+                return ItemManager.create(this.getRealm())
+                    .putItems(items, true)
+                    .doOnSuccess(newsItems -> metrics.record(source, NetworkMetrics.PHASE_STORE, SystemClock.elapsedRealtime() - startTime));
+            })
+            .compose(RxUtils.applySingleSchedulers(this.getScheduler()))
+            .map(newsItems -> {
+                Collections.sort(newsItems);
+
+                return newsItems;
+            });
+
+        Collections.sort(items);
+
+        return Single.just(items);
+    }
+
+    @NonNull
+    private Single<Irrelevant> putRefreshStates(@NonNull final List<RefreshState> states) {
+        if (this.isValid()) return ItemManager.create(this.getRealm())
+            .putRefreshStates(states)
+            .compose(RxUtils.applySingleSchedulers(this.getScheduler()));
+
+        return Single.just(Irrelevant.INSTANCE);
+    }
+
     @NonNull
     private static List<String> getSources(@Nullable final Bundle args) {
         final List<String> sources = args == null ? Collections.emptyList() : args.getStringArrayList(ItemListLoader.KEY_SOURCES);
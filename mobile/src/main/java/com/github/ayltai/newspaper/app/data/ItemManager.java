@@ -1,8 +1,16 @@
 package com.github.ayltai.newspaper.app.data;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.regex.Pattern;
 
 import android.content.Context;
 import android.support.annotation.NonNull;
@@ -11,15 +19,17 @@ import android.text.TextUtils;
 
 import com.github.ayltai.newspaper.Constants;
 import com.github.ayltai.newspaper.app.data.model.NewsItem;
-import com.github.ayltai.newspaper.data.DaggerDataComponent;
+import com.github.ayltai.newspaper.app.data.model.RefreshState;
 import com.github.ayltai.newspaper.data.DataManager;
-import com.github.ayltai.newspaper.data.DataModule;
+import com.github.ayltai.newspaper.data.RealmManager;
 import com.github.ayltai.newspaper.util.Irrelevant;
 import com.github.ayltai.newspaper.util.RxUtils;
+import com.github.ayltai.newspaper.util.StringUtils;
 
+import io.reactivex.Maybe;
+import io.reactivex.Scheduler;
 import io.reactivex.Single;
-import io.reactivex.SingleEmitter;
-import io.realm.Case;
+import io.reactivex.functions.Function;
 import io.realm.Realm;
 import io.realm.RealmObject;
 import io.realm.RealmQuery;
@@ -27,14 +37,31 @@ import io.realm.RealmResults;
 import io.realm.Sort;
 
 public final class ItemManager extends DataManager {
+    //region Constants
+
+    public static final int PAGE_SIZE = 50;
+
+    // The maximum number of links in one in query, and of items indexed in one task
+    static final int BATCH_SIZE = 500;
+
+    private static final int SUMMARY_LENGTH = 200;
+
+    private static final int MAX_ENTITY_LENGTH = 10;
+
+    private static final String  ELLIPSIS = "\u2026";
+    private static final Pattern TAGS     = Pattern.compile("<[^>]*>");
+    private static final Pattern SPACES   = Pattern.compile("\\s+");
+
+    //endregion
+
     @NonNull
-    public static Single<ItemManager> create(@NonNull final Context context) {
-        return Single.<Realm>create(emitter -> emitter.onSuccess(DaggerDataComponent.builder()
-            .dataModule(new DataModule(context))
-            .build()
-            .realm()))
-            .compose(RxUtils.applySingleSchedulers(DataManager.SCHEDULER))
-            .map(ItemManager::create);
+    public static <T> Single<T> using(@NonNull final Context context, @NonNull final Scheduler scheduler, @NonNull final Function<ItemManager, Single<T>> operation) {
+        return Single.using(
+            () -> ItemManager.create(RealmManager.acquire(context)),
+            operation,
+            // The instance is released on the thread that acquired it, even if the operation is disposed from another thread
+            manager -> scheduler.scheduleDirect(() -> RealmManager.release(manager.getRealm())))
+            .compose(RxUtils.applySingleSchedulers(scheduler));
     }
 
     @NonNull
@@ -53,25 +80,60 @@ public final class ItemManager extends DataManager {
 
     @NonNull
     public Single<List<NewsItem>> getItems(@Nullable final CharSequence searchText, @NonNull final String[] sources, @NonNull final String[] categories) {
+        return this.searchItems(searchText, sources, categories).map(SearchResults::getItems);
+    }
+
+    @NonNull
+    public Single<SearchResults> searchItems(@Nullable final CharSequence searchText, @NonNull final String[] sources, @NonNull final String[] categories) {
         return Single.create(emitter -> {
-            if (!this.getRealm().isInTransaction()) this.getRealm().beginTransaction();
+            final long          now     = System.currentTimeMillis();
+            final SearchResults results = this.search(() -> this.whereItems(sources, categories, now), searchText, sources, categories);
 
-            this.clearObsoleteItems();
-            this.clearInvalidItems();
+            if (!emitter.isDisposed()) emitter.onSuccess(results);
+        });
+    }
+
+    // The next page starts at the publish date of the last item, excluding the items of that date already returned
+    @NonNull
+    public Single<List<NewsItem>> getItemPage(@NonNull final String[] sources, @NonNull final String[] categories, final long before, @NonNull final String[] excludedLinks) {
+        return Single.create(emitter -> {
+            final long                 now   = System.currentTimeMillis();
+            final RealmQuery<NewsItem> query = this.whereItems(sources, categories, now)
+                .and()
+                .lessThanOrEqualTo(NewsItem.FIELD_PUBLISH_DATE, Math.min(now, before));
 
-            this.getRealm().commitTransaction();
+            if (excludedLinks.length > 0) query.and()
+                .not()
+                .in(NewsItem.FIELD_LINK, excludedLinks);
 
-            final RealmQuery<NewsItem> query = this.getRealm()
+            final RealmResults<NewsItem> results = query.sort(NewsItem.FIELD_PUBLISH_DATE, Sort.DESCENDING).findAll();
+            final List<NewsItem>         items   = new ArrayList<>(Math.min(results.size(), ItemManager.PAGE_SIZE));
+
+            for (final NewsItem item : results) {
+                if (items.size() == ItemManager.PAGE_SIZE) break;
+
+                items.add(this.summarize(item));
+            }
+
+            if (!emitter.isDisposed()) emitter.onSuccess(items);
+        });
+    }
+
+    @NonNull
+    public Maybe<NewsItem> getItem(@NonNull final String link) {
+        return Maybe.create(emitter -> {
+            final NewsItem item = this.getRealm()
                 .where(NewsItem.class)
-                .in(NewsItem.FIELD_SOURCE, sources)
-                .and()
-                .in(NewsItem.FIELD_CATEGORY, categories)
-                .and()
-                .greaterThan(NewsItem.FIELD_PUBLISH_DATE, 0)
-                .and()
-                .lessThanOrEqualTo(NewsItem.FIELD_PUBLISH_DATE, System.currentTimeMillis());
+                .equalTo(NewsItem.FIELD_LINK, link)
+                .findFirst();
+
+            if (emitter.isDisposed()) return;
 
-            this.emit(emitter, query, searchText, sources, categories);
+            if (item == null) {
+                emitter.onComplete();
+            } else {
+                emitter.onSuccess(this.getRealm().copyFromRealm(item));
+            }
         });
     }
 
@@ -82,16 +144,22 @@ public final class ItemManager extends DataManager {
 
     @NonNull
     public Single<List<NewsItem>> getHistoricalItems(@Nullable final CharSequence searchText, @NonNull final String[] sources, @NonNull final String[] categories) {
+        return this.searchHistoricalItems(searchText, sources, categories).map(SearchResults::getItems);
+    }
+
+    @NonNull
+    public Single<SearchResults> searchHistoricalItems(@Nullable final CharSequence searchText, @NonNull final String[] sources, @NonNull final String[] categories) {
         return Single.create(emitter -> {
-            final RealmQuery<NewsItem> query = this.getRealm()
+            final long          now     = System.currentTimeMillis();
+            final SearchResults results = this.search(() -> this.getRealm()
                 .where(NewsItem.class)
                 .greaterThan(NewsItem.FIELD_LAST_ACCESSED_DATE, 0)
                 .and()
                 .greaterThan(NewsItem.FIELD_PUBLISH_DATE, 0)
                 .and()
-                .lessThanOrEqualTo(NewsItem.FIELD_PUBLISH_DATE, System.currentTimeMillis());
+                .lessThanOrEqualTo(NewsItem.FIELD_PUBLISH_DATE, now), searchText, sources, categories);
 
-            this.emit(emitter, query, searchText, sources, categories);
+            if (!emitter.isDisposed()) emitter.onSuccess(results);
         });
     }
 
@@ -102,62 +170,70 @@ public final class ItemManager extends DataManager {
 
     @NonNull
     public Single<List<NewsItem>> getBookmarkedItems(@Nullable final CharSequence searchText, @NonNull final String[] sources, @NonNull final String[] categories) {
+        return this.searchBookmarkedItems(searchText, sources, categories).map(SearchResults::getItems);
+    }
+
+    @NonNull
+    public Single<SearchResults> searchBookmarkedItems(@Nullable final CharSequence searchText, @NonNull final String[] sources, @NonNull final String[] categories) {
         return Single.create(emitter -> {
-            final RealmQuery<NewsItem> query = this.getRealm()
+            final long          now     = System.currentTimeMillis();
+            final SearchResults results = this.search(() -> this.getRealm()
                 .where(NewsItem.class)
                 .equalTo(NewsItem.FIELD_BOOKMARKED, true)
                 .and()
                 .greaterThan(NewsItem.FIELD_PUBLISH_DATE, 0)
                 .and()
-                .lessThanOrEqualTo(NewsItem.FIELD_PUBLISH_DATE, System.currentTimeMillis());
+                .lessThanOrEqualTo(NewsItem.FIELD_PUBLISH_DATE, now), searchText, sources, categories);
 
-            this.emit(emitter, query, searchText, sources, categories);
+            if (!emitter.isDisposed()) emitter.onSuccess(results);
         });
     }
 
-    @SuppressWarnings("CyclomaticComplexity")
     @NonNull
     public Single<List<NewsItem>> putItems(@NonNull final List<NewsItem> newsItems) {
+        return this.putItems(newsItems, false);
+    }
+
+    // A stored full description is kept, and a summary never replaces the stored item it was made from
+    @NonNull
+    public Single<List<NewsItem>> putItems(@NonNull final List<NewsItem> newsItems, final boolean summarized) {
         return Single.create(emitter -> {
             if (!this.getRealm().isInTransaction()) this.getRealm().beginTransaction();
 
-            final List<NewsItem> newItems = new ArrayList<>();
+            final Map<String, NewsItem> storedItems  = this.findItems(newsItems);
+            final Map<String, NewsItem> pendingItems = new LinkedHashMap<>();
+            final List<NewsItem>        items        = new ArrayList<>(newsItems.size());
 
             for (final NewsItem newsItem : newsItems) {
-                final RealmResults<NewsItem> items = this.getRealm()
-                    .where(NewsItem.class)
-                    .equalTo(NewsItem.FIELD_LINK, newsItem.getLink())
-                    .findAll();
-
-                if (items.isEmpty()) {
-                    this.getRealm().insert(newsItem);
+                final String   link = newsItem.getLink();
+                final NewsItem item = pendingItems.containsKey(link) ? pendingItems.get(link) : storedItems.get(link);
 
-                    newItems.add(RealmObject.isManaged(newsItem) ? this.getRealm().copyFromRealm(newsItem) : newsItem);
-                } else {
-                    final NewsItem item = items.first();
-
-                    if (item.isFullDescription()) {
-                        if (newsItem.isFullDescription()) {
-                            final Date newsItemLastAccessedDate = newsItem.getLastAccessedDate();
-                            final Date itemLastAccessedDate     = item.getLastAccessedDate();
+                if (newsItem.isSummary() && item != null) {
+                    ItemManager.merge(newsItem, item);
 
-                            if (newsItemLastAccessedDate != null && itemLastAccessedDate != null && newsItemLastAccessedDate.getTime() > itemLastAccessedDate.getTime()) item.setLastAccessedDate(newsItem.getLastAccessedDate());
-                            item.setBookmarked(newsItem.isBookmarked());
+                    items.add(item);
+                } else if (item == null || !item.isFullDescription()) {
+                    // The description of a summary is fetched again if the item it was made from is gone
+                    if (newsItem.isSummary()) newsItem.setIsFullDescription(false);
 
-                            this.getRealm().insertOrUpdate(item);
-                        }
+                    pendingItems.put(link, newsItem);
 
-                        newItems.add(RealmObject.isManaged(item) ? this.getRealm().copyFromRealm(item) : item);
-                    } else {
-                        this.getRealm().insertOrUpdate(newsItem);
+                    items.add(newsItem);
+                } else {
+                    if (newsItem.isFullDescription()) ItemManager.merge(newsItem, item);
 
-                        newItems.add(RealmObject.isManaged(newsItem) ? this.getRealm().copyFromRealm(newsItem) : newsItem);
-                    }
+                    items.add(item);
                 }
             }
 
+            SearchIndex.index(this.getRealm(), pendingItems.values());
+            this.getRealm().insertOrUpdate(pendingItems.values());
+
             if (this.getRealm().isInTransaction()) this.getRealm().commitTransaction();
 
+            final List<NewsItem> newItems = new ArrayList<>(items.size());
+            for (final NewsItem item : items) newItems.add(summarized ? this.summarize(item) : RealmObject.isManaged(item) ? this.getRealm().copyFromRealm(item) : item);
+
             if (!emitter.isDisposed()) emitter.onSuccess(newItems);
         });
     }
@@ -208,8 +284,172 @@ public final class ItemManager extends DataManager {
         });
     }
 
-    private void clearObsoleteItems() {
-        this.getRealm()
+    @NonNull
+    public Single<Map<String, RefreshState>> getRefreshStates(@NonNull final String[] sources) {
+        return Single.create(emitter -> {
+            final Map<String, RefreshState> states = new HashMap<>();
+
+            for (final RefreshState state : this.getRealm()
+                .where(RefreshState.class)
+                .in(RefreshState.FIELD_SOURCE, sources)
+                .findAll()) states.put(state.getKey(), this.getRealm().copyFromRealm(state));
+
+            if (!emitter.isDisposed()) emitter.onSuccess(states);
+        });
+    }
+
+    @NonNull
+    public Single<Irrelevant> putRefreshStates(@NonNull final Collection<RefreshState> states) {
+        return Single.create(emitter -> {
+            if (!states.isEmpty()) {
+                if (!this.getRealm().isInTransaction()) this.getRealm().beginTransaction();
+
+                this.getRealm().insertOrUpdate(states);
+
+                if (this.getRealm().isInTransaction()) this.getRealm().commitTransaction();
+            }
+
+            if (!emitter.isDisposed()) emitter.onSuccess(Irrelevant.INSTANCE);
+        });
+    }
+
+    @NonNull
+    private static RealmQuery<NewsItem> whereSelected(@NonNull final RealmQuery<NewsItem> query, @NonNull final String[] sources, @NonNull final String[] categories) {
+        return query.and()
+            .in(NewsItem.FIELD_SOURCE, sources)
+            .and()
+            .in(NewsItem.FIELD_CATEGORY, categories);
+    }
+
+    // The items due for housekeeping are skipped, so that the results do not depend on when it last ran
+    @NonNull
+    private RealmQuery<NewsItem> whereItems(@NonNull final String[] sources, @NonNull final String[] categories, final long now) {
+        return this.getRealm()
+            .where(NewsItem.class)
+            .in(NewsItem.FIELD_SOURCE, sources)
+            .and()
+            .in(NewsItem.FIELD_CATEGORY, categories)
+            .and()
+            .greaterThan(NewsItem.FIELD_PUBLISH_DATE, 0)
+            .and()
+            .lessThanOrEqualTo(NewsItem.FIELD_PUBLISH_DATE, now)
+            .and()
+            .beginGroup()
+            .greaterThanOrEqualTo(NewsItem.FIELD_PUBLISH_DATE, now - Constants.HOUSEKEEP_TIME)
+            .or()
+            .beginGroup()
+            .equalTo(NewsItem.FIELD_BOOKMARKED, true)
+            .and()
+            .greaterThan(NewsItem.FIELD_LAST_ACCESSED_DATE, 0)
+            .endGroup()
+            .endGroup();
+    }
+
+    @NonNull
+    private Map<String, NewsItem> findItems(@NonNull final Collection<NewsItem> newsItems) {
+        final String[]              links = new String[newsItems.size()];
+        final Map<String, NewsItem> items = new HashMap<>(newsItems.size());
+
+        int i = 0;
+        for (final NewsItem newsItem : newsItems) links[i++] = newsItem.getLink();
+
+        for (int start = 0; start < links.length; start += ItemManager.BATCH_SIZE) {
+            final String[] batch = start == 0 && links.length <= ItemManager.BATCH_SIZE ? links : Arrays.copyOfRange(links, start, Math.min(links.length, start + ItemManager.BATCH_SIZE));
+
+            for (final NewsItem item : this.getRealm()
+                .where(NewsItem.class)
+                .in(NewsItem.FIELD_LINK, batch)
+                .findAll()) items.put(item.getLink(), item);
+        }
+
+        return items;
+    }
+
+    @NonNull
+    private NewsItem summarize(@NonNull final NewsItem item) {
+        final NewsItem summary = new NewsItem();
+        summary.setLink(item.getLink());
+        summary.setTitle(item.getTitle());
+        summary.setDescription(ItemManager.summarize(item.getDescription()));
+        summary.setIsFullDescription(item.isFullDescription());
+        summary.setPublishDate(item.getPublishDate());
+        summary.setBookmarked(item.isBookmarked());
+        summary.setLastAccessedDate(item.getLastAccessedDate());
+        summary.setIsSummary(true);
+
+        if (item.getSource() != null) summary.setSource(item.getSource());
+        if (item.getCategory() != null) summary.setCategory(item.getCategory());
+        if (item.getVideo() != null) summary.setVideo(this.detach(item.getVideo()));
+        if (!item.getImages().isEmpty()) summary.getImages().add(this.detach(item.getImages().get(0)));
+
+        return summary;
+    }
+
+    @NonNull
+    private <T extends RealmObject> T detach(@NonNull final T object) {
+        return RealmObject.isManaged(object) ? this.getRealm().copyFromRealm(object) : object;
+    }
+
+    @Nullable
+    static String summarize(@Nullable final String description) {
+        if (description == null || description.length() <= ItemManager.SUMMARY_LENGTH) return description;
+
+        final String text = ItemManager.SPACES.matcher(ItemManager.TAGS.matcher(description).replaceAll(" ")).replaceAll(" ").trim();
+        if (text.length() <= ItemManager.SUMMARY_LENGTH) return text;
+
+        int end = ItemManager.SUMMARY_LENGTH;
+
+        // Does not break a character entity or a surrogate pair
+        final int entity = text.lastIndexOf('&', end - 1);
+        if (entity >= 0 && end - entity < ItemManager.MAX_ENTITY_LENGTH && text.lastIndexOf(';', end - 1) < entity) end = entity;
+        if (end > 0 && Character.isHighSurrogate(text.charAt(end - 1))) end--;
+
+        return text.substring(0, end).trim() + ItemManager.ELLIPSIS;
+    }
+
+    private static void merge(@NonNull final NewsItem source, @NonNull final NewsItem target) {
+        final Date sourceLastAccessedDate = source.getLastAccessedDate();
+        final Date targetLastAccessedDate = target.getLastAccessedDate();
+
+        if (sourceLastAccessedDate != null && targetLastAccessedDate != null && sourceLastAccessedDate.getTime() > targetLastAccessedDate.getTime()) target.setLastAccessedDate(sourceLastAccessedDate);
+        target.setBookmarked(source.isBookmarked());
+    }
+
+    @NonNull
+    public Single<Integer> housekeep() {
+        return Single.create(emitter -> {
+            if (!this.getRealm().isInTransaction()) this.getRealm().beginTransaction();
+
+            final int count = this.clearObsoleteItems() + this.clearInvalidItems();
+
+            if (this.getRealm().isInTransaction()) this.getRealm().commitTransaction();
+
+            if (!emitter.isDisposed()) emitter.onSuccess(count);
+        });
+    }
+
+    // Returns less than BATCH_SIZE once all items are indexed
+    @NonNull
+    public Single<Integer> indexItems() {
+        return Single.create(emitter -> {
+            if (!this.getRealm().isInTransaction()) this.getRealm().beginTransaction();
+
+            final RealmResults<NewsItem> results = this.getRealm()
+                .where(NewsItem.class)
+                .equalTo(NewsItem.FIELD_INDEXED, false)
+                .findAll();
+
+            final List<NewsItem> items = new ArrayList<>(results.subList(0, Math.min(results.size(), ItemManager.BATCH_SIZE)));
+            SearchIndex.index(this.getRealm(), items);
+
+            if (this.getRealm().isInTransaction()) this.getRealm().commitTransaction();
+
+            if (!emitter.isDisposed()) emitter.onSuccess(items.size());
+        });
+    }
+
+    private int clearObsoleteItems() {
+        final RealmResults<NewsItem> items = this.getRealm()
             .where(NewsItem.class)
             .lessThan(NewsItem.FIELD_PUBLISH_DATE, System.currentTimeMillis() - Constants.HOUSEKEEP_TIME)
             .and()
@@ -218,33 +458,67 @@ public final class ItemManager extends DataManager {
             .or()
             .equalTo(NewsItem.FIELD_LAST_ACCESSED_DATE, 0)
             .endGroup()
-            .findAll()
-            .deleteAllFromRealm();
+            .findAll();
+
+        return this.delete(items);
     }
 
-    private void clearInvalidItems() {
-        this.getRealm()
+    private int clearInvalidItems() {
+        final RealmResults<NewsItem> items = this.getRealm()
             .where(NewsItem.class)
             .lessThanOrEqualTo(NewsItem.FIELD_PUBLISH_DATE, 0L)
             .or()
             .greaterThan(NewsItem.FIELD_PUBLISH_DATE, System.currentTimeMillis())
-            .findAll()
-            .deleteAllFromRealm();
+            .findAll();
+
+        return this.delete(items);
     }
 
-    private void emit(@NonNull final SingleEmitter<List<NewsItem>> emitter, @NonNull final RealmQuery<NewsItem> query, @Nullable final CharSequence searchText, @NonNull final String[] sources, @NonNull final String[] categories) {
-        query.and()
-            .in(NewsItem.FIELD_SOURCE, sources)
-            .and()
-            .in(NewsItem.FIELD_CATEGORY, categories);
+    private int delete(@NonNull final RealmResults<NewsItem> items) {
+        final List<String> links = new ArrayList<>(items.size());
+        for (final NewsItem item : items) links.add(item.getLink());
 
-        if (!TextUtils.isEmpty(searchText)) query.and()
-            .beginGroup()
-            .contains(NewsItem.FIELD_TITLE, searchText.toString(), Case.INSENSITIVE)
-            .or()
-            .contains(NewsItem.FIELD_DESCRIPTION, searchText.toString(), Case.INSENSITIVE)
-            .endGroup();
+        SearchIndex.remove(this.getRealm(), links);
+        items.deleteAllFromRealm();
+
+        return links.size();
+    }
+
+    // A RealmQuery cannot be run again with more conditions, so where creates a new one each time
+    @NonNull
+    private SearchResults search(@NonNull final Callable<RealmQuery<NewsItem>> where, @Nullable final CharSequence searchText, @NonNull final String[] sources, @NonNull final String[] categories) throws Exception {
+        if (TextUtils.isEmpty(searchText)) {
+            final List<NewsItem> items = new ArrayList<>();
+            for (final NewsItem item : ItemManager.whereSelected(where.call(), sources, categories).sort(NewsItem.FIELD_LAST_ACCESSED_DATE, Sort.DESCENDING).findAll()) items.add(this.summarize(item));
+
+            return new SearchResults(searchText, items, Collections.emptyMap());
+        }
+
+        final Map<String, Integer> scores  = SearchIndex.search(this.getRealm(), searchText);
+        final String[]             matches = scores.keySet().toArray(StringUtils.EMPTY_ARRAY);
+        final List<NewsItem>       items   = new ArrayList<>();
+
+        // Only the matched items are read, by their primary keys
+        for (int start = 0; start < matches.length; start += ItemManager.BATCH_SIZE) {
+            final String[] batch = start == 0 && matches.length <= ItemManager.BATCH_SIZE ? matches : Arrays.copyOfRange(matches, start, Math.min(matches.length, start + ItemManager.BATCH_SIZE));
+
+            items.addAll(ItemManager.whereSelected(where.call(), sources, categories)
+                .and()
+                .in(NewsItem.FIELD_LINK, batch)
+                .findAll());
+        }
+
+        Collections.sort(items, SearchResults.byRelevance(scores));
+
+        final List<NewsItem> summaries = new ArrayList<>(items.size());
+        final List<String>   links     = new ArrayList<>(items.size());
+
+        for (final NewsItem item : items) {
+            summaries.add(this.summarize(item));
+            links.add(item.getLink());
+        }
 
-        if (!emitter.isDisposed()) emitter.onSuccess(this.getRealm().copyFromRealm(query.sort(NewsItem.FIELD_LAST_ACCESSED_DATE, Sort.DESCENDING).findAll()));
+        // The stored index entries are used as they are, so that refining the results ranks them the same way as searching again
+        return new SearchResults(searchText, summaries, SearchIndex.getEntries(this.getRealm(), links));
     }
 }
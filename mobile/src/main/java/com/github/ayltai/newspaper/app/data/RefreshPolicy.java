@@ -0,0 +1,74 @@
+package com.github.ayltai.newspaper.app.data;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.github.ayltai.newspaper.Constants;
+import com.github.ayltai.newspaper.app.data.model.RefreshState;
+
+/**
+ * Decides whether the items of a category are refreshed from the remote source, and how long to wait for them, from its {@link RefreshState}.
+ * <p>Local items are always shown first. A category refreshed recently enough is not fetched again, and one not refreshed for a long time is given more time to respond.</p>
+ */
+public final class RefreshPolicy {
+    //region Constants
+
+    /**
+     * The time, in milliseconds, for which the items of a category are fresh after a refresh.
+     */
+    static final long FRESH_DURATION = 5 * 60 * 1000;
+
+    /**
+     * The time, in milliseconds, after which the items of a category are too stale to give up refreshing them quickly.
+     */
+    static final long STALE_DURATION = 6 * 60 * 60 * 1000;
+
+    /**
+     * The weight of the latest latency in {@link RefreshState#getAverageLatency()}.
+     */
+    private static final int LATENCY_WEIGHT = 4;
+
+    /**
+     * The multiple of {@link RefreshState#getAverageLatency()} waited for before a refresh times out.
+     */
+    private static final int LATENCY_TOLERANCE = 3;
+
+    private static final int MILLIS_PER_SECOND = 1000;
+
+    //endregion
+
+    private RefreshPolicy() {
+    }
+
+    /**
+     * Returns {@code true} if the items of the category with the given state need not be fetched again now.
+     */
+    public static boolean isFresh(@Nullable final RefreshState state, final long now) {
+        // A refresh that returned nothing may have failed to parse the response, so it does not count
+        return state != null && state.getItemCount() > 0 && now - state.getLastRefreshDate() < RefreshPolicy.FRESH_DURATION;
+    }
+
+    /**
+     * Returns the time, in seconds, to wait for the items of the category with the given state.
+     */
+    public static long getTimeout(@Nullable final RefreshState state, final boolean forceRefresh, final long now) {
+        if (state == null || now - state.getLastRefreshDate() >= RefreshPolicy.STALE_DURATION) return Constants.STALE_REFRESH_TIMEOUT;
+        if (forceRefresh) return Constants.REFRESH_TIMEOUT;
+
+        final long timeout = (state.getAverageLatency() * RefreshPolicy.LATENCY_TOLERANCE + RefreshPolicy.MILLIS_PER_SECOND - 1) / RefreshPolicy.MILLIS_PER_SECOND;
+
+        return Math.max(Constants.CONNECTION_TIMEOUT, Math.min(Constants.REFRESH_TIMEOUT, timeout));
+    }
+
+    /**
+     * Returns the state of a category after a successful refresh.
+     * @param previous The state before the refresh, if any.
+     * @param latency The time, in milliseconds, taken by the refresh.
+     */
+    @NonNull
+    public static RefreshState update(@Nullable final RefreshState previous, @NonNull final String source, @NonNull final String category, final int itemCount, final long latency, final long now) {
+        final long averageLatency = previous == null ? latency : (previous.getAverageLatency() * (RefreshPolicy.LATENCY_WEIGHT - 1) + latency) / RefreshPolicy.LATENCY_WEIGHT;
+
+        return new RefreshState(source, category, now, itemCount, averageLatency);
+    }
+}
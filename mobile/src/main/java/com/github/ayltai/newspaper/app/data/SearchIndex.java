@@ -0,0 +1,230 @@
+package com.github.ayltai.newspaper.app.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.github.ayltai.newspaper.app.data.model.NewsItem;
+import com.github.ayltai.newspaper.app.data.model.SearchTerm;
+import com.github.ayltai.newspaper.util.Tokenizer;
+
+import io.realm.Realm;
+import io.realm.RealmQuery;
+
+/**
+ * An inverted index of the titles and summaries of {@link NewsItem}s, stored as {@link SearchTerm}s and kept up to date by {@link ItemManager}.
+ * <p>Only the plain text summary of a description is indexed, as a full description can be many pages long, and the list screens only show the summary anyway.</p>
+ */
+public final class SearchIndex {
+    //region Constants
+
+    private static final int TITLE_WEIGHT       = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    /**
+     * The maximum number of links looked up by a single {@code in} query.
+     */
+    private static final int BATCH_SIZE = 500;
+
+    private static final int MATCH_EXACT  = 0;
+    private static final int MATCH_PREFIX = 1;
+
+    //endregion
+
+    private SearchIndex() {
+    }
+
+    /**
+     * Returns the score of each term of the given title and of the summary of the given description.
+     */
+    @NonNull
+    public static Map<String, Integer> score(@Nullable final String title, @Nullable final String description) {
+        final Map<String, Integer> scores = new HashMap<>();
+
+        SearchIndex.score(scores, Tokenizer.tokenize(title, true), SearchIndex.TITLE_WEIGHT);
+        SearchIndex.score(scores, Tokenizer.tokenize(ItemManager.summarize(description), true), SearchIndex.DESCRIPTION_WEIGHT);
+
+        return scores;
+    }
+
+    /**
+     * Replaces the index entries of the given items, and marks them as indexed. This must be called within a transaction, and before unmanaged items are inserted.
+     */
+    static void index(@NonNull final Realm realm, @NonNull final Collection<NewsItem> items) {
+        if (items.isEmpty()) return;
+
+        final List<String> links = new ArrayList<>(items.size());
+        for (final NewsItem item : items) links.add(item.getLink());
+
+        SearchIndex.remove(realm, links);
+
+        final List<SearchTerm> terms = new ArrayList<>();
+
+        for (final NewsItem item : items) {
+            for (final Map.Entry<String, Integer> entry : SearchIndex.score(item.getTitle(), item.getDescription()).entrySet()) terms.add(new SearchTerm(entry.getKey(), item.getLink(), entry.getValue()));
+
+            item.setIndexed(true);
+        }
+
+        realm.insert(terms);
+    }
+
+    /**
+     * Deletes the index entries of the items with the given links. This must be called within a transaction.
+     */
+    static void remove(@NonNull final Realm realm, @NonNull final Collection<String> links) {
+        final String[] values = links.toArray(new String[links.size()]);
+
+        for (int start = 0; start < values.length; start += SearchIndex.BATCH_SIZE) {
+            realm.where(SearchTerm.class)
+                .in(SearchTerm.FIELD_LINK, Arrays.copyOfRange(values, start, Math.min(values.length, start + SearchIndex.BATCH_SIZE)))
+                .findAll()
+                .deleteAllFromRealm();
+        }
+    }
+
+    /**
+     * Returns the stored index entries of the items with the given links.
+     * @return The score of each term of each item, keyed by link.
+     */
+    @NonNull
+    static Map<String, Map<String, Integer>> getEntries(@NonNull final Realm realm, @NonNull final Collection<String> links) {
+        final String[]                          values  = links.toArray(new String[links.size()]);
+        final Map<String, Map<String, Integer>> entries = new HashMap<>(values.length);
+
+        for (int start = 0; start < values.length; start += SearchIndex.BATCH_SIZE) {
+            for (final SearchTerm searchTerm : realm.where(SearchTerm.class)
+                .in(SearchTerm.FIELD_LINK, Arrays.copyOfRange(values, start, Math.min(values.length, start + SearchIndex.BATCH_SIZE)))
+                .findAll()) {
+                Map<String, Integer> terms = entries.get(searchTerm.getLink());
+
+                if (terms == null) {
+                    terms = new HashMap<>();
+                    entries.put(searchTerm.getLink(), terms);
+                }
+
+                terms.put(searchTerm.getTerm(), searchTerm.getScore());
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * Finds the items matching all terms of the given text. The last term is matched as a prefix while it is still being typed.
+     * @return The score of each matching item, keyed by link.
+     */
+    @NonNull
+    static Map<String, Integer> search(@NonNull final Realm realm, @NonNull final CharSequence searchText) {
+        final List<String> terms    = SearchIndex.getTerms(searchText);
+        final boolean      isTyping = SearchIndex.isTyping(searchText);
+
+        Map<String, Integer> scores = null;
+
+        for (int i = 0; i < terms.size(); i++) {
+            final String                 term       = terms.get(i);
+            final RealmQuery<SearchTerm> query      = realm.where(SearchTerm.class);
+            final Map<String, Integer>   termScores = new HashMap<>();
+
+            if (SearchIndex.getMatch(terms, i, isTyping) == SearchIndex.MATCH_PREFIX) {
+                query.beginsWith(SearchTerm.FIELD_TERM, term);
+            } else {
+                query.equalTo(SearchTerm.FIELD_TERM, term);
+            }
+
+            for (final SearchTerm searchTerm : query.findAll()) {
+                final Integer score = termScores.get(searchTerm.getLink());
+                termScores.put(searchTerm.getLink(), score == null ? searchTerm.getScore() : score + searchTerm.getScore());
+            }
+
+            scores = SearchIndex.intersect(scores, termScores);
+            if (scores.isEmpty()) break;
+        }
+
+        return scores == null ? new HashMap<>() : scores;
+    }
+
+    /**
+     * Finds the items matching all terms of the given text among the given index entries, the same way {@link #search(Realm, CharSequence)} does.
+     * @param index The score of each term of each item, keyed by link.
+     * @return The score of each matching item, keyed by link.
+     */
+    @NonNull
+    static Map<String, Integer> search(@NonNull final Map<String, Map<String, Integer>> index, @NonNull final CharSequence searchText) {
+        final List<String> terms    = SearchIndex.getTerms(searchText);
+        final boolean      isTyping = SearchIndex.isTyping(searchText);
+
+        Map<String, Integer> scores = null;
+
+        for (int i = 0; i < terms.size(); i++) {
+            final String               term       = terms.get(i);
+            final int                  match      = SearchIndex.getMatch(terms, i, isTyping);
+            final Map<String, Integer> termScores = new HashMap<>();
+
+            for (final Map.Entry<String, Map<String, Integer>> entry : index.entrySet()) {
+                int score = 0;
+
+                for (final Map.Entry<String, Integer> indexedTerm : entry.getValue().entrySet()) {
+                    if (SearchIndex.matches(indexedTerm.getKey(), term, match)) score += indexedTerm.getValue();
+                }
+
+                if (score > 0) termScores.put(entry.getKey(), score);
+            }
+
+            scores = SearchIndex.intersect(scores, termScores);
+            if (scores.isEmpty()) break;
+        }
+
+        return scores == null ? new HashMap<>() : scores;
+    }
+
+    @NonNull
+    private static List<String> getTerms(@NonNull final CharSequence searchText) {
+        return new ArrayList<>(new LinkedHashSet<>(Tokenizer.tokenize(searchText)));
+    }
+
+    private static boolean isTyping(@NonNull final CharSequence searchText) {
+        return searchText.length() > 0 && Character.isLetterOrDigit(searchText.charAt(searchText.length() - 1));
+    }
+
+    /**
+     * Returns how the given term is matched. CJK terms are always matched exactly, as each of their characters is indexed as a unigram too.
+     */
+    private static int getMatch(@NonNull final List<String> terms, final int index, final boolean isTyping) {
+        return isTyping && index == terms.size() - 1 && !Tokenizer.isCjk(terms.get(index).charAt(0)) ? SearchIndex.MATCH_PREFIX : SearchIndex.MATCH_EXACT;
+    }
+
+    private static boolean matches(@NonNull final String indexedTerm, @NonNull final String term, final int match) {
+        return match == SearchIndex.MATCH_PREFIX ? indexedTerm.startsWith(term) : indexedTerm.equals(term);
+    }
+
+    /**
+     * Keeps the items found by both searches, adding up their scores.
+     */
+    @NonNull
+    private static Map<String, Integer> intersect(@Nullable final Map<String, Integer> scores, @NonNull final Map<String, Integer> termScores) {
+        if (scores == null) return termScores;
+
+        final Set<String> links = scores.keySet();
+        links.retainAll(termScores.keySet());
+
+        for (final String link : links) scores.put(link, scores.get(link) + termScores.get(link));
+
+        return scores;
+    }
+
+    private static void score(@NonNull final Map<String, Integer> scores, @NonNull final List<String> tokens, final int weight) {
+        for (final String token : tokens) {
+            final Integer score = scores.get(token);
+            scores.put(token, score == null ? weight : score + weight);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.ayltai.newspaper.app.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.text.TextUtils;
+
+import com.github.ayltai.newspaper.app.data.model.NewsItem;
+
+/**
+ * The items found by a search, together with the index entries of each of them, so that the items found by a longer search text can be picked among them without querying Realm again.
+ */
+public final class SearchResults {
+    private final CharSequence                      searchText;
+    private final List<NewsItem>                    items;
+    private final Map<String, Map<String, Integer>> index;
+
+    SearchResults(@Nullable final CharSequence searchText, @NonNull final List<NewsItem> items, @NonNull final Map<String, Map<String, Integer>> index) {
+        this.searchText = searchText == null ? null : searchText.toString();
+        this.items      = items;
+        this.index      = index;
+    }
+
+    @Nullable
+    public CharSequence getSearchText() {
+        return this.searchText;
+    }
+
+    @NonNull
+    public List<NewsItem> getItems() {
+        return this.items;
+    }
+
+    /**
+     * Returns {@code true} if every item found by the given search text is among these results, which is the case when it extends the search text of these results.
+     * <p>Markup characters are excluded, as they change how the characters before them are tokenized.</p>
+     */
+    public boolean isRefinableBy(@Nullable final CharSequence searchText) {
+        if (TextUtils.isEmpty(this.searchText) || TextUtils.isEmpty(searchText) || !searchText.toString().startsWith(this.searchText.toString())) return false;
+
+        for (int i = 0; i < searchText.length(); i++) {
+            final char c = searchText.charAt(i);
+            if (c == '<' || c == '&') return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the items found by the given search text among these results, ranked the same way as {@link ItemManager} does.
+     * @param searchText A search text for which {@link #isRefinableBy(CharSequence)} returns {@code true}.
+     */
+    @NonNull
+    public SearchResults refine(@NonNull final CharSequence searchText) {
+        final Map<String, Integer>              scores = SearchIndex.search(this.index, searchText);
+        final List<NewsItem>                    items  = new ArrayList<>(scores.size());
+        final Map<String, Map<String, Integer>> index  = new HashMap<>(scores.size());
+
+        for (final NewsItem item : this.items) {
+            if (scores.containsKey(item.getLink())) {
+                items.add(item);
+                index.put(item.getLink(), this.index.get(item.getLink()));
+            }
+        }
+
+        Collections.sort(items, SearchResults.byRelevance(scores));
+
+        return new SearchResults(searchText, items, index);
+    }
+
+    /**
+     * Ranks the most relevant items first, then the most recent ones.
+     */
+    @NonNull
+    static Comparator<NewsItem> byRelevance(@NonNull final Map<String, Integer> scores) {
+        return (lhs, rhs) -> {
+            final int result = scores.get(rhs.getLink()).compareTo(scores.get(lhs.getLink()));
+
+            return result == 0 ? lhs.compareTo(rhs) : result;
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.ayltai.newspaper.app.data;
+
+import android.annotation.TargetApi;
+import android.app.job.JobParameters;
+import android.app.job.JobService;
+import android.os.Build;
+import android.util.Log;
+
+import com.akaita.java.rxjava2debug.RxJava2Debug;
+import com.github.ayltai.newspaper.util.DevUtils;
+
+import io.reactivex.disposables.Disposable;
+
+/**
+ * Runs {@link Synchronizer#sync(android.content.Context)} when scheduled by {@link Synchronizer#schedule(android.content.Context)}.
+ */
+@TargetApi(Build.VERSION_CODES.LOLLIPOP)
+public final class SyncService extends JobService {
+    private Disposable disposable;
+
+    @Override
+    public boolean onStartJob(final JobParameters params) {
+        this.disposable = Synchronizer.sync(this).subscribe(
+            count -> {
+                if (DevUtils.isLoggable()) Log.d(this.getClass().getSimpleName(), "Synced " + count + " items");
+
+                this.jobFinished(params, false);
+            },
+            error -> {
+                if (DevUtils.isLoggable()) Log.e(this.getClass().getSimpleName(), error.getMessage(), RxJava2Debug.getEnhancedStackTrace(error));
+
+                this.jobFinished(params, true);
+            });
+
+        return true;
+    }
+
+    @Override
+    public boolean onStopJob(final JobParameters params) {
+        if (this.disposable != null && !this.disposable.isDisposed()) this.disposable.dispose();
+
+        // Syncing is retried with back-off when the constraints are met again
+        return true;
+    }
+}
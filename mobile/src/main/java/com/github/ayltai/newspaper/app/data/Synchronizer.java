@@ -0,0 +1,185 @@
+package com.github.ayltai.newspaper.app.data;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import android.app.job.JobInfo;
+import android.app.job.JobScheduler;
+import android.content.ComponentName;
+import android.content.Context;
+import android.os.Build;
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.VisibleForTesting;
+import android.support.v4.util.ArrayMap;
+import android.util.Log;
+
+import com.akaita.java.rxjava2debug.RxJava2Debug;
+import com.github.ayltai.newspaper.app.ComponentFactory;
+import com.github.ayltai.newspaper.app.config.UserConfig;
+import com.github.ayltai.newspaper.app.data.model.Category;
+import com.github.ayltai.newspaper.app.data.model.NewsItem;
+import com.github.ayltai.newspaper.app.data.model.RefreshState;
+import com.github.ayltai.newspaper.app.data.model.SourceFactory;
+import com.github.ayltai.newspaper.client.Client;
+import com.github.ayltai.newspaper.client.ClientFactory;
+import com.github.ayltai.newspaper.data.DataManager;
+import com.github.ayltai.newspaper.net.HttpComponent;
+import com.github.ayltai.newspaper.net.NetworkMetrics;
+import com.github.ayltai.newspaper.net.ResilienceInterceptor;
+import com.github.ayltai.newspaper.util.AppSchedulers;
+import com.github.ayltai.newspaper.util.DevUtils;
+import com.github.ayltai.newspaper.util.StringUtils;
+
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+
+/**
+ * Refreshes the items of the sources and categories selected by the user in the background, so that the first screen shows fresh items from the local store without waiting for the network.
+ * <p>Items are fetched and stored the same way as by {@link ItemListLoader}, and the {@link RefreshState}s stored along with them let {@link ItemListLoader} skip the categories refreshed here.</p>
+ */
+public final class Synchronizer {
+    //region Constants
+
+    /**
+     * The ID of the sync job. It must stay the same across releases and processes, so that a job scheduled by an earlier launch is found instead of scheduled again.
+     */
+    private static final int JOB_ID = 1000;
+
+    /**
+     * The time, in milliseconds, between two background syncs.
+     */
+    private static final long INTERVAL = 60 * 60 * 1000;
+
+    //endregion
+
+    private Synchronizer() {
+    }
+
+    /**
+     * Schedules {@link SyncService} to sync periodically while the device is on an unmetered network and its battery is not low, unless it is already scheduled. Devices older than Lollipop have no {@link JobScheduler}, and are not synced in the background.
+     */
+    public static void schedule(@NonNull final Context context) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) return;
+
+        final JobScheduler scheduler = (JobScheduler)context.getSystemService(Context.JOB_SCHEDULER_SERVICE);
+        if (scheduler == null) return;
+
+        for (final JobInfo job : scheduler.getAllPendingJobs()) {
+            if (job.getId() == Synchronizer.JOB_ID) return;
+        }
+
+        final JobInfo.Builder builder = new JobInfo.Builder(Synchronizer.JOB_ID, new ComponentName(context, SyncService.class))
+            .setRequiredNetworkType(JobInfo.NETWORK_TYPE_UNMETERED)
+            .setPeriodic(Synchronizer.INTERVAL);
+
+        // The battery level cannot be a constraint before Oreo, so syncing waits for the device to charge instead
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            builder.setRequiresBatteryNotLow(true);
+        } else {
+            builder.setRequiresCharging(true);
+        }
+
+        scheduler.schedule(builder.build());
+    }
+
+    /**
+     * Refreshes the categories selected in {@link UserConfig} that are not fresh.
+     * @return The number of items stored.
+     */
+    @NonNull
+    public static Single<Integer> sync(@NonNull final Context context) {
+        final UserConfig          userConfig = UserConfig.create(context);
+        final Map<String, Client> clients    = new ArrayMap<>();
+
+        for (final String source : userConfig.getSources()) {
+            final Client client = ClientFactory.getInstance(context).getClient(source);
+            if (client != null) clients.put(source, client);
+        }
+
+        final HttpComponent httpComponent = ComponentFactory.getInstance().getHttpComponent(context);
+
+        return Synchronizer.sync(context, DataManager.SCHEDULER, clients, userConfig.getCategories(), httpComponent.networkMetrics(), httpComponent.resilienceInterceptor());
+    }
+
+    /**
+     * Refreshes the given categories of the given sources that are not fresh. The items of each source are stored as soon as all its categories are fetched, and a source that fails does not stop the others.
+     * @param scheduler The {@link Scheduler} to read and write the local store on.
+     * @param clients The {@link Client}s of the sources to refresh, keyed by source name.
+     * @return The number of items stored.
+     */
+    @VisibleForTesting
+    @NonNull
+    static Single<Integer> sync(@NonNull final Context context, @NonNull final Scheduler scheduler, @NonNull final Map<String, Client> clients, @NonNull final Collection<String> categories, @NonNull final NetworkMetrics metrics, @NonNull final ResilienceInterceptor resilienceInterceptor) {
+        if (clients.isEmpty()) return Single.just(0);
+
+        return ItemManager.using(context, scheduler, manager -> manager.getRefreshStates(clients.keySet().toArray(StringUtils.EMPTY_ARRAY)))
+            .flatMap(states -> {
+                final List<Single<Integer>> singles = new ArrayList<>();
+                final long                  now     = System.currentTimeMillis();
+
+                for (final Map.Entry<String, Client> entry : clients.entrySet()) {
+                    final String                       source        = entry.getKey();
+                    final List<Single<List<NewsItem>>> sourceSingles = new ArrayList<>();
+                    final List<RefreshState>           newStates     = Collections.synchronizedList(new ArrayList<>());
+
+                    for (final Category category : SourceFactory.getInstance(context).getSource(source).getCategories()) {
+                        final RefreshState state = states.get(RefreshState.toKey(source, category.getName()));
+
+                        if (categories.contains(category.getName()) && !RefreshPolicy.isFresh(state, now)) sourceSingles.add(Synchronizer.fetch(entry.getValue(), source, category, state, false, now, metrics, resilienceInterceptor, newStates));
+                    }
+
+                    if (!sourceSingles.isEmpty()) singles.add(Single.merge(sourceSingles)
+                        .<List<NewsItem>>collect(ArrayList::new, List::addAll)
+                        .flatMap(items -> ItemManager.using(context, scheduler, manager -> {
+                            final long startTime = SystemClock.elapsedRealtime();
+
+                            return manager.putItems(items, false)
+                                .doOnSuccess(newsItems -> metrics.record(source, NetworkMetrics.PHASE_STORE, SystemClock.elapsedRealtime() - startTime))
+                                .flatMap(newsItems -> manager.putRefreshStates(new ArrayList<>(newStates)).map(irrelevant -> newsItems.size()));
+                        }))
+                        .onErrorResumeNext(error -> {
+                            if (DevUtils.isLoggable()) Log.e(Synchronizer.class.getSimpleName(), error.getMessage(), RxJava2Debug.getEnhancedStackTrace(error));
+
+                            return Single.just(0);
+                        }));
+                }
+
+                if (singles.isEmpty()) return Single.just(0);
+
+                return Single.merge(singles).reduce(0, (total, count) -> total + count);
+            })
+            .doOnSuccess(count -> Housekeeper.requestHousekeeping(context));
+    }
+
+    /**
+     * Fetches the items of the given category on a network thread, records the time taken, and adds the new {@link RefreshState} of the category to {@code newStates}. A category that fails to be fetched has no items.
+     * <p>The category waits for a slot of its host before it takes a network thread. The timeout and the time taken start once it has both, and the client makes its call on that thread, so that waiting behind the other categories neither times out a category nor counts as its latency.</p>
+     * @param state The state of the category before the refresh, if any.
+     */
+    @NonNull
+    static Single<List<NewsItem>> fetch(@NonNull final Client client, @NonNull final String source, @NonNull final Category category, @Nullable final RefreshState state, final boolean forceRefresh, final long now, @NonNull final NetworkMetrics metrics, @NonNull final ResilienceInterceptor resilienceInterceptor, @NonNull final Collection<RefreshState> newStates) {
+        return resilienceInterceptor.schedule(category.getUrl(), Single.defer(() -> {
+                final long startTime = SystemClock.elapsedRealtime();
+
+                return client.getItems(category.getUrl())
+                    .timeout(RefreshPolicy.getTimeout(state, forceRefresh, now), TimeUnit.SECONDS)
+                    .doOnSuccess(items -> {
+                        final long latency = SystemClock.elapsedRealtime() - startTime;
+
+                        metrics.record(source, NetworkMetrics.PHASE_FETCH, latency);
+                        newStates.add(RefreshPolicy.update(state, source, category.getName(), items.size(), latency, System.currentTimeMillis()));
+                    });
+            }), AppSchedulers.network())
+            .onErrorResumeNext(error -> {
+                if (DevUtils.isLoggable()) Log.w(Synchronizer.class.getSimpleName(), error.getMessage(), RxJava2Debug.getEnhancedStackTrace(error));
+
+                return Single.just(new ArrayList<>());
+            });
+    }
+}
@@ -1,25 +1,18 @@
 package com.github.ayltai.newspaper.app.data.model;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.Locale;
 
 import android.os.Parcel;
 import android.os.Parcelable;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
-import android.util.Log;
 
-import com.akaita.java.rxjava2debug.RxJava2Debug;
-import com.github.ayltai.newspaper.rss.Enclosure;
-import com.github.ayltai.newspaper.rss.RssItem;
-import com.github.ayltai.newspaper.util.DevUtils;
 import com.github.ayltai.newspaper.util.RealmLists;
 
 import io.realm.RealmList;
 import io.realm.RealmObject;
+import io.realm.annotations.Ignore;
+import io.realm.annotations.Index;
 import io.realm.annotations.PrimaryKey;
 
 @SuppressWarnings("MethodCount")
@@ -34,13 +27,7 @@ public class NewsItem extends RealmObject implements Item, Parcelable {
     public static final String FIELD_LINK               = "link";
     public static final String FIELD_BOOKMARKED         = "bookmarked";
     public static final String FIELD_LAST_ACCESSED_DATE = "lastAccessedDate";
-
-    private static final ThreadLocal<DateFormat> DATE_FORMAT = new ThreadLocal<DateFormat>() {
-        @Override
-        protected DateFormat initialValue() {
-            return new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss Z", Locale.ENGLISH);
-        }
-    };
+    public static final String FIELD_INDEXED            = "indexed";
 
     //endregion
 
@@ -51,15 +38,32 @@ public class NewsItem extends RealmObject implements Item, Parcelable {
     private String  title;
     private String  description;
     private boolean isFullDescription;
+    @Index
     private long    publishDate;
+    @Index
     private String  source;
+    @Index
     private String  category;
     private Video   video;
+    @Index
     private boolean bookmarked;
+    @Index
     private long    lastAccessedDate;
 
+    /**
+     * {@code true} if this item is in the search index. Items stored before the index existed are indexed later in the background.
+     */
+    @Index
+    private boolean indexed;
+
     private RealmList<Image> images = new RealmList<>();
 
+    /**
+     * {@code true} if this is a summary of a stored item for list screens, which holds a shortened description and the first image only.
+     */
+    @Ignore
+    private boolean isSummary;
+
     //endregion
 
     //region Constructors
@@ -67,28 +71,6 @@ public class NewsItem extends RealmObject implements Item, Parcelable {
     public NewsItem() {
     }
 
-    public NewsItem(@NonNull final RssItem rss, final String source, final String category) {
-        this.link        = rss.getLink() == null ? null : rss.getLink().trim();
-        this.title       = rss.getTitle().trim();
-        this.description = rss.getDescription() == null ? null : rss.getDescription().trim();
-        this.source      = source;
-        this.category    = category;
-
-        if (rss.getPubDate() != null) {
-            try {
-                this.publishDate = NewsItem.DATE_FORMAT.get().parse(rss.getPubDate().trim().replaceAll("EDT", "+0800")).getTime();
-            } catch (final ParseException e) {
-                if (DevUtils.isLoggable()) Log.e(this.getClass().getSimpleName(), e.getMessage(), RxJava2Debug.getEnhancedStackTrace(e));
-            }
-        }
-
-        final Enclosure enclosure = rss.getEnclosure();
-
-        if (enclosure != null) {
-            this.images.add(new Image(enclosure.getUrl()));
-        }
-    }
-
     //endregion
 
     //region Properties
@@ -119,6 +101,14 @@ public class NewsItem extends RealmObject implements Item, Parcelable {
         this.isFullDescription = isFullDescription;
     }
 
+    public boolean isSummary() {
+        return this.isSummary;
+    }
+
+    public void setIsSummary(final boolean isSummary) {
+        this.isSummary = isSummary;
+    }
+
     @NonNull
     public String getLink() {
         return this.link;
@@ -137,6 +127,10 @@ public class NewsItem extends RealmObject implements Item, Parcelable {
         this.publishDate = publishDate == null ? 0 : publishDate.getTime();
     }
 
+    public void setPublishDate(final long publishDate) {
+        this.publishDate = publishDate;
+    }
+
     @NonNull
     public String getSource() {
         return this.source;
@@ -186,6 +180,14 @@ public class NewsItem extends RealmObject implements Item, Parcelable {
         this.lastAccessedDate = lastAccessedDate == null ? 0 : lastAccessedDate.getTime();
     }
 
+    public boolean isIndexed() {
+        return this.indexed;
+    }
+
+    public void setIndexed(final boolean indexed) {
+        this.indexed = indexed;
+    }
+
     //endregion
 
     @Override
@@ -246,6 +248,7 @@ public class NewsItem extends RealmObject implements Item, Parcelable {
         dest.writeParcelable(this.video, 0);
         dest.writeInt(this.bookmarked ? 1 : 0);
         dest.writeLong(this.lastAccessedDate);
+        dest.writeInt(this.isSummary ? 1 : 0);
     }
 
     protected NewsItem(@NonNull final Parcel in) {
@@ -263,6 +266,7 @@ public class NewsItem extends RealmObject implements Item, Parcelable {
         this.video            = in.readParcelable(Video.class.getClassLoader());
         this.bookmarked       = in.readInt() == 1;
         this.lastAccessedDate = in.readLong();
+        this.isSummary        = in.readInt() == 1;
     }
 
     public static final Parcelable.Creator<NewsItem> CREATOR = new Parcelable.Creator<NewsItem>() {
@@ -0,0 +1,97 @@
+package com.github.ayltai.newspaper.app.data.model;
+
+import android.support.annotation.NonNull;
+
+import io.realm.RealmObject;
+import io.realm.annotations.Index;
+import io.realm.annotations.PrimaryKey;
+
+/**
+ * Records how the items of a category of a source were last refreshed from the remote source.
+ */
+public class RefreshState extends RealmObject {
+    //region Constants
+
+    public static final String FIELD_KEY               = "key";
+    public static final String FIELD_SOURCE            = "source";
+    public static final String FIELD_CATEGORY          = "category";
+    public static final String FIELD_LAST_REFRESH_DATE = "lastRefreshDate";
+    public static final String FIELD_ITEM_COUNT        = "itemCount";
+    public static final String FIELD_AVERAGE_LATENCY   = "averageLatency";
+
+    //endregion
+
+    //region Fields
+
+    @PrimaryKey
+    private String key;
+    @Index
+    private String source;
+    private String category;
+    private long   lastRefreshDate;
+    private int    itemCount;
+    private long   averageLatency;
+
+    //endregion
+
+    @NonNull
+    public static String toKey(@NonNull final String source, @NonNull final String category) {
+        return source + "/" + category;
+    }
+
+    //region Constructors
+
+    public RefreshState() {
+    }
+
+    public RefreshState(@NonNull final String source, @NonNull final String category, final long lastRefreshDate, final int itemCount, final long averageLatency) {
+        this.key             = RefreshState.toKey(source, category);
+        this.source          = source;
+        this.category        = category;
+        this.lastRefreshDate = lastRefreshDate;
+        this.itemCount       = itemCount;
+        this.averageLatency  = averageLatency;
+    }
+
+    //endregion
+
+    //region Properties
+
+    @NonNull
+    public String getKey() {
+        return this.key;
+    }
+
+    @NonNull
+    public String getSource() {
+        return this.source;
+    }
+
+    @NonNull
+    public String getCategory() {
+        return this.category;
+    }
+
+    /**
+     * @return The time, in milliseconds, of the last successful refresh.
+     */
+    public long getLastRefreshDate() {
+        return this.lastRefreshDate;
+    }
+
+    /**
+     * @return The number of items returned by the last successful refresh.
+     */
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * @return The moving average, in milliseconds, of the time taken by successful refreshes.
+     */
+    public long getAverageLatency() {
+        return this.averageLatency;
+    }
+
+    //endregion
+}
@@ -0,0 +1,60 @@
+package com.github.ayltai.newspaper.app.data.model;
+
+import android.support.annotation.NonNull;
+
+import io.realm.RealmObject;
+import io.realm.annotations.Index;
+
+/**
+ * An entry of the search index, recording how relevant a term is to the {@link NewsItem} with the given link.
+ */
+public class SearchTerm extends RealmObject {
+    //region Constants
+
+    public static final String FIELD_TERM  = "term";
+    public static final String FIELD_LINK  = "link";
+    public static final String FIELD_SCORE = "score";
+
+    //endregion
+
+    //region Fields
+
+    @Index
+    private String term;
+    @Index
+    private String link;
+    private int    score;
+
+    //endregion
+
+    //region Constructors
+
+    public SearchTerm() {
+    }
+
+    public SearchTerm(@NonNull final String term, @NonNull final String link, final int score) {
+        this.term  = term;
+        this.link  = link;
+        this.score = score;
+    }
+
+    //endregion
+
+    //region Properties
+
+    @NonNull
+    public String getTerm() {
+        return this.term;
+    }
+
+    @NonNull
+    public String getLink() {
+        return this.link;
+    }
+
+    public int getScore() {
+        return this.score;
+    }
+
+    //endregion
+}
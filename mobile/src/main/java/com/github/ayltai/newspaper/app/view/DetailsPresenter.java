@@ -67,7 +67,11 @@ public class DetailsPresenter extends ItemPresenter<DetailsPresenter.View> {
 
             this.analyze(model);
         } else {
-            if (model instanceof NewsItem) {
+            if (model instanceof NewsItem && ((NewsItem)model).isSummary()) {
+                super.bindModel(model);
+
+                this.bindItem((NewsItem)model);
+            } else if (model instanceof NewsItem) {
                 super.bindModel(model);
 
                 final NewsItem newsItem = (NewsItem)model;
@@ -99,7 +103,7 @@ public class DetailsPresenter extends ItemPresenter<DetailsPresenter.View> {
                                         );
                                 }
                             })
-                            .compose(RxUtils.applySingleBackgroundSchedulers())
+                            .compose(RxUtils.applySingleInteractiveNetworkSchedulers())
                             .flatMap(item -> DetailsPresenter.updateItem(this.getView().getContext(), item)).compose(RxUtils.applySingleBackgroundToMainSchedulers())
                             .subscribe(
                                 items -> {
@@ -212,6 +216,26 @@ public class DetailsPresenter extends ItemPresenter<DetailsPresenter.View> {
         super.onViewAttached(view, isFirstTimeAttachment);
     }
 
+    /**
+     * Binds the stored item of the given summary, or fetches its description again if it is no longer stored.
+     */
+    private void bindItem(@NonNull final NewsItem summary) {
+        this.manageDisposable(ItemManager.using(this.getView().getContext(), DataManager.getReadScheduler(), manager -> manager.getItem(summary.getLink()).toSingle(summary))
+            .compose(RxUtils.applySingleBackgroundToMainSchedulers())
+            .subscribe(
+                item -> {
+                    if (item == summary) {
+                        summary.setIsSummary(false);
+                        summary.setIsFullDescription(false);
+                    }
+
+                    this.bindModel(item);
+                },
+                error -> {
+                    if (DevUtils.isLoggable()) Log.e(this.getClass().getSimpleName(), error.getMessage(), RxJava2Debug.getEnhancedStackTrace(error));
+                }));
+    }
+
     private void updateItem(@NonNull final NewsItem item) {
         this.manageDisposable(DetailsPresenter.updateItem(this.getView().getContext(), item)
             .compose(RxUtils.applySingleBackgroundToMainSchedulers())
@@ -225,10 +249,7 @@ public class DetailsPresenter extends ItemPresenter<DetailsPresenter.View> {
     private static Single<List<NewsItem>> updateItem(@NonNull final Context context, @NonNull final NewsItem item) {
         item.setLastAccessedDate(new Date());
 
-        return ItemManager.create(context)
-            .compose(RxUtils.applySingleSchedulers(DataManager.SCHEDULER))
-            .flatMap(manager -> manager.putItems(Collections.singletonList(item))
-                .compose(RxUtils.applySingleSchedulers(DataManager.SCHEDULER)));
+        return ItemManager.using(context, DataManager.SCHEDULER, manager -> manager.putItems(Collections.singletonList(item)));
     }
 
     private void analyze(@NonNull final Item model) {
@@ -12,7 +12,6 @@ import com.github.ayltai.newspaper.app.data.model.Item;
 import com.github.ayltai.newspaper.data.DataManager;
 import com.github.ayltai.newspaper.util.Irrelevant;
 import com.github.ayltai.newspaper.util.Lists;
-import com.github.ayltai.newspaper.util.RxUtils;
 import com.github.ayltai.newspaper.util.StringUtils;
 
 import io.reactivex.Flowable;
@@ -31,27 +30,30 @@ public class HistoricalItemListPresenter extends ItemListPresenter {
         final Activity activity = this.getView().getActivity();
         if (activity == null) return Flowable.just(Collections.emptyList());
 
-        return ItemManager.create(this.getView().getContext())
-            .compose(RxUtils.applySingleSchedulers(DataManager.SCHEDULER))
-            .flatMap(
-                manager -> manager.getHistoricalItems(ComponentFactory.getInstance()
-                    .getConfigComponent(activity)
-                    .userConfig()
-                    .getSources()
-                    .toArray(StringUtils.EMPTY_ARRAY), this.categories.toArray(StringUtils.EMPTY_ARRAY))
-                .compose(RxUtils.applySingleSchedulers(DataManager.SCHEDULER)))
+        return ItemManager.using(this.getView().getContext(), DataManager.getReadScheduler(),
+            manager -> manager.getHistoricalItems(ComponentFactory.getInstance()
+                .getConfigComponent(activity)
+                .userConfig()
+                .getSources()
+                .toArray(StringUtils.EMPTY_ARRAY), this.categories.toArray(StringUtils.EMPTY_ARRAY)))
             .map(items -> Lists.transform(items, item -> (Item)item))
             .flattenAsFlowable(Collections::singletonList);
     }
 
+    /**
+     * All items are loaded at once, so there are no more pages.
+     */
+    @NonNull
+    @Override
+    protected Single<List<Item>> loadPage(final long before, @NonNull final String[] excludedLinks) {
+        return Single.just(Collections.emptyList());
+    }
+
     @NonNull
     @Override
     public Single<Irrelevant> clearAll() {
         if (this.getView() == null) return Single.just(Irrelevant.INSTANCE);
 
-        return ItemManager.create(this.getView().getContext())
-            .compose(RxUtils.applySingleSchedulers(DataManager.SCHEDULER))
-            .flatMap(manager -> manager.clearHistories()
-                .compose(RxUtils.applySingleSchedulers(DataManager.SCHEDULER)));
+        return ItemManager.using(this.getView().getContext(), DataManager.SCHEDULER, ItemManager::clearHistories);
     }
 }
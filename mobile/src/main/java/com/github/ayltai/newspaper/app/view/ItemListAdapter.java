@@ -19,6 +19,7 @@ import android.widget.Filterable;
 
 import com.akaita.java.rxjava2debug.RxJava2Debug;
 import com.github.ayltai.newspaper.app.data.ItemManager;
+import com.github.ayltai.newspaper.app.data.SearchResults;
 import com.github.ayltai.newspaper.app.data.model.FeaturedItem;
 import com.github.ayltai.newspaper.app.data.model.Item;
 import com.github.ayltai.newspaper.app.data.model.NewsItem;
@@ -28,7 +29,6 @@ import com.github.ayltai.newspaper.app.widget.FeaturedView;
 import com.github.ayltai.newspaper.data.DataManager;
 import com.github.ayltai.newspaper.util.Animations;
 import com.github.ayltai.newspaper.util.DevUtils;
-import com.github.ayltai.newspaper.util.RxUtils;
 import com.github.ayltai.newspaper.util.StringUtils;
 import com.github.ayltai.newspaper.view.SimpleUniversalAdapter;
 import com.github.ayltai.newspaper.view.binding.BinderFactory;
@@ -76,19 +76,32 @@ public final class ItemListAdapter extends SimpleUniversalAdapter<Item, View, Si
         private boolean      isBookmarked;
         private boolean      isFeatured;
 
+        /**
+         * The results of the last search, which are refined in memory while the search text is extended.
+         */
+        private volatile SearchResults searchResults;
+
         public void setCategories(@NonNull final List<String> categories) {
+            if (!categories.equals(this.categories)) this.invalidate();
+
             this.categories = categories;
         }
 
         public void setSources(@NonNull final Set<String> sources) {
+            if (!sources.equals(this.sources)) this.invalidate();
+
             this.sources = sources;
         }
 
         public void setHistorical(final boolean isHistorical) {
+            if (isHistorical != this.isHistorical) this.invalidate();
+
             this.isHistorical = isHistorical;
         }
 
         public void setBookmarked(final boolean isBookmarked) {
+            if (isBookmarked != this.isBookmarked) this.invalidate();
+
             this.isBookmarked = isBookmarked;
         }
 
@@ -103,19 +116,10 @@ public final class ItemListAdapter extends SimpleUniversalAdapter<Item, View, Si
             final FilterResults results = new FilterResults();
 
             try {
-                final List<NewsItem> items = ItemManager.create(ItemListAdapter.this.context)
-                    .compose(RxUtils.applySingleSchedulers(DataManager.SCHEDULER))
-                    .flatMap(manager -> {
-                        if (this.isHistorical) return manager.getHistoricalItems(searchText, this.sources.toArray(StringUtils.EMPTY_ARRAY), this.categories.toArray(StringUtils.EMPTY_ARRAY))
-                            .compose(RxUtils.applySingleSchedulers(DataManager.SCHEDULER));
-
-                        if (this.isBookmarked) return manager.getBookmarkedItems(searchText, this.sources.toArray(StringUtils.EMPTY_ARRAY), this.categories.toArray(StringUtils.EMPTY_ARRAY))
-                            .compose(RxUtils.applySingleSchedulers(DataManager.SCHEDULER));
+                final SearchResults  searchResults = this.search(searchText);
+                final List<NewsItem> items         = searchResults.getItems();
 
-                        return manager.getItems(searchText, this.sources.toArray(StringUtils.EMPTY_ARRAY), this.categories.toArray(StringUtils.EMPTY_ARRAY))
-                            .compose(RxUtils.applySingleSchedulers(DataManager.SCHEDULER));
-                    })
-                    .blockingGet();
+                this.searchResults = TextUtils.isEmpty(searchText) ? null : searchResults;
 
                 results.values = items;
                 results.count  = items.size();
@@ -126,27 +130,66 @@ public final class ItemListAdapter extends SimpleUniversalAdapter<Item, View, Si
             return results;
         }
 
+        /**
+         * Replaces the items with the results, updating only the rows that changed.
+         */
         @SuppressWarnings("unchecked")
         @Override
         public void publishResults(@Nullable final CharSequence searchText, @Nullable final FilterResults results) {
-            ItemListAdapter.this.clear();
-
-            if (results != null && results.values != null) {
+            if (results == null || results.values == null || results.count == 0) {
+                ItemListAdapter.this.onItemsChanged(Collections.emptyList());
+            } else {
                 final List<Item> items = (List<Item>)results.values;
-                if (results.count > 0) {
-                    Collections.sort(items);
 
-                    if (this.isFeatured && TextUtils.isEmpty(searchText)) {
-                        final List<Item> featuredItems = new ArrayList<>(items);
-                        featuredItems.add(0, FeaturedItem.create(items));
+                // Search results are already ranked by relevance
+                if (TextUtils.isEmpty(searchText)) Collections.sort(items);
+
+                if (this.isFeatured && TextUtils.isEmpty(searchText)) {
+                    final List<Item> featuredItems = new ArrayList<>(items);
+                    featuredItems.add(0, FeaturedItem.create(items));
 
-                        ItemListAdapter.this.onDataSetChanged(featuredItems);
-                    } else {
-                        ItemListAdapter.this.onDataSetChanged(items);
-                    }
+                    ItemListAdapter.this.onItemsChanged(featuredItems);
+                } else {
+                    ItemListAdapter.this.onItemsChanged(items);
                 }
             }
         }
+
+        /**
+         * Discards the results of the last search, so that the next search queries the items again. This is called when the items may have changed.
+         */
+        public void invalidate() {
+            this.searchResults = null;
+        }
+
+        /**
+         * Narrows down the results of the last search if the given search text extends its search text, or queries the items otherwise.
+         */
+        @NonNull
+        private SearchResults search(@Nullable final CharSequence searchText) {
+            final SearchResults searchResults = this.searchResults;
+            if (searchResults != null && searchResults.isRefinableBy(searchText)) return searchResults.refine(searchText);
+
+            return ItemManager.using(ItemListAdapter.this.context, DataManager.getReadScheduler(), manager -> {
+                if (this.isHistorical) return manager.searchHistoricalItems(searchText, this.sources.toArray(StringUtils.EMPTY_ARRAY), this.categories.toArray(StringUtils.EMPTY_ARRAY));
+                if (this.isBookmarked) return manager.searchBookmarkedItems(searchText, this.sources.toArray(StringUtils.EMPTY_ARRAY), this.categories.toArray(StringUtils.EMPTY_ARRAY));
+
+                return manager.searchItems(searchText, this.sources.toArray(StringUtils.EMPTY_ARRAY), this.categories.toArray(StringUtils.EMPTY_ARRAY));
+            })
+                .blockingGet();
+        }
+
+        /**
+         * Filters the items on the calling thread and publishes the results.
+         * @return The number of items found.
+         */
+        public int filterNow(@Nullable final CharSequence searchText) {
+            final FilterResults results = this.performFiltering(searchText);
+
+            this.publishResults(searchText, results);
+
+            return results.count;
+        }
     }
 
     //region Variables
@@ -169,6 +212,36 @@ public final class ItemListAdapter extends SimpleUniversalAdapter<Item, View, Si
         return Animations.isEnabled() ? Animations.createDefaultAnimators(view) : super.getItemAnimators(view);
     }
 
+    /**
+     * Items are the same if they have the same link, and a featured item stays the same featured item.
+     * <p>The links are compared directly, as {@link NewsItem#equals(Object)} also treats different items published at the same time as equal.</p>
+     */
+    @Override
+    protected boolean areItemsTheSame(@Nullable final Item oldModel, @Nullable final Item newModel) {
+        if (oldModel instanceof FeaturedItem) return newModel instanceof FeaturedItem;
+        if (oldModel == null || newModel == null) return oldModel == newModel;
+
+        return !(newModel instanceof FeaturedItem) && oldModel.getLink().equals(newModel.getLink());
+    }
+
+    @Override
+    protected boolean areContentsTheSame(@Nullable final Item oldModel, @Nullable final Item newModel) {
+        if (oldModel instanceof NewsItem && newModel instanceof NewsItem) {
+            final NewsItem oldItem = (NewsItem)oldModel;
+            final NewsItem newItem = (NewsItem)newModel;
+
+            return TextUtils.equals(oldItem.getTitle(), newItem.getTitle())
+                && TextUtils.equals(oldItem.getDescription(), newItem.getDescription())
+                && ItemListAdapter.equals(oldItem.getPublishDate(), newItem.getPublishDate())
+                && ItemListAdapter.equals(oldItem.getLastAccessedDate(), newItem.getLastAccessedDate())
+                && oldItem.isBookmarked() == newItem.isBookmarked()
+                && oldItem.getImages().size() == newItem.getImages().size()
+                && (oldItem.getVideo() == null) == (newItem.getVideo() == null);
+        }
+
+        return super.areContentsTheSame(oldModel, newModel);
+    }
+
     @Override
     protected long getAnimationDuration() {
         return 2 * this.context.getResources().getInteger(android.R.integer.config_mediumAnimTime);
@@ -197,4 +270,8 @@ public final class ItemListAdapter extends SimpleUniversalAdapter<Item, View, Si
     public Filter getFilter() {
         return this.filter == null ? this.filter = new ItemListAdapter.ItemListFilter() : this.filter;
     }
+
+    private static boolean equals(@Nullable final Object a, @Nullable final Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
 }
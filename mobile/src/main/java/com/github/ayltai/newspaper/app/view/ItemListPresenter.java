@@ -1,29 +1,73 @@
 package com.github.ayltai.newspaper.app.view;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 import android.app.Activity;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v4.util.ArraySet;
 import android.support.v7.app.AppCompatActivity;
+import android.util.Log;
 
+import com.akaita.java.rxjava2debug.RxJava2Debug;
 import com.github.ayltai.newspaper.analytics.ClickEvent;
 import com.github.ayltai.newspaper.app.ComponentFactory;
 import com.github.ayltai.newspaper.app.data.ItemListLoader;
+import com.github.ayltai.newspaper.app.data.ItemManager;
 import com.github.ayltai.newspaper.app.data.model.FeaturedItem;
 import com.github.ayltai.newspaper.app.data.model.Item;
+import com.github.ayltai.newspaper.app.data.model.NewsItem;
+import com.github.ayltai.newspaper.data.DataManager;
+import com.github.ayltai.newspaper.util.DevUtils;
 import com.github.ayltai.newspaper.util.Irrelevant;
 import com.github.ayltai.newspaper.util.Lists;
+import com.github.ayltai.newspaper.util.RxUtils;
+import com.github.ayltai.newspaper.util.StringUtils;
 import com.github.ayltai.newspaper.view.VerticalListPresenter;
 
 import io.reactivex.Flowable;
 import io.reactivex.Single;
+import io.reactivex.disposables.Disposable;
 
 public class ItemListPresenter extends VerticalListPresenter<Item, VerticalListPresenter.View<Item>> {
+    private static final class Page {
+        final long     before;
+        final String[] excludedLinks;
+
+        List<Item> items = Collections.emptyList();
+
+        Page(final long before, @NonNull final String[] excludedLinks) {
+            this.before        = before;
+            this.excludedLinks = excludedLinks;
+        }
+    }
+
+    //region Constants
+
+    private static final int LOAD_MORE_THRESHOLD = 10;
+
+    // Beyond this, the page farthest from where the list is scrolled to is dropped, and loaded again when scrolled back to
+    private static final int MAX_PAGES = 4;
+
+    //endregion
+
     protected final List<String> categories;
 
-    private boolean forceRefresh;
+    private final LinkedList<Page> pages = new LinkedList<>();
+
+    // Between the items of the loader and the pages kept, the nearest last
+    private final Deque<Page> droppedPages = new ArrayDeque<>();
+
+    private boolean    forceRefresh;
+    private boolean    hasMore = true;
+    private Disposable pageDisposable;
 
     public ItemListPresenter(@NonNull final List<String> categories) {
         this.categories = categories;
@@ -45,6 +89,28 @@ public class ItemListPresenter extends VerticalListPresenter<Item, VerticalListP
         super.resetState();
 
         this.forceRefresh = true;
+
+        this.resetPages();
+    }
+
+    @Override
+    public void onViewAttached(@NonNull final VerticalListPresenter.View<Item> view, final boolean isFirstAttached) {
+        super.onViewAttached(view, isFirstAttached);
+
+        this.manageDisposable(view.bestVisibleItemPositionChanges().subscribe(
+            scrollPosition -> {
+                final List<Item> models = this.getModel();
+                if (models == null || models.isEmpty()) return;
+
+                if (scrollPosition >= models.size() - ItemListPresenter.LOAD_MORE_THRESHOLD) {
+                    this.loadMore();
+                } else if (!this.droppedPages.isEmpty() && scrollPosition <= ItemListPresenter.indexOf(models, this.pages.getFirst().items.get(0)) + ItemListPresenter.LOAD_MORE_THRESHOLD) {
+                    this.loadPrevious();
+                }
+            },
+            error -> {
+                if (DevUtils.isLoggable()) Log.e(this.getClass().getSimpleName(), error.getMessage(), RxJava2Debug.getEnhancedStackTrace(error));
+            }));
     }
 
     @NonNull
@@ -61,6 +127,20 @@ public class ItemListPresenter extends VerticalListPresenter<Item, VerticalListP
 
         return builder.build()
             .map(items -> Lists.transform(items, item -> (Item)item))
+            .map(items -> {
+                if (this.pages.isEmpty()) return items;
+
+                final ArraySet<Item> results = new ArraySet<>();
+                for (final Page page : this.pages) results.addAll(page.items);
+
+                results.removeAll(items);
+                results.addAll(items);
+
+                final List<Item> sortedItems = new ArrayList<>(results);
+                Collections.sort(sortedItems);
+
+                return sortedItems;
+            })
             .map(items -> {
                 final List<Item> featuredItems = new ArrayList<>(items);
                 final Item       featuredItem  = FeaturedItem.create(featuredItems);
@@ -71,9 +151,162 @@ public class ItemListPresenter extends VerticalListPresenter<Item, VerticalListP
             });
     }
 
+    @NonNull
+    protected Single<List<Item>> loadPage(final long before, @NonNull final String[] excludedLinks) {
+        if (this.getView() == null) return Single.just(Collections.emptyList());
+
+        final Activity activity = this.getView().getActivity();
+        if (activity == null) return Single.just(Collections.emptyList());
+
+        final String[] sources = ComponentFactory.getInstance().getConfigComponent(activity).userConfig().getSources().toArray(StringUtils.EMPTY_ARRAY);
+
+        return ItemManager.using(activity, DataManager.getReadScheduler(), manager -> manager.getItemPage(sources, this.categories.toArray(StringUtils.EMPTY_ARRAY), before, excludedLinks))
+            .map(items -> Lists.transform(items, item -> (Item)item));
+    }
+
     @NonNull
     @Override
     public Single<Irrelevant> clearAll() {
         return Single.just(Irrelevant.INSTANCE);
     }
+
+    public void rebind() {
+        final List<Item> models = this.getModel();
+
+        if (models != null && this.getView() != null) this.getView().update(models);
+    }
+
+    private void loadMore() {
+        if (!this.hasMore || this.isLoadingPage()) return;
+
+        final List<Item> models   = this.getModel();
+        final NewsItem   lastItem = ItemListPresenter.getLastItem(models);
+        if (lastItem == null || lastItem.getPublishDate() == null) return;
+
+        final long         before        = lastItem.getPublishDate().getTime();
+        final List<String> excludedLinks = new ArrayList<>();
+
+        for (final Item model : models) {
+            if (model instanceof NewsItem && model.getPublishDate() != null && model.getPublishDate().getTime() == before) excludedLinks.add(model.getLink());
+        }
+
+        final Page page = new Page(before, excludedLinks.toArray(StringUtils.EMPTY_ARRAY));
+
+        this.pageDisposable = this.loadPage(page.before, page.excludedLinks)
+            .compose(RxUtils.applySingleBackgroundToMainSchedulers())
+            .subscribe(
+                items -> {
+                    // The list has been reloaded since this page was requested
+                    if (this.getModel() != models) return;
+
+                    if (items.size() < ItemManager.PAGE_SIZE) this.hasMore = false;
+                    if (items.isEmpty()) return;
+
+                    page.items = items;
+                    this.pages.addLast(page);
+
+                    final List<Item> newModels = new ArrayList<>(models);
+                    newModels.addAll(items);
+
+                    // The list is scrolled to the end, so the first page kept is the farthest
+                    if (this.pages.size() > ItemListPresenter.MAX_PAGES) this.droppedPages.addLast(ItemListPresenter.drop(this.pages.removeFirst(), newModels));
+
+                    this.bindPage(newModels);
+                },
+                error -> {
+                    if (DevUtils.isLoggable()) Log.e(this.getClass().getSimpleName(), error.getMessage(), RxJava2Debug.getEnhancedStackTrace(error));
+                });
+
+        this.manageDisposable(this.pageDisposable);
+    }
+
+    private void loadPrevious() {
+        if (this.isLoadingPage()) return;
+
+        final List<Item> models = this.getModel();
+        final Page       page   = this.droppedPages.getLast();
+
+        this.pageDisposable = this.loadPage(page.before, page.excludedLinks)
+            .compose(RxUtils.applySingleBackgroundToMainSchedulers())
+            .subscribe(
+                items -> {
+                    // The list has been reloaded since this page was requested
+                    if (this.getModel() != models) return;
+
+                    this.droppedPages.removeLast();
+                    if (items.isEmpty()) return;
+
+                    final List<Item> newModels = new ArrayList<>(models);
+                    newModels.addAll(ItemListPresenter.indexOf(models, this.pages.getFirst().items.get(0)), items);
+
+                    page.items = items;
+                    this.pages.addFirst(page);
+
+                    // The list is scrolled back up, so the last page kept is the farthest, and is loaded again when the list is scrolled down to it
+                    if (this.pages.size() > ItemListPresenter.MAX_PAGES) {
+                        ItemListPresenter.drop(this.pages.removeLast(), newModels);
+
+                        this.hasMore = true;
+                    }
+
+                    this.bindPage(newModels);
+                },
+                error -> {
+                    if (DevUtils.isLoggable()) Log.e(this.getClass().getSimpleName(), error.getMessage(), RxJava2Debug.getEnhancedStackTrace(error));
+                });
+
+        this.manageDisposable(this.pageDisposable);
+    }
+
+    private boolean isLoadingPage() {
+        return this.pageDisposable != null && !this.pageDisposable.isDisposed();
+    }
+
+    private void bindPage(@NonNull final List<Item> models) {
+        this.setModel(models);
+
+        if (this.getView() != null) this.getView().update(models);
+    }
+
+    private void resetPages() {
+        if (this.isLoadingPage()) this.pageDisposable.dispose();
+
+        this.pages.clear();
+        this.droppedPages.clear();
+        this.hasMore = true;
+    }
+
+    @NonNull
+    private static Page drop(@NonNull final Page page, @NonNull final List<Item> models) {
+        final Set<String> links = new ArraySet<>(page.items.size());
+        for (final Item item : page.items) links.add(item.getLink());
+
+        final Iterator<Item> iterator = models.iterator();
+
+        while (iterator.hasNext()) {
+            final Item model = iterator.next();
+            if (!(model instanceof FeaturedItem) && links.contains(model.getLink())) iterator.remove();
+        }
+
+        page.items = Collections.emptyList();
+
+        return page;
+    }
+
+    private static int indexOf(@NonNull final List<Item> models, @NonNull final Item item) {
+        for (int i = 0; i < models.size(); i++) {
+            if (!(models.get(i) instanceof FeaturedItem) && models.get(i).getLink().equals(item.getLink())) return i;
+        }
+
+        return models.size();
+    }
+
+    @Nullable
+    private static NewsItem getLastItem(@NonNull final List<Item> models) {
+        for (int i = models.size() - 1; i >= 0; i--) {
+            if (models.get(i) instanceof NewsItem) return (NewsItem)models.get(i);
+        }
+
+        return null;
+    }
 }
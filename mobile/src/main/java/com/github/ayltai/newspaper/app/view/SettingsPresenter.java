@@ -26,10 +26,11 @@ import io.reactivex.Single;
 public class SettingsPresenter extends OptionsPresenter<Boolean, OptionsPresenter.View> {
     //region Constants
 
-    private static final int INDEX_LAYOUT    = 0;
-    private static final int INDEX_THEME     = 1;
-    private static final int INDEX_AUTO_PLAY = 2;
-    private static final int INDEX_PANORAMA  = 3;
+    private static final int INDEX_LAYOUT      = 0;
+    private static final int INDEX_THEME       = 1;
+    private static final int INDEX_AUTO_PLAY   = 2;
+    private static final int INDEX_DATA_SAVING = 3;
+    private static final int INDEX_PANORAMA    = 4;
 
     //endregion
 
@@ -79,6 +80,10 @@ public class SettingsPresenter extends OptionsPresenter<Boolean, OptionsPresente
                                     this.updateAutoPlay(settings, userConfig, eventLogger);
                                     break;
 
+                                case SettingsPresenter.INDEX_DATA_SAVING:
+                                    this.updateDataSaving(settings, userConfig, eventLogger);
+                                    break;
+
                                 default:
                                     break;
                             }
@@ -98,6 +103,7 @@ public class SettingsPresenter extends OptionsPresenter<Boolean, OptionsPresente
                         view.addOption(view.getContext().getText(R.string.pref_cozy_layout), settings.get(SettingsPresenter.INDEX_LAYOUT));
                         view.addOption(view.getContext().getText(R.string.pref_dark_theme), settings.get(SettingsPresenter.INDEX_THEME));
                         view.addOption(view.getContext().getText(R.string.pref_auto_play), settings.get(SettingsPresenter.INDEX_AUTO_PLAY));
+                        view.addOption(view.getContext().getText(R.string.pref_data_saving), settings.get(SettingsPresenter.INDEX_DATA_SAVING));
                     },
                     error -> {
                         if (DevUtils.isLoggable()) Log.w(this.getClass().getSimpleName(), error.getMessage(), RxJava2Debug.getEnhancedStackTrace(error));
@@ -113,6 +119,7 @@ public class SettingsPresenter extends OptionsPresenter<Boolean, OptionsPresente
         settings.add(userConfig == null || userConfig.getViewStyle() == Constants.VIEW_STYLE_DEFAULT);
         settings.add(userConfig != null && userConfig.getTheme() != Constants.THEME_DEFAULT);
         settings.add(userConfig != null && userConfig.isAutoPlayEnabled());
+        settings.add(userConfig != null && userConfig.getDataSaving() == Constants.DATA_SAVING_METERED);
 
         return settings;
     }
@@ -140,4 +147,12 @@ public class SettingsPresenter extends OptionsPresenter<Boolean, OptionsPresente
 
         if (eventLogger != null) eventLogger.logEvent(new ClickEvent().setElementName("Settings - " + (isAutoPlayEnabled ? "Auto Play Disabled" : "Auto Play Enabled")));
     }
+
+    @VisibleForTesting
+    protected void updateDataSaving(@Nullable final List<Boolean> settings, @Nullable final UserConfig userConfig, @Nullable final EventLogger eventLogger) {
+        final boolean isMeteredDataSaving = settings == null || settings.isEmpty() ? false : settings.get(SettingsPresenter.INDEX_DATA_SAVING);
+        if (userConfig != null) userConfig.setDataSaving(isMeteredDataSaving ? Constants.DATA_SAVING_DEFAULT : Constants.DATA_SAVING_METERED);
+
+        if (eventLogger != null) eventLogger.logEvent(new ClickEvent().setElementName("Settings - " + (isMeteredDataSaving ? "Metered Data Saving Disabled" : "Metered Data Saving Enabled")));
+    }
 }
@@ -9,6 +9,7 @@ import android.support.annotation.DrawableRes;
 import android.support.annotation.NonNull;
 import android.support.annotation.VisibleForTesting;
 import android.support.customtabs.CustomTabsIntent;
+import android.support.v7.app.AlertDialog;
 import android.util.Log;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -19,6 +20,8 @@ import com.akaita.java.rxjava2debug.RxJava2Debug;
 import com.github.ayltai.newspaper.BuildConfig;
 import com.github.ayltai.newspaper.R;
 import com.github.ayltai.newspaper.app.view.AboutPresenter;
+import com.github.ayltai.newspaper.client.ClientFactory;
+import com.github.ayltai.newspaper.net.NetworkMetrics;
 import com.github.ayltai.newspaper.util.Animations;
 import com.github.ayltai.newspaper.util.ContextUtils;
 import com.github.ayltai.newspaper.util.DevUtils;
@@ -145,6 +148,17 @@ public final class AboutView extends BaseView implements AboutPresenter.View {
         this.visitAction.setOnClickListener(view -> this.visitActions.onNext(Irrelevant.INSTANCE));
         this.rateAction.setOnClickListener(view -> this.rateActions.onNext(Irrelevant.INSTANCE));
         this.reportAction.setOnClickListener(view -> this.reportActions.onNext(Irrelevant.INSTANCE));
+
+        // Shows the refresh latencies of each source in debug builds
+        if (DevUtils.isLoggable()) this.appVersion.setOnLongClickListener(view -> {
+            new AlertDialog.Builder(this.getContext())
+                .setTitle(NetworkMetrics.class.getSimpleName())
+                .setMessage(ClientFactory.getInstance(this.getContext()).getNetworkMetrics().getReport())
+                .setPositiveButton(android.R.string.ok, null)
+                .show();
+
+            return true;
+        });
     }
 
     @Override
@@ -123,7 +123,7 @@ public final class CompactItemView extends ItemView {
             ImageUtils.translateToFacesCenter(this.image);
 
             this.image.setVisibility(View.VISIBLE);
-            if (!DevUtils.isRunningUnitTest()) this.image.showImage(Uri.parse(images.get(0).getUrl()));
+            if (!DevUtils.isRunningUnitTest()) this.showThumbnail(this.image, Uri.parse(images.get(0).getUrl()));
         }
     }
 
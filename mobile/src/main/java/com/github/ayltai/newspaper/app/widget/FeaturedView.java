@@ -21,6 +21,7 @@ import com.flaviofaria.kenburnsview.KenBurnsView;
 import com.github.ayltai.newspaper.R;
 import com.github.ayltai.newspaper.app.data.model.Image;
 import com.github.ayltai.newspaper.media.FrescoImageLoader;
+import com.github.ayltai.newspaper.net.NetworkUtils;
 import com.github.ayltai.newspaper.util.Animations;
 import com.github.ayltai.newspaper.util.DevUtils;
 import com.github.ayltai.newspaper.util.Optional;
@@ -85,7 +86,7 @@ public final class FeaturedView extends ItemView {
 
             this.dispose();
 
-            this.disposable = FrescoImageLoader.loadImage(images.get(0).getUrl())
+            this.disposable = FrescoImageLoader.loadImage(images.get(0).getUrl(), NetworkUtils.isDataSaving(this.getContext()))
                 .compose(RxUtils.applyMaybeBackgroundToMainSchedulers())
                 .subscribe(
                     bitmap -> {
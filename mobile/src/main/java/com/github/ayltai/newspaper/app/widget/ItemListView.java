@@ -126,20 +126,14 @@ public abstract class ItemListView extends VerticalListView<Item> implements Dis
     public void bind(@NonNull final List<Item> models) {
         super.bind(models);
 
-        if (!TextUtils.isEmpty(this.searchText) && this.adapter instanceof Filterable) {
-            final ItemListAdapter.ItemListFilter filter = (ItemListAdapter.ItemListFilter)((Filterable)this.adapter).getFilter();
-
-            if (filter != null) {
-                filter.setCategories(this.categories);
-                filter.setSources(this.sources);
-                filter.setFeatured(true);
+        this.search();
+    }
 
-                // FIXME: performFiltering() should be executed on a background thread, but Filter.FilterResults class is protected
-                filter.publishResults(this.searchText, filter.performFiltering(this.searchText));
+    @Override
+    public void update(@NonNull final List<Item> models) {
+        super.update(models);
 
-                if (this.adapter.getItemCount() == 0) this.showEmptyView();
-            }
-        }
+        this.search();
     }
 
     @Override
@@ -201,6 +195,24 @@ public abstract class ItemListView extends VerticalListView<Item> implements Dis
 
     //endregion
 
+    private void search() {
+        if (!TextUtils.isEmpty(this.searchText) && this.adapter instanceof Filterable) {
+            final ItemListAdapter.ItemListFilter filter = (ItemListAdapter.ItemListFilter)((Filterable)this.adapter).getFilter();
+
+            if (filter != null) {
+                filter.setCategories(this.categories);
+                filter.setSources(this.sources);
+                filter.setFeatured(true);
+
+                // The items have changed, so the last search results cannot be refined
+                filter.invalidate();
+
+                // FIXME: performFiltering() should be executed on a background thread
+                if (filter.filterNow(this.searchText) == 0) this.showEmptyView();
+            }
+        }
+    }
+
     @Override
     protected void init() {
         this.adapter = this.createAdapter();
@@ -6,24 +6,32 @@ import java.util.List;
 import android.annotation.SuppressLint;
 import android.content.Context;
 import android.graphics.Point;
+import android.net.Uri;
 import android.os.Build;
 import android.support.annotation.CallSuper;
 import android.support.annotation.DrawableRes;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.v4.view.GestureDetectorCompat;
+import android.util.Log;
 import android.view.GestureDetector;
 import android.view.MotionEvent;
 import android.view.View;
 
+import com.akaita.java.rxjava2debug.RxJava2Debug;
 import com.github.ayltai.newspaper.app.data.model.Image;
 import com.github.ayltai.newspaper.app.data.model.Video;
 import com.github.ayltai.newspaper.app.view.ItemPresenter;
+import com.github.ayltai.newspaper.media.FrescoImageLoader;
+import com.github.ayltai.newspaper.net.NetworkUtils;
+import com.github.ayltai.newspaper.util.DevUtils;
 import com.github.ayltai.newspaper.util.Irrelevant;
 import com.github.ayltai.newspaper.util.Optional;
 import com.github.ayltai.newspaper.widget.BaseView;
+import com.github.piasy.biv.view.BigImageView;
 
 import io.reactivex.Flowable;
+import io.reactivex.android.schedulers.AndroidSchedulers;
 import io.reactivex.processors.FlowableProcessor;
 import io.reactivex.processors.PublishProcessor;
 
@@ -34,6 +42,8 @@ public abstract class ItemView extends BaseView implements ItemPresenter.View {
 
     protected View container;
 
+    private volatile Uri thumbnailUri;
+
     protected ItemView(@NonNull final Context context) {
         super(context);
 
@@ -168,6 +178,28 @@ public abstract class ItemView extends BaseView implements ItemPresenter.View {
 
     //endregion
 
+    /**
+     * Shows the given image as a list thumbnail. While saving data, it is shown only if it is already cached, so that scrolling a list downloads no images.
+     */
+    protected final void showThumbnail(@NonNull final BigImageView view, @NonNull final Uri uri) {
+        this.thumbnailUri = uri;
+
+        if (NetworkUtils.isDataSaving(this.getContext())) {
+            this.manageDisposable(FrescoImageLoader.isCached(uri)
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(
+                    isCached -> {
+                        // The view may have been bound to another item in the meantime
+                        if (isCached && uri.equals(this.thumbnailUri)) view.showImage(uri);
+                    },
+                    error -> {
+                        if (DevUtils.isLoggable()) Log.e(this.getClass().getSimpleName(), error.getMessage(), RxJava2Debug.getEnhancedStackTrace(error));
+                    }));
+        } else {
+            view.showImage(uri);
+        }
+    }
+
     @SuppressLint("NewApi")
     @CallSuper
     @Override
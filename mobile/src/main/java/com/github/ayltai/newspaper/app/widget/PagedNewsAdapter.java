@@ -36,55 +36,87 @@ import com.github.ayltai.newspaper.widget.VerticalListView;
 import io.reactivex.disposables.CompositeDisposable;
 
 class PagedNewsAdapter extends PagerAdapter implements Filterable, LifecycleObserver {
+    /**
+     * The filter of a page, set up on the main thread, and the results of filtering it.
+     */
+    private static final class PageFilter {
+        final int                            position;
+        final ItemListAdapter.ItemListFilter filter;
+        final Filter.FilterResults           results;
+
+        PageFilter(final int position, @NonNull final ItemListAdapter.ItemListFilter filter, @Nullable final Filter.FilterResults results) {
+            this.position = position;
+            this.filter   = filter;
+            this.results  = results;
+        }
+    }
+
+    /**
+     * Filters only the page being shown. The other pages are filtered when they are selected, if the search text has changed since they were last filtered.
+     * <p>Only the latest search text queued is filtered, and results superseded by a later search text are not published.</p>
+     * <p>The views and the settings of the page filters are only touched on the main thread. The filtering thread only runs the {@link PageFilter} handed over to it, and hands it back with the results.</p>
+     */
     private final class MainFilter extends Filter {
         @Nullable
         @Override
         protected Filter.FilterResults performFiltering(@Nullable final CharSequence searchText) {
-            PagedNewsAdapter.this.searchText = searchText;
-
-            for (int i = 0; i < PagedNewsAdapter.this.getCount(); i++) {
-                final VerticalListView<Item> listView = PagedNewsAdapter.this.getItem(i);
-
-                if (listView instanceof ItemListView && listView.getAdapter() instanceof Filterable && ((Filterable)listView.getAdapter()).getFilter() instanceof ItemListAdapter.ItemListFilter) {
-                    ((ItemListView)listView).setSearchText(searchText);
-
-                    final ItemListAdapter.ItemListFilter filter = (ItemListAdapter.ItemListFilter)((Filterable)listView.getAdapter()).getFilter();
+            final PageFilter pageFilter = PagedNewsAdapter.this.pageFilter;
 
-                    filter.setCategories(new ArrayList<>(Category.fromDisplayName(PagedNewsAdapter.this.categories.get(i))));
-                    filter.setSources(PagedNewsAdapter.this.userConfig == null ? Collections.emptySet() : PagedNewsAdapter.this.userConfig.getSources());
-                    filter.setFeatured(true);
+            // The items bound by the presenter are shown again when the search text is cleared
+            if (pageFilter == null || TextUtils.isEmpty(searchText) || !TextUtils.equals(searchText, PagedNewsAdapter.this.searchText)) return null;
 
-                    PagedNewsAdapter.this.filterResults.put(i, filter.performFiltering(searchText));
-                }
-            }
+            final FilterResults results = new FilterResults();
+            results.values = new PageFilter(pageFilter.position, pageFilter.filter, pageFilter.filter.performFiltering(searchText));
+            results.count  = 1;
 
-            return (FilterResults)PagedNewsAdapter.this.filterResults.get(PagedNewsAdapter.this.position);
+            return results;
         }
 
         @Override
         protected void publishResults(@Nullable final CharSequence searchText, @Nullable final FilterResults filterResults) {
+            if (!TextUtils.equals(searchText, PagedNewsAdapter.this.searchText)) return;
+
+            final PageFilter pageFilter = filterResults == null ? null : (PageFilter)filterResults.values;
+
             for (int i = 0; i < PagedNewsAdapter.this.getCount(); i++) {
                 final VerticalListView<Item> listView = PagedNewsAdapter.this.getItem(i);
 
                 if (listView != null && listView.getAdapter() instanceof Filterable && ((Filterable)listView.getAdapter()).getFilter() instanceof ItemListAdapter.ItemListFilter) {
-                    final FilterResults                  results = (FilterResults)PagedNewsAdapter.this.filterResults.get(i);
-                    final ItemListAdapter.ItemListFilter filter  = (ItemListAdapter.ItemListFilter)((Filterable)listView.getAdapter()).getFilter();
+                    if (TextUtils.isEmpty(searchText) && listView instanceof ItemListView) {
+                        PagedNewsAdapter.this.searchTexts.remove(i);
 
-                    filter.publishResults(searchText, results);
+                        ((ItemListView)listView).setSearchText(null);
 
-                    if (listView.getAdapter().getItemCount() == 0) {
-                        listView.showEmptyView();
-                    } else {
-                        listView.hideEmptyView();
+                        // The presenter binds the items it holds again, without querying them, and the empty view is updated with them
+                        final ItemListPresenter presenter = PagedNewsAdapter.this.presenters.get(i);
+                        if (presenter != null) presenter.rebind();
+                    } else if (pageFilter != null && pageFilter.position == i) {
+                        final FilterResults results = pageFilter.results;
+
+                        PagedNewsAdapter.this.searchTexts.put(i, searchText);
+
+                        pageFilter.filter.publishResults(searchText, results);
+
+                        // The results are applied to the adapter asynchronously, so its item count is not up to date yet
+                        if (results == null || results.count == 0) {
+                            listView.showEmptyView();
+                        } else {
+                            listView.hideEmptyView();
+                        }
                     }
                 }
             }
         }
     }
 
-    private final List<String>                           categories    = new ArrayList<>();
-    private final SparseArrayCompat<SoftReference<View>> views         = new SparseArrayCompat<>();
-    private final SparseArrayCompat<Object>              filterResults = new SparseArrayCompat<>();
+    private final List<String>                           categories = new ArrayList<>();
+    private final SparseArrayCompat<SoftReference<View>> views      = new SparseArrayCompat<>();
+    private final SparseArrayCompat<ItemListPresenter>   presenters = new SparseArrayCompat<>();
+
+    /**
+     * The search text each page was last filtered with.
+     */
+    private final SparseArrayCompat<CharSequence> searchTexts = new SparseArrayCompat<>();
 
     @Nullable
     private final UserConfig userConfig;
@@ -92,7 +124,13 @@ class PagedNewsAdapter extends PagerAdapter implements Filterable, LifecycleObse
     private CompositeDisposable disposables;
     private Filter              filter;
     private int                 position;
-    private CharSequence        searchText;
+
+    //region Handed over to the filtering thread
+
+    private volatile CharSequence searchText;
+    private volatile PageFilter   pageFilter;
+
+    //endregion
 
     PagedNewsAdapter(@NonNull final Context context) {
         final Activity activity = Views.getActivity(context);
@@ -142,6 +180,40 @@ class PagedNewsAdapter extends PagerAdapter implements Filterable, LifecycleObse
 
     public void setCurrentPosition(final int position) {
         this.position = position;
+
+        if (!TextUtils.isEmpty(this.searchText) && !TextUtils.equals(this.searchText, this.searchTexts.get(position))) this.filter(position);
+    }
+
+    /**
+     * Filters the page being shown with the given search text, superseding any search not yet published.
+     */
+    public void search(@Nullable final CharSequence searchText) {
+        this.searchText = searchText;
+
+        this.filter(this.position);
+    }
+
+    /**
+     * Sets up the filter of the page at the given position on the main thread, then filters it with the search text on the filtering thread.
+     */
+    private void filter(final int position) {
+        final VerticalListView<Item> listView = this.getItem(position);
+
+        if (listView instanceof ItemListView && listView.getAdapter() instanceof Filterable && ((Filterable)listView.getAdapter()).getFilter() instanceof ItemListAdapter.ItemListFilter) {
+            final ItemListAdapter.ItemListFilter filter = (ItemListAdapter.ItemListFilter)((Filterable)listView.getAdapter()).getFilter();
+
+            filter.setCategories(new ArrayList<>(Category.fromDisplayName(this.categories.get(position))));
+            filter.setSources(this.userConfig == null ? Collections.emptySet() : this.userConfig.getSources());
+            filter.setFeatured(true);
+
+            if (!TextUtils.isEmpty(this.searchText)) ((ItemListView)listView).setSearchText(this.searchText);
+
+            this.pageFilter = new PageFilter(position, filter, null);
+        } else {
+            this.pageFilter = null;
+        }
+
+        this.getFilter().filter(this.searchText);
     }
 
     @NonNull
@@ -170,12 +242,16 @@ class PagedNewsAdapter extends PagerAdapter implements Filterable, LifecycleObse
         ));
 
         this.views.put(position, new SoftReference<>(view));
+        this.presenters.put(position, presenter);
         container.addView(view);
 
         if (!TextUtils.isEmpty(this.searchText)) {
             view.setCategories(categories);
             view.setSources(this.userConfig == null ? Collections.emptySet() : this.userConfig.getSources());
             view.setSearchText(this.searchText);
+
+            // The view filters itself when its items are bound
+            this.searchTexts.put(position, this.searchText);
         }
 
         return view;
@@ -190,9 +266,10 @@ class PagedNewsAdapter extends PagerAdapter implements Filterable, LifecycleObse
 
             if (view != null) {
                 this.views.remove(position);
+                this.presenters.remove(position);
                 container.removeView(view);
 
-                this.filterResults.remove(position);
+                this.searchTexts.remove(position);
             }
         }
     }
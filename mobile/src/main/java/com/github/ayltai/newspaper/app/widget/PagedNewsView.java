@@ -92,7 +92,7 @@ public class PagedNewsView extends BaseView implements BaseNewsView, ViewPager.O
 
     @Override
     public void search(@Nullable final CharSequence newText) {
-        if (this.adapter != null) this.adapter.getFilter().filter(newText);
+        if (this.adapter != null) this.adapter.search(newText);
 
         if (!TextUtils.isEmpty(newText)) ComponentFactory.getInstance()
             .getAnalyticsComponent(this.getContext())
@@ -36,6 +36,7 @@ import com.github.ayltai.newspaper.app.config.ConfigComponent;
 import com.github.ayltai.newspaper.app.config.UserConfig;
 import com.github.ayltai.newspaper.app.data.model.Video;
 import com.github.ayltai.newspaper.app.view.ItemPresenter;
+import com.github.ayltai.newspaper.net.NetworkUtils;
 import com.github.ayltai.newspaper.util.DevUtils;
 import com.github.ayltai.newspaper.util.DeviceUtils;
 import com.github.ayltai.newspaper.util.Irrelevant;
@@ -63,6 +64,8 @@ public class VideoView extends ItemView implements ItemPresenter.View {
 
     //endregion
 
+    private boolean isPrepared;
+
     //region Configurations
 
     @Nullable private AppConfig  appConfig;
@@ -129,7 +132,9 @@ public class VideoView extends ItemView implements ItemPresenter.View {
             final View fullScreenExitAction = this.playerView.findViewById(R.id.exo_fullscreen_exit);
             fullScreenExitAction.setVisibility(View.GONE);
 
-            this.player.prepare(new ExtractorMediaSource(Uri.parse(this.video.getVideoUrl()), new DefaultDataSourceFactory(this.getContext(), null, new OkHttpDataSourceFactory(ComponentFactory.getInstance().getHttpComponent().httpClient(), Util.getUserAgent(this.getContext(), BuildConfig.APPLICATION_ID + "/" + BuildConfig.VERSION_NAME), null)), new DefaultExtractorsFactory(), null, null));
+            // While saving data, the video is not buffered until it is played
+            final boolean isDataSaving = NetworkUtils.isDataSaving(this.getContext());
+            if (!isDataSaving) this.preparePlayer();
 
             final Point                  size   = DeviceUtils.getScreenSize(this.getContext());
             final ViewGroup.LayoutParams params = this.playerView.getLayoutParams();
@@ -140,10 +145,16 @@ public class VideoView extends ItemView implements ItemPresenter.View {
             this.addView(this.playerView);
             this.bringChildToFront(this.thumbnailContainer);
 
-            if (this.userConfig != null && this.userConfig.isAutoPlayEnabled() || this.appConfig != null && this.appConfig.isVideoPlaying()) this.startPlayer();
+            if (this.userConfig != null && this.userConfig.isAutoPlayEnabled() && !isDataSaving || this.appConfig != null && this.appConfig.isVideoPlaying()) this.startPlayer();
         }
     }
 
+    private void preparePlayer() {
+        this.player.prepare(new ExtractorMediaSource(Uri.parse(this.video.getVideoUrl()), new DefaultDataSourceFactory(this.getContext(), null, new OkHttpDataSourceFactory(ComponentFactory.getInstance().getHttpComponent(this.getContext()).mediaHttpClient(), Util.getUserAgent(this.getContext(), BuildConfig.APPLICATION_ID + "/" + BuildConfig.VERSION_NAME), null)), new DefaultExtractorsFactory(), null, null));
+
+        this.isPrepared = true;
+    }
+
     public void startPlayer() {
         if (VideoView.isYouTubeUrl(this.video.getVideoUrl())) {
             this.getContext().startActivity(Intent.createChooser(new Intent(Intent.ACTION_VIEW, Uri.parse(this.video.getVideoUrl())), this.getContext().getText(R.string.view_via)));
@@ -155,6 +166,8 @@ public class VideoView extends ItemView implements ItemPresenter.View {
 
             this.thumbnailContainer.setVisibility(View.GONE);
 
+            if (this.player != null && !this.isPrepared) this.preparePlayer();
+
             if (this.appConfig != null && this.player != null) {
                 if (this.appConfig.getVideoSeekPosition() > 0) this.player.seekTo(this.appConfig.getVideoSeekPosition());
                 this.player.setPlayWhenReady(true);
@@ -177,6 +190,7 @@ public class VideoView extends ItemView implements ItemPresenter.View {
 
         this.player     = null;
         this.playerView = null;
+        this.isPrepared = false;
     }
 
     //endregion
@@ -1,8 +1,8 @@
 package com.github.ayltai.newspaper.client;
 
+import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Date;
 import java.util.List;
 
 import javax.inject.Inject;
@@ -24,18 +24,21 @@ import com.github.ayltai.newspaper.app.data.model.Source;
 import com.github.ayltai.newspaper.app.data.model.Video;
 import com.github.ayltai.newspaper.net.ApiService;
 import com.github.ayltai.newspaper.net.NetworkUtils;
+import com.github.ayltai.newspaper.util.DateParser;
 import com.github.ayltai.newspaper.util.DevUtils;
+import com.github.ayltai.newspaper.util.MarkerScanner;
+import com.github.ayltai.newspaper.util.Optional;
 import com.github.ayltai.newspaper.util.RxUtils;
+import com.github.ayltai.newspaper.util.Slice;
 import com.github.ayltai.newspaper.util.StringUtils;
 
+import io.reactivex.Observable;
 import io.reactivex.Single;
 import okhttp3.OkHttpClient;
 
 final class AppleDailyClient extends Client {
     //region Constants
 
-    private static final long SECOND = 1000;
-
     private static final String SLASH = "/";
 
     private static final String TAG_QUOTE    = "\"";
@@ -47,6 +50,24 @@ final class AppleDailyClient extends Client {
     private static final String TAG_OPEN_H3  = "<h3>";
     private static final String TAG_CLOSE_H3 = "</h3>";
 
+    private static final String TAG_ITEM_CONTAINER = "<div class=\"itemContainer\">";
+    private static final String TAG_CLEAR          = "<div class=\"clear\"></div>";
+    private static final String TAG_ITEM           = "div class=\"item\">";
+    private static final String TAG_IMAGE          = "<img src=\"";
+    private static final String TAG_PIX            = "pix/";
+    private static final String TAG_UNDERSCORE     = "_";
+
+    private static final String TAG_CONTENT_START = "!-- START ARTILCLE CONTENT -->";
+    private static final String TAG_CONTENT_END   = "<!-- END ARTILCLE CONTENT -->";
+    private static final String TAG_FANCYBOX      = "rel=\"fancybox-button\"";
+    private static final String TAG_SELF_CLOSE    = "/>";
+    private static final String TAG_VIDEO_ID      = "var videoId = '";
+    private static final String TAG_VIDEO_ID_END  = "';";
+    private static final String TAG_CONTENT       = "<div class=\"ArticleContent_Inner\">";
+
+    private static final MarkerScanner LIST_SCANNER    = MarkerScanner.compile(AppleDailyClient.TAG_ITEM_CONTAINER, AppleDailyClient.TAG_CLEAR, AppleDailyClient.TAG_ITEM, AppleDailyClient.TAG_DIV, AppleDailyClient.TAG_HREF, AppleDailyClient.TAG_TITLE, AppleDailyClient.TAG_QUOTE, AppleDailyClient.TAG_IMAGE, AppleDailyClient.TAG_PIX, AppleDailyClient.TAG_UNDERSCORE);
+    private static final MarkerScanner ARTICLE_SCANNER = MarkerScanner.compile(AppleDailyClient.TAG_CONTENT_START, AppleDailyClient.TAG_CONTENT_END, AppleDailyClient.TAG_FANCYBOX, AppleDailyClient.TAG_SELF_CLOSE, AppleDailyClient.TAG_HREF, AppleDailyClient.TAG_TITLE, AppleDailyClient.TAG_QUOTE, AppleDailyClient.TAG_VIDEO_ID, AppleDailyClient.TAG_VIDEO_ID_END, AppleDailyClient.TAG_CONTENT, AppleDailyClient.TAG_DIV);
+
     //endregion
 
     @Inject
@@ -58,22 +79,22 @@ final class AppleDailyClient extends Client {
     @NonNull
     @Override
     public Single<List<NewsItem>> getItems(@NonNull final String url) {
-        return Single.create(emitter -> this.apiService
-            .getHtml(url)
-            .compose(RxUtils.applyObservableBackgroundSchedulers())
+        return Single.create(emitter -> this.extractHtml(url, null, AppleDailyClient.TAG_ITEM_CONTAINER, AppleDailyClient.TAG_CLEAR)
+            .compose(RxUtils.applyObservableNetworkSchedulers())
             .retryWhen(RxUtils.exponentialBackoff(Constants.INITIAL_RETRY_DELAY, Constants.MAX_RETRIES, NetworkUtils::shouldRetry))
             .subscribe(
                 html -> {
-                    final String[]       sections = StringUtils.substringsBetween(StringUtils.substringBetween(html, "<div class=\"itemContainer\">", "<div class=\"clear\"></div>"), "div class=\"item\">", AppleDailyClient.TAG_DIV);
-                    final List<NewsItem> items    = new ArrayList<>(sections.length);
-                    final String         category = this.getCategoryName(url);
+                    final MarkerScanner.Matches matches  = AppleDailyClient.LIST_SCANNER.scan(html);
+                    final List<Slice>           sections = matches.allBetween(AppleDailyClient.TAG_ITEM, AppleDailyClient.TAG_DIV, matches.between(AppleDailyClient.TAG_ITEM_CONTAINER, AppleDailyClient.TAG_CLEAR));
+                    final List<NewsItem>        items    = new ArrayList<>(sections.size());
+                    final String                category = this.getCategoryName(url);
 
-                    for (final String section : sections) {
+                    for (final Slice section : sections) {
                         final NewsItem item = new NewsItem();
-                        final String   link = StringUtils.substringBetween(section, AppleDailyClient.TAG_HREF, AppleDailyClient.TAG_QUOTE);
+                        final String   link = Slice.asString(matches.between(AppleDailyClient.TAG_HREF, AppleDailyClient.TAG_QUOTE, section));
 
                         if (link != null) {
-                            item.setTitle(StringUtils.substringBetween(section, AppleDailyClient.TAG_TITLE, AppleDailyClient.TAG_QUOTE));
+                            item.setTitle(Slice.asString(matches.between(AppleDailyClient.TAG_TITLE, AppleDailyClient.TAG_QUOTE, section)));
                             item.setLink(link.substring(0, link.lastIndexOf(AppleDailyClient.SLASH))
                                 .replace("video", "news")
                                 .replace("actionnews/local", "local/daily/article")
@@ -84,11 +105,17 @@ final class AppleDailyClient extends Client {
                             item.setSource(this.source.getName());
                             if (category != null) item.setCategory(category);
 
-                            final String image = StringUtils.substringBetween(section, "<img src=\"", AppleDailyClient.TAG_QUOTE);
+                            final String image = Slice.asString(matches.between(AppleDailyClient.TAG_IMAGE, AppleDailyClient.TAG_QUOTE, section));
                             if (image != null) item.getImages().add(new Image(image));
 
-                            final String time = StringUtils.substringBetween(section, "pix/", "_");
-                            if (time != null) item.setPublishDate(new Date(Long.valueOf(time) * AppleDailyClient.SECOND));
+                            final String time = Slice.asString(matches.between(AppleDailyClient.TAG_PIX, AppleDailyClient.TAG_UNDERSCORE, section));
+                            if (time != null) {
+                                try {
+                                    item.setPublishDate(DateParser.parseEpochSeconds(time));
+                                } catch (final ParseException e) {
+                                    if (DevUtils.isLoggable()) Log.w(this.getClass().getSimpleName(), e.getMessage(), RxJava2Debug.getEnhancedStackTrace(e));
+                                }
+                            }
 
                             items.add(item);
                         }
@@ -113,36 +140,39 @@ final class AppleDailyClient extends Client {
 
             this.apiService
                 .getHtml(item.getLink())
-                .compose(RxUtils.applyObservableBackgroundSchedulers())
+                .compose(RxUtils.applyObservableNetworkSchedulers())
                 .retryWhen(RxUtils.exponentialBackoff(Constants.INITIAL_RETRY_DELAY, Constants.MAX_RETRIES, NetworkUtils::shouldRetry))
-                .subscribe(
-                    fullHtml -> {
-                        final String      html            = StringUtils.substringBetween(fullHtml, "!-- START ARTILCLE CONTENT -->", "<!-- END ARTILCLE CONTENT -->");
-                        final String[]    imageContainers = StringUtils.substringsBetween(html, "rel=\"fancybox-button\"", "/>");
-                        final List<Image> images          = new ArrayList<>();
+                .flatMap(fullHtml -> {
+                    final MarkerScanner.Matches matches         = AppleDailyClient.ARTICLE_SCANNER.scan(fullHtml);
+                    final Slice                 html            = matches.between(AppleDailyClient.TAG_CONTENT_START, AppleDailyClient.TAG_CONTENT_END);
+                    final List<Slice>           imageContainers = matches.allBetween(AppleDailyClient.TAG_FANCYBOX, AppleDailyClient.TAG_SELF_CLOSE, html);
+                    final List<Image>           images          = new ArrayList<>();
 
-                        for (final String imageContainer : imageContainers) {
-                            final String imageUrl         = StringUtils.substringBetween(imageContainer, AppleDailyClient.TAG_HREF, AppleDailyClient.TAG_QUOTE);
-                            final String imageDescription = StringUtils.substringBetween(imageContainer, AppleDailyClient.TAG_TITLE, AppleDailyClient.TAG_QUOTE);
+                    for (final Slice imageContainer : imageContainers) {
+                        final String imageUrl         = Slice.asString(matches.between(AppleDailyClient.TAG_HREF, AppleDailyClient.TAG_QUOTE, imageContainer));
+                        final String imageDescription = Slice.asString(matches.between(AppleDailyClient.TAG_TITLE, AppleDailyClient.TAG_QUOTE, imageContainer));
 
-                            if (imageUrl != null) images.add(new Image(imageUrl, imageDescription));
-                        }
+                        if (imageUrl != null) images.add(new Image(imageUrl, imageDescription));
+                    }
 
-                        if (!images.isEmpty()) {
-                            item.getImages().clear();
-                            item.getImages().addAll(images);
-                        }
+                    if (!images.isEmpty()) {
+                        item.getImages().clear();
+                        item.getImages().addAll(images);
+                    }
 
-                        final Video video = this.extractVideo(item.getLink(), StringUtils.substringBetween(fullHtml, "var videoId = '", "';"));
-                        if (video != null) item.setVideo(video);
+                    final List<Slice>   contents = matches.allBetween(AppleDailyClient.TAG_CONTENT, AppleDailyClient.TAG_DIV, html);
+                    final StringBuilder builder  = new StringBuilder();
 
-                        final String[]      contents = StringUtils.substringsBetween(html, "<div class=\"ArticleContent_Inner\">", AppleDailyClient.TAG_DIV);
-                        final StringBuilder builder  = new StringBuilder();
+                    for (final Slice content : contents) builder.append(content.toString().replace(AppleDailyClient.TAG_OPEN_H2, AppleDailyClient.TAG_OPEN_H3).replace(AppleDailyClient.TAG_CLOSE_H2, AppleDailyClient.TAG_CLOSE_H3));
 
-                        for (final String content : contents) builder.append(content.replace(AppleDailyClient.TAG_OPEN_H2, AppleDailyClient.TAG_OPEN_H3).replace(AppleDailyClient.TAG_CLOSE_H2, AppleDailyClient.TAG_CLOSE_H3));
+                    item.setDescription(builder.toString());
+                    item.setIsFullDescription(true);
 
-                        item.setDescription(builder.toString());
-                        item.setIsFullDescription(true);
+                    return this.extractVideo(item.getLink(), Slice.asString(matches.between(AppleDailyClient.TAG_VIDEO_ID, AppleDailyClient.TAG_VIDEO_ID_END)));
+                })
+                .subscribe(
+                    video -> {
+                        if (video.isPresent()) item.setVideo(video.get());
 
                         if (!emitter.isDisposed()) emitter.onSuccess(item);
                     },
@@ -155,32 +185,40 @@ final class AppleDailyClient extends Client {
         });
     }
 
+    /**
+     * Fetches the video of the given article, if any. The video is optional, so failing to fetch it does not fail the article.
+     */
     @SuppressWarnings("checkstyle:magicnumber")
-    @Nullable
-    private Video extractVideo(@NonNull final String url, @Nullable final String videoId) {
-        if (videoId == null) return null;
-
-        final String[] ids      = url.split(AppleDailyClient.SLASH);
-        final String   category = ids[ids.length - 4].replace("news", "local").replace("international", "chinainternational").replace("financeestate", "finance");
-
-        if (ids.length > 4) {
-            final JSONArray items = this.apiService
-                .getHtml("https://hk.video.appledaily.com/video/videoplayer/" + ids[ids.length - 2] + AppleDailyClient.SLASH + category + AppleDailyClient.SLASH + category + AppleDailyClient.SLASH + ids[ids.length - 1] + AppleDailyClient.SLASH + videoId + "/0/0/0?ts=" + String.valueOf(System.currentTimeMillis() / 1000L))
-                .compose(RxUtils.applyObservableBackgroundSchedulers())
-                .map(html -> new JSONArray(StringUtils.substringBetween(html, "window.videoPlaylistOriginal = ", "];") + "]"))
-                .blockingSingle();
-
-            for (int i = 0; i < items.length(); i++) {
-                try {
-                    final JSONObject item = items.getJSONObject(i);
-
-                    if (videoId.equals(item.getString("video_id"))) return new Video(item.getString("video"), item.getString("image_zoom"));
-                } catch (final JSONException e) {
-                    if (DevUtils.isLoggable()) Log.e(this.getClass().getSimpleName(), e.getMessage(), RxJava2Debug.getEnhancedStackTrace(e));
-                }
+    @NonNull
+    private Observable<Optional<Video>> extractVideo(@NonNull final String url, @Nullable final String videoId) {
+        final String[] ids = url.split(AppleDailyClient.SLASH);
+        if (videoId == null || ids.length <= 4) return Observable.just(Optional.empty());
+
+        final String category = ids[ids.length - 4].replace("news", "local").replace("international", "chinainternational").replace("financeestate", "finance");
+
+        return this.apiService
+            .getHtml("https://hk.video.appledaily.com/video/videoplayer/" + ids[ids.length - 2] + AppleDailyClient.SLASH + category + AppleDailyClient.SLASH + category + AppleDailyClient.SLASH + ids[ids.length - 1] + AppleDailyClient.SLASH + videoId + "/0/0/0?ts=" + String.valueOf(System.currentTimeMillis() / 1000L))
+            .compose(RxUtils.applyObservableNetworkSchedulers())
+            .map(html -> this.findVideo(new JSONArray(StringUtils.substringBetween(html, "window.videoPlaylistOriginal = ", "];") + "]"), videoId))
+            .onErrorReturn(error -> {
+                if (DevUtils.isLoggable()) Log.e(this.getClass().getSimpleName(), "Error URL = " + url, RxJava2Debug.getEnhancedStackTrace(error));
+
+                return Optional.empty();
+            });
+    }
+
+    @NonNull
+    private Optional<Video> findVideo(@NonNull final JSONArray items, @NonNull final String videoId) {
+        for (int i = 0; i < items.length(); i++) {
+            try {
+                final JSONObject item = items.getJSONObject(i);
+
+                if (videoId.equals(item.getString("video_id"))) return Optional.of(new Video(item.getString("video"), item.getString("image_zoom")));
+            } catch (final JSONException e) {
+                if (DevUtils.isLoggable()) Log.e(this.getClass().getSimpleName(), e.getMessage(), RxJava2Debug.getEnhancedStackTrace(e));
             }
         }
 
-        return null;
+        return Optional.empty();
     }
 }
@@ -1,5 +1,6 @@
 package com.github.ayltai.newspaper.client;
 
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -12,12 +13,20 @@ import com.github.ayltai.newspaper.app.data.model.Category;
 import com.github.ayltai.newspaper.app.data.model.NewsItem;
 import com.github.ayltai.newspaper.app.data.model.Source;
 import com.github.ayltai.newspaper.net.ApiService;
+import com.github.ayltai.newspaper.net.HtmlExtractor;
+import com.github.ayltai.newspaper.net.SingleFlight;
 import com.github.ayltai.newspaper.util.DevUtils;
 
+import io.reactivex.Observable;
 import io.reactivex.Single;
 import okhttp3.OkHttpClient;
 
 public abstract class Client {
+    /**
+     * Shares the extraction of the same region of the same page among concurrent requests, such as when the same item is updated twice, or categories share the same URL.
+     */
+    private static final SingleFlight<String> EXTRACTIONS = new SingleFlight<>();
+
     //region Variables
 
     protected final OkHttpClient client;
@@ -40,6 +49,17 @@ public abstract class Client {
     @NonNull
     public abstract Single<NewsItem> updateItem(@NonNull NewsItem item);
 
+    /**
+     * Downloads the given page and returns only the region between {@code start} and {@code end}, including both markers.
+     * @see HtmlExtractor#extract(okhttp3.ResponseBody, Charset, String, String)
+     */
+    @NonNull
+    protected final Observable<String> extractHtml(@NonNull final String url, @Nullable final Charset charset, @Nullable final String start, @Nullable final String end) {
+        return Client.EXTRACTIONS.share(url + '|' + charset + '|' + start + '|' + end, () -> this.apiService
+            .getBody(url)
+            .map(body -> HtmlExtractor.extract(body, charset, start, end)));
+    }
+
     @Nullable
     protected final String getCategoryName(@NonNull final String url) {
         for (final Category category : this.source.getCategories()) {
@@ -8,11 +8,17 @@ import android.support.annotation.Nullable;
 import android.support.v4.util.ArrayMap;
 
 import com.github.ayltai.newspaper.R;
+import com.github.ayltai.newspaper.app.ComponentFactory;
+import com.github.ayltai.newspaper.app.data.model.Category;
 import com.github.ayltai.newspaper.app.data.model.SourceFactory;
 import com.github.ayltai.newspaper.net.ApiService;
-import com.github.ayltai.newspaper.net.DaggerHttpComponent;
+import com.github.ayltai.newspaper.net.CacheInterceptor;
+import com.github.ayltai.newspaper.net.HostState;
 import com.github.ayltai.newspaper.net.HttpComponent;
+import com.github.ayltai.newspaper.net.NetworkMetrics;
+import com.github.ayltai.newspaper.net.ResilienceInterceptor;
 
+import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 
 public final class ClientFactory {
@@ -20,6 +26,9 @@ public final class ClientFactory {
 
     private final Map<String, Client> clients = new ArrayMap<>(15);
 
+    private final ResilienceInterceptor resilienceInterceptor;
+    private final NetworkMetrics        networkMetrics;
+
     @NonNull
     public static ClientFactory getInstance(@NonNull final Context context) {
         if (ClientFactory.instance == null) ClientFactory.instance = new ClientFactory(context);
@@ -28,7 +37,7 @@ public final class ClientFactory {
     }
 
     private ClientFactory(@NonNull final Context context) {
-        final HttpComponent httpComponent = DaggerHttpComponent.builder().build();
+        final HttpComponent httpComponent = ComponentFactory.getInstance().getHttpComponent(context);
         final OkHttpClient  client        = httpComponent.httpClient();
         final ApiService    apiService    = httpComponent.apiService();
         final String[]      sources       = context.getResources().getStringArray(R.array.sources);
@@ -50,10 +59,62 @@ public final class ClientFactory {
         this.clients.put(sources[i], new ScmpClient(client, apiService, SourceFactory.getInstance(context).getSource(sources[i++])));
         this.clients.put(sources[i], new TheStandardClient(client, apiService, SourceFactory.getInstance(context).getSource(sources[i++])));
         this.clients.put(sources[i], new WenWeiPoClient(client, apiService, SourceFactory.getInstance(context).getSource(sources[i])));
+
+        ClientFactory.applyMinFreshness(context, httpComponent.cacheInterceptor(), sources);
+
+        this.resilienceInterceptor = httpComponent.resilienceInterceptor();
+        this.networkMetrics        = httpComponent.networkMetrics();
+
+        for (final String source : sources) {
+            for (final Category category : SourceFactory.getInstance(context).getSource(source).getCategories()) this.networkMetrics.tag(category.getUrl(), source, category.getName());
+        }
+    }
+
+    private static void applyMinFreshness(@NonNull final Context context, @NonNull final CacheInterceptor cacheInterceptor, @NonNull final String[] sources) {
+        final int[]                minFreshness = context.getResources().getIntArray(R.array.source_min_freshness);
+        final Map<String, Integer> hosts        = new ArrayMap<>();
+
+        for (int i = 0; i < sources.length && i < minFreshness.length; i++) {
+            for (final Category category : SourceFactory.getInstance(context).getSource(sources[i]).getCategories()) {
+                final HttpUrl url = HttpUrl.parse(category.getUrl());
+
+                if (url != null) {
+                    final Integer seconds = hosts.get(url.host());
+
+                    // Sources sharing the same host use the shortest window so that the more frequently updated source stays fresh
+                    if (seconds == null || seconds > minFreshness[i]) hosts.put(url.host(), minFreshness[i]);
+                }
+            }
+        }
+
+        for (final Map.Entry<String, Integer> entry : hosts.entrySet()) cacheInterceptor.setMinFreshness(entry.getKey(), entry.getValue());
     }
 
     @Nullable
     public Client getClient(@NonNull final String source) {
         return this.clients.get(source);
     }
+
+    @NonNull
+    public NetworkMetrics getNetworkMetrics() {
+        return this.networkMetrics;
+    }
+
+    /**
+     * Returns the circuit breaker and concurrency limit state of each host the given source is fetched from, keyed by host name, for diagnostics.
+     */
+    @NonNull
+    public Map<String, HostState> getHostStates(@NonNull final String source) {
+        final Map<String, HostState> states = new ArrayMap<>();
+        final Client                 client = this.clients.get(source);
+
+        if (client != null) {
+            for (final Category category : client.source.getCategories()) {
+                final HttpUrl url = HttpUrl.parse(category.getUrl());
+                if (url != null) states.put(url.host(), this.resilienceInterceptor.getState(url.host()));
+            }
+        }
+
+        return states;
+    }
 }
@@ -19,7 +19,6 @@ import com.github.ayltai.newspaper.app.data.model.Source;
 import com.github.ayltai.newspaper.net.ApiService;
 import com.github.ayltai.newspaper.net.NetworkUtils;
 import com.github.ayltai.newspaper.rss.RssFeed;
-import com.github.ayltai.newspaper.rss.RssItem;
 import com.github.ayltai.newspaper.util.DevUtils;
 import com.github.ayltai.newspaper.util.RxUtils;
 import com.github.ayltai.newspaper.util.StringUtils;
@@ -66,17 +65,15 @@ public final class HeadlineClient extends RssClient {
 
     @NonNull
     protected List<NewsItem> filter(@NonNull final String url, @NonNull final RssFeed feed) {
-        if (feed.getItems() == null) return new ArrayList<>();
+        final String         keyword  = HeadlineClient.KEYWORDS.get(url.substring(HeadlineClient.URL.length()));
+        final List<NewsItem> rssItems = new ArrayList<>();
 
-        final String        keyword  = HeadlineClient.KEYWORDS.get(url.substring(HeadlineClient.URL.length()));
-        final List<RssItem> rssItems = new ArrayList<>();
-
-        for (final RssItem item : feed.getItems()) {
+        for (final NewsItem item : feed.getItems()) {
             final int index = item.getTitle().indexOf(keyword);
 
             if (index >= 0) {
                 item.setTitle(item.getTitle().substring(0, index));
-                if (item.getEnclosure() != null) item.getEnclosure().setUrl(HeadlineClient.formatImageUrl(item.getEnclosure().getUrl()));
+                if (!item.getImages().isEmpty()) item.getImages().set(0, new Image(HeadlineClient.formatImageUrl(item.getImages().get(0).getUrl())));
 
                 rssItems.add(item);
             }
@@ -94,7 +91,7 @@ public final class HeadlineClient extends RssClient {
     public Single<NewsItem> updateItem(@NonNull final NewsItem item) {
         return Single.create(emitter -> this.apiService
             .getHtml(item.getLink())
-            .compose(RxUtils.applyObservableBackgroundSchedulers())
+            .compose(RxUtils.applyObservableNetworkSchedulers())
             .retryWhen(RxUtils.exponentialBackoff(Constants.INITIAL_RETRY_DELAY, Constants.MAX_RETRIES, NetworkUtils::shouldRetry))
             .subscribe(
                 html -> {
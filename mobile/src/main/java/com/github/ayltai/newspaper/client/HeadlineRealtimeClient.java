@@ -1,12 +1,9 @@
 package com.github.ayltai.newspaper.client;
 
-import java.text.DateFormat;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Locale;
 
 import android.support.annotation.NonNull;
 import android.support.annotation.WorkerThread;
@@ -20,9 +17,11 @@ import com.github.ayltai.newspaper.app.data.model.NewsItem;
 import com.github.ayltai.newspaper.app.data.model.Source;
 import com.github.ayltai.newspaper.net.ApiService;
 import com.github.ayltai.newspaper.net.NetworkUtils;
+import com.github.ayltai.newspaper.util.DateParser;
 import com.github.ayltai.newspaper.util.DevUtils;
+import com.github.ayltai.newspaper.util.MarkerScanner;
 import com.github.ayltai.newspaper.util.RxUtils;
-import com.github.ayltai.newspaper.util.StringUtils;
+import com.github.ayltai.newspaper.util.Slice;
 
 import io.reactivex.Single;
 import okhttp3.OkHttpClient;
@@ -37,14 +36,26 @@ final class HeadlineRealtimeClient extends Client {
     private static final String TAG_CLOSE = "\">";
     private static final String HTTP      = "http:";
 
-    //endregion
+    private static final String TAG_TOPIC       = "<div class=\"topic\">";
+    private static final String TAG_TEXT_LEFT   = "<p class=\"text-left\">";
+    private static final String TAG_OPEN_H4     = "<h4>";
+    private static final String TAG_CLOSE_H4    = "</h4>";
+    private static final String TAG_HREF        = "<a href=\"";
+    private static final String TAG_TEXT        = "<p class=\"text\">";
+    private static final String TAG_CLOSE_P     = "</p>";
+    private static final String TAG_IMAGE       = "<img src=\"";
+    private static final String TAG_CLOCK       = "<i class=\"fa fa-clock-o\"></i>";
+    private static final String TAG_CLOSE_SPAN  = "</span>";
+    private static final String TAG_FANCYBOX    = "<a class=\"fancybox image\" rel=\"fancybox-thumb\"";
+    private static final String TAG_IMAGE_HREF  = "href=\"";
+    private static final String TAG_IMAGE_TITLE = "title=\"";
+    private static final String TAG_CONTENT     = "<div id=\"news-content\" class=\"set-font-aera\" style=\"visibility: visible;\">";
+    private static final String TAG_CLOSE_DIV   = "</div>";
+
+    private static final MarkerScanner LIST_SCANNER    = MarkerScanner.compile(HeadlineRealtimeClient.TAG_TOPIC, HeadlineRealtimeClient.TAG_TEXT_LEFT, HeadlineRealtimeClient.TAG_OPEN_H4, HeadlineRealtimeClient.TAG_CLOSE_H4, HeadlineRealtimeClient.TAG_CLOSE, HeadlineRealtimeClient.TAG_LINK, HeadlineRealtimeClient.TAG_HREF, HeadlineRealtimeClient.TAG_TEXT, HeadlineRealtimeClient.TAG_CLOSE_P, HeadlineRealtimeClient.TAG_IMAGE, HeadlineRealtimeClient.TAG_QUOTE, HeadlineRealtimeClient.TAG_CLOCK, HeadlineRealtimeClient.TAG_CLOSE_SPAN);
+    private static final MarkerScanner ARTICLE_SCANNER = MarkerScanner.compile(HeadlineRealtimeClient.TAG_FANCYBOX, HeadlineRealtimeClient.TAG_LINK, HeadlineRealtimeClient.TAG_IMAGE_HREF, HeadlineRealtimeClient.TAG_IMAGE_TITLE, HeadlineRealtimeClient.TAG_QUOTE, HeadlineRealtimeClient.TAG_CONTENT, HeadlineRealtimeClient.TAG_CLOSE_DIV);
 
-    private static final ThreadLocal<DateFormat> DATE_FORMAT = new ThreadLocal<DateFormat>() {
-        @Override
-        protected DateFormat initialValue() {
-            return new SimpleDateFormat("yyyy-MM-dd HH:mm", Locale.ENGLISH);
-        }
-    };
+    //endregion
 
     HeadlineRealtimeClient(@NonNull final OkHttpClient client, @NonNull final ApiService apiService, @NonNull final Source source) {
         super(client, apiService, source);
@@ -56,29 +67,30 @@ final class HeadlineRealtimeClient extends Client {
     public Single<List<NewsItem>> getItems(@NonNull final String url) {
         return Single.create(emitter -> this.apiService
             .getHtml(url)
-            .compose(RxUtils.applyObservableBackgroundSchedulers())
+            .compose(RxUtils.applyObservableNetworkSchedulers())
             .retryWhen(RxUtils.exponentialBackoff(Constants.INITIAL_RETRY_DELAY, Constants.MAX_RETRIES, NetworkUtils::shouldRetry))
             .subscribe(
                 html -> {
-                    final String[]       sections = StringUtils.substringsBetween(html, "<div class=\"topic\">", "<p class=\"text-left\">");
-                    final List<NewsItem> items    = new ArrayList<>(sections.length);
-                    final String         category = this.getCategoryName(url);
+                    final MarkerScanner.Matches matches  = HeadlineRealtimeClient.LIST_SCANNER.scan(html);
+                    final List<Slice>           sections = matches.allBetween(HeadlineRealtimeClient.TAG_TOPIC, HeadlineRealtimeClient.TAG_TEXT_LEFT);
+                    final List<NewsItem>        items    = new ArrayList<>(sections.size());
+                    final String                category = this.getCategoryName(url);
 
-                    for (final String section : sections) {
+                    for (final Slice section : sections) {
                         final NewsItem item  = new NewsItem();
-                        final String   title = StringUtils.substringBetween(section, "<h4>", "</h4>");
+                        final Slice    title = matches.between(HeadlineRealtimeClient.TAG_OPEN_H4, HeadlineRealtimeClient.TAG_CLOSE_H4, section);
 
-                        item.setTitle(StringUtils.substringBetween(title, HeadlineRealtimeClient.TAG_CLOSE, HeadlineRealtimeClient.TAG_LINK));
-                        item.setLink(HeadlineRealtimeClient.BASE_URI + StringUtils.substringBetween(title, "<a href=\"", HeadlineRealtimeClient.TAG_CLOSE));
-                        item.setDescription(StringUtils.substringBetween(section, "<p class=\"text\">", "</p>"));
+                        item.setTitle(Slice.asString(matches.between(HeadlineRealtimeClient.TAG_CLOSE, HeadlineRealtimeClient.TAG_LINK, title)));
+                        item.setLink(HeadlineRealtimeClient.BASE_URI + Slice.asString(matches.between(HeadlineRealtimeClient.TAG_HREF, HeadlineRealtimeClient.TAG_CLOSE, title)));
+                        item.setDescription(Slice.asString(matches.between(HeadlineRealtimeClient.TAG_TEXT, HeadlineRealtimeClient.TAG_CLOSE_P, section)));
                         item.setSource(this.source.getName());
                         if (category != null) item.setCategory(category);
 
-                        final String image = StringUtils.substringBetween(section, "<img src=\"", HeadlineRealtimeClient.TAG_QUOTE);
+                        final String image = Slice.asString(matches.between(HeadlineRealtimeClient.TAG_IMAGE, HeadlineRealtimeClient.TAG_QUOTE, section));
                         if (image != null) item.getImages().add(new Image(HeadlineRealtimeClient.formatImageUrl(image)));
 
                         try {
-                            item.setPublishDate(HeadlineRealtimeClient.DATE_FORMAT.get().parse(StringUtils.substringBetween(section, "<i class=\"fa fa-clock-o\"></i>", "</span>")));
+                            item.setPublishDate(DateParser.parseIsoDateTime(Slice.asString(matches.between(HeadlineRealtimeClient.TAG_CLOCK, HeadlineRealtimeClient.TAG_CLOSE_SPAN, section))));
 
                             items.add(item);
                         } catch (final ParseException e) {
@@ -105,13 +117,15 @@ final class HeadlineRealtimeClient extends Client {
 
             this.apiService
                 .getHtml(item.getLink())
-                .compose(RxUtils.applyObservableBackgroundSchedulers())
+                .compose(RxUtils.applyObservableNetworkSchedulers())
                 .retryWhen(RxUtils.exponentialBackoff(Constants.INITIAL_RETRY_DELAY, Constants.MAX_RETRIES, NetworkUtils::shouldRetry))
                 .subscribe(
                     html -> {
-                        HeadlineRealtimeClient.extractImages(StringUtils.substringsBetween(html, "<a class=\"fancybox image\" rel=\"fancybox-thumb\"", HeadlineRealtimeClient.TAG_LINK), item);
+                        final MarkerScanner.Matches matches = HeadlineRealtimeClient.ARTICLE_SCANNER.scan(html);
+
+                        HeadlineRealtimeClient.extractImages(matches, item);
 
-                        item.setDescription(StringUtils.substringBetween(html, "<div id=\"news-content\" class=\"set-font-aera\" style=\"visibility: visible;\">", "</div>"));
+                        item.setDescription(Slice.asString(matches.between(HeadlineRealtimeClient.TAG_CONTENT, HeadlineRealtimeClient.TAG_CLOSE_DIV)));
                         item.setIsFullDescription(true);
 
                         if (!emitter.isDisposed()) emitter.onSuccess(item);
@@ -125,12 +139,12 @@ final class HeadlineRealtimeClient extends Client {
         });
     }
 
-    private static void extractImages(@NonNull final String[] imageContainers, @NonNull final Item item) {
+    private static void extractImages(@NonNull final MarkerScanner.Matches matches, @NonNull final Item item) {
         final List<Image> images = new ArrayList<>();
 
-        for (final String imageContainer : imageContainers) {
-            final String imageUrl         = StringUtils.substringBetween(imageContainer, "href=\"", HeadlineRealtimeClient.TAG_QUOTE);
-            final String imageDescription = StringUtils.substringBetween(imageContainer, "title=\"", HeadlineRealtimeClient.TAG_QUOTE);
+        for (final Slice imageContainer : matches.allBetween(HeadlineRealtimeClient.TAG_FANCYBOX, HeadlineRealtimeClient.TAG_LINK)) {
+            final String imageUrl         = Slice.asString(matches.between(HeadlineRealtimeClient.TAG_IMAGE_HREF, HeadlineRealtimeClient.TAG_QUOTE, imageContainer));
+            final String imageDescription = Slice.asString(matches.between(HeadlineRealtimeClient.TAG_IMAGE_TITLE, HeadlineRealtimeClient.TAG_QUOTE, imageContainer));
 
             if (imageUrl != null) images.add(new Image(HeadlineRealtimeClient.formatImageUrl(imageUrl), imageDescription));
         }
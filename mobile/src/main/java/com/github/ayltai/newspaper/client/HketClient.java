@@ -8,7 +8,6 @@ import javax.inject.Inject;
 
 import android.support.annotation.NonNull;
 import android.support.annotation.WorkerThread;
-import android.text.TextUtils;
 import android.util.Log;
 
 import com.akaita.java.rxjava2debug.RxJava2Debug;
@@ -21,8 +20,9 @@ import com.github.ayltai.newspaper.app.data.model.Video;
 import com.github.ayltai.newspaper.net.ApiService;
 import com.github.ayltai.newspaper.net.NetworkUtils;
 import com.github.ayltai.newspaper.util.DevUtils;
+import com.github.ayltai.newspaper.util.MarkerScanner;
 import com.github.ayltai.newspaper.util.RxUtils;
-import com.github.ayltai.newspaper.util.StringUtils;
+import com.github.ayltai.newspaper.util.Slice;
 
 import io.reactivex.Single;
 import okhttp3.OkHttpClient;
@@ -38,6 +38,24 @@ final class HketClient extends RssClient {
     private static final String TAG_DATA_SRC = "data-src=\"";
     private static final String TAG_QUOTE    = "\"";
 
+    private static final String TAG_CONTENT_MAIN        = "<div id=\"content-main\">";
+    private static final String TAG_FB_PAGE_LIKE        = "<div class=\"fb-page-like\">";
+    private static final String TAG_CONTENT_BODY        = "<div id=\"eti-article-content-body\"";
+    private static final String TAG_FB_LIKE             = "<div class=\"fb-like\"";
+    private static final String TAG_ARTICLE_DETAIL      = "<div class=\"article-detail\">";
+    private static final String TAG_ARTICLE_DETAIL_LIKE = "<div class=\"article-detail_facebook-like\">";
+    private static final String TAG_YOUTUBE             = " src=\"//www.youtube.com/embed/";
+    private static final String TAG_YOUTUBE_END         = "?rel=0";
+    private static final String TAG_OPEN_P              = "<p>";
+    private static final String TAG_CLOSE_P             = "</p>";
+    private static final String TAG_OPEN_PAPER_P        = "<P>";
+    private static final String TAG_CLOSE_PAPER_P       = "</P>";
+    private static final String TAG_IMAGE               = "<img ";
+    private static final String TAG_SELF_CLOSE          = "/>";
+    private static final String TAG_ALT                 = "alt=\"";
+
+    private static final MarkerScanner ARTICLE_SCANNER = MarkerScanner.compile(HketClient.TAG_CONTENT_MAIN, HketClient.TAG_FB_PAGE_LIKE, HketClient.TAG_CONTENT_BODY, HketClient.TAG_FB_LIKE, HketClient.TAG_ARTICLE_DETAIL, HketClient.TAG_ARTICLE_DETAIL_LIKE, HketClient.TAG_YOUTUBE, HketClient.TAG_YOUTUBE_END, HketClient.TAG_OPEN_P, HketClient.TAG_CLOSE_P, HketClient.TAG_OPEN_PAPER_P, HketClient.TAG_CLOSE_PAPER_P, HketClient.TAG_IMAGE, HketClient.TAG_SELF_CLOSE, HketClient.TAG_DATA_SRC, HketClient.TAG_ALT, HketClient.TAG_QUOTE);
+
     //endregion
 
     @Inject
@@ -54,34 +72,30 @@ final class HketClient extends RssClient {
         final boolean isInvestNews        = item.getLink().startsWith(HketClient.INVEST_BASE_URI);
         final boolean isPaperNews         = item.getLink().startsWith(HketClient.PAPER_BASE_URI);
         final boolean isInternationalNews = item.getLink().startsWith(HketClient.INTERNATIONAL_BASE_URI);
+        final String  start               = isChinaNews || isInvestNews ? HketClient.TAG_CONTENT_MAIN : isPaperNews || isInternationalNews ? HketClient.TAG_CONTENT_BODY : HketClient.TAG_ARTICLE_DETAIL;
+        final String  end                 = isChinaNews || isInvestNews ? HketClient.TAG_FB_PAGE_LIKE : isPaperNews || isInternationalNews ? HketClient.TAG_FB_LIKE : HketClient.TAG_ARTICLE_DETAIL_LIKE;
 
-        return Single.create(emitter -> this.apiService
-            .getHtml(item.getLink())
-            .compose(RxUtils.applyObservableBackgroundSchedulers())
+        return Single.create(emitter -> this.extractHtml(item.getLink(), null, start, end)
+            .compose(RxUtils.applyObservableNetworkSchedulers())
             .retryWhen(RxUtils.exponentialBackoff(Constants.INITIAL_RETRY_DELAY, Constants.MAX_RETRIES, NetworkUtils::shouldRetry))
             .subscribe(
                 html -> {
-                    if (isChinaNews || isInvestNews) {
-                        html = StringUtils.substringBetween(html, "<div id=\"content-main\">", "<div class=\"fb-page-like\">");
-                    } else if (isPaperNews || isInternationalNews) {
-                        html = StringUtils.substringBetween(html, "<div id=\"eti-article-content-body\"", "<div class=\"fb-like\"");
-                    } else {
-                        html = StringUtils.substringBetween(html, "<div class=\"article-detail\">", "<div class=\"article-detail_facebook-like\">");
-                    }
+                    final MarkerScanner.Matches matches = HketClient.ARTICLE_SCANNER.scan(html);
+                    final Slice                 article = matches.between(start, end);
 
-                    if (html == null) {
+                    if (article == null) {
                         if (!emitter.isDisposed()) emitter.onError(new ParseException("Unparseable content", 0));
                     } else {
-                        HketClient.extraImages(html, item);
+                        HketClient.extraImages(matches, article, item);
 
-                        final String videoId = StringUtils.substringBetween(html, " src=\"//www.youtube.com/embed/", "?rel=0");
+                        final String videoId = Slice.asString(matches.between(HketClient.TAG_YOUTUBE, HketClient.TAG_YOUTUBE_END, article));
                         if (videoId != null) item.setVideo(new Video("https://www.youtube.com/watch?v=" + videoId, String.format("https://img.youtube.com/vi/%s/mqdefault.jpg", videoId)));
 
-                        final String[]      contents = StringUtils.substringsBetween(html, isPaperNews ? "<P>" : "<p>", isPaperNews ? "</P>" : "</p>");
+                        final List<Slice>   contents = matches.allBetween(isPaperNews ? HketClient.TAG_OPEN_PAPER_P : HketClient.TAG_OPEN_P, isPaperNews ? HketClient.TAG_CLOSE_PAPER_P : HketClient.TAG_CLOSE_P, article);
                         final StringBuilder builder  = new StringBuilder();
 
-                        for (final String content : contents) {
-                            if (!TextUtils.isEmpty(content)) builder.append(content).append("<br>");
+                        for (final Slice content : contents) {
+                            if (!content.isEmpty()) builder.append(content).append("<br>");
                         }
 
                         item.setDescription(builder.toString());
@@ -98,13 +112,13 @@ final class HketClient extends RssClient {
             ));
     }
 
-    private static void extraImages(@NonNull final String html, @NonNull final Item item) {
-        final String[]    imageContainers = StringUtils.substringsBetween(html, "<img ", "/>");
+    private static void extraImages(@NonNull final MarkerScanner.Matches matches, @NonNull final Slice html, @NonNull final Item item) {
+        final List<Slice> imageContainers = matches.allBetween(HketClient.TAG_IMAGE, HketClient.TAG_SELF_CLOSE, html);
         final List<Image> images          = new ArrayList<>();
 
-        for (final String imageContainer : imageContainers) {
-            final String imageUrl         = StringUtils.substringBetween(imageContainer, HketClient.TAG_DATA_SRC, HketClient. TAG_QUOTE);
-            final String imageDescription = StringUtils.substringBetween(imageContainer, "alt=\"", HketClient.TAG_QUOTE);
+        for (final Slice imageContainer : imageContainers) {
+            final String imageUrl         = Slice.asString(matches.between(HketClient.TAG_DATA_SRC, HketClient.TAG_QUOTE, imageContainer));
+            final String imageDescription = Slice.asString(matches.between(HketClient.TAG_ALT, HketClient.TAG_QUOTE, imageContainer));
 
             if (imageUrl != null) images.add(new Image(imageUrl, imageDescription));
         }
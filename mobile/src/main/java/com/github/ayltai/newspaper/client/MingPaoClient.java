@@ -66,13 +66,13 @@ final class MingPaoClient extends RssClient {
             .getHtml(MingPaoClient.BASE_URI + MingPaoClient.DATA + tokens[0] + MingPaoClient.SLASH + tokens[0] + MingPaoClient.UNDERSCORE + tokens[2] + MingPaoClient.SLASH + tokens[3] + MingPaoClient.ONE_SLASH + tokens[4] + "/content_" + tokens[6] + MingPaoClient.JS_EXTENSION)
             : this.apiService
             .getHtml(MingPaoClient.BASE_URI + MingPaoClient.DATA + tokens[0] + "/issuelist" + MingPaoClient.JS_EXTENSION)
-            .compose(RxUtils.applyObservableBackgroundSchedulers())
+            .compose(RxUtils.applyObservableNetworkSchedulers())
             .retryWhen(RxUtils.exponentialBackoff(Constants.INITIAL_RETRY_DELAY, Constants.MAX_RETRIES, NetworkUtils::shouldRetry))
             .map(html -> MingPaoClient.BASE_URI + MingPaoClient.DATA + tokens[0] + MingPaoClient.SLASH + tokens[0] + MingPaoClient.UNDERSCORE + tokens[2] + MingPaoClient.SLASH + tokens[3] + MingPaoClient.ONE_SLASH + tokens[4] + new JSONObject(html).getJSONObject((tokens[0] + MingPaoClient.UNDERSCORE + tokens[2]).toUpperCase()).getJSONObject("1 " + tokens[4]).getString("E").toLowerCase() + "/todaycontent_" + tokens[6] + MingPaoClient.JS_EXTENSION)
             .flatMap(this.apiService::getHtml)
             .retryWhen(RxUtils.exponentialBackoff(Constants.INITIAL_RETRY_DELAY, Constants.MAX_RETRIES, NetworkUtils::shouldRetry));
 
-        return Single.create(emitter -> url.compose(RxUtils.applyObservableBackgroundSchedulers())
+        return Single.create(emitter -> url.compose(RxUtils.applyObservableNetworkSchedulers())
             .map(JSONObject::new)
             .subscribe(
                 json -> {
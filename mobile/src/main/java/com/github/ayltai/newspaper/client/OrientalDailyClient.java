@@ -6,7 +6,6 @@ import java.util.List;
 import javax.inject.Inject;
 
 import android.support.annotation.NonNull;
-import android.support.annotation.Nullable;
 import android.support.annotation.WorkerThread;
 import android.util.Log;
 
@@ -20,9 +19,13 @@ import com.github.ayltai.newspaper.net.ApiService;
 import com.github.ayltai.newspaper.net.NetworkUtils;
 import com.github.ayltai.newspaper.rss.RssFeed;
 import com.github.ayltai.newspaper.util.DevUtils;
+import com.github.ayltai.newspaper.util.MarkerScanner;
+import com.github.ayltai.newspaper.util.Optional;
 import com.github.ayltai.newspaper.util.RxUtils;
+import com.github.ayltai.newspaper.util.Slice;
 import com.github.ayltai.newspaper.util.StringUtils;
 
+import io.reactivex.Observable;
 import io.reactivex.Single;
 import okhttp3.OkHttpClient;
 
@@ -34,6 +37,25 @@ final class OrientalDailyClient extends RssClient {
     private static final String SLASH     = "/";
     private static final String DIV_CLOSE = "</div>";
 
+    private static final String TAG_CONTENT          = "<div id=\"contentCTN-top\"";
+    private static final String TAG_ARTICLE_NAV      = "<div id=\"articleNav\">";
+    private static final String TAG_PHOTO            = "<div class=\"photo";
+    private static final String TAG_HREF             = "href=\"";
+    private static final String TAG_TITLE            = "title=\"";
+    private static final String TAG_OPEN_P           = "<p>";
+    private static final String TAG_CLOSE_P          = "</p>";
+    private static final String TAG_OPEN_NEWS        = "<news>";
+    private static final String TAG_CLOSE_NEWS       = "</news>";
+    private static final String TAG_OPEN_ARTICLE_ID  = "<articleID>";
+    private static final String TAG_CLOSE_ARTICLE_ID = "</articleID>";
+    private static final String TAG_OPEN_THUMBNAIL   = "<thumbnail>";
+    private static final String TAG_CLOSE_THUMBNAIL  = "</thumbnail>";
+    private static final String TAG_VIDEO            = "?mid=";
+    private static final String TAG_VIDEO_END        = "&amp;mtype=video";
+
+    private static final MarkerScanner ARTICLE_SCANNER = MarkerScanner.compile(OrientalDailyClient.TAG_CONTENT, OrientalDailyClient.TAG_ARTICLE_NAV, OrientalDailyClient.TAG_PHOTO, OrientalDailyClient.DIV_CLOSE, OrientalDailyClient.TAG_HREF, OrientalDailyClient.TAG_TITLE, OrientalDailyClient.TAG_CLOSE, OrientalDailyClient.TAG_OPEN_P, OrientalDailyClient.TAG_CLOSE_P);
+    private static final MarkerScanner VIDEO_SCANNER   = MarkerScanner.compile(OrientalDailyClient.TAG_OPEN_NEWS, OrientalDailyClient.TAG_CLOSE_NEWS, OrientalDailyClient.TAG_OPEN_ARTICLE_ID, OrientalDailyClient.TAG_CLOSE_ARTICLE_ID, OrientalDailyClient.TAG_OPEN_THUMBNAIL, OrientalDailyClient.TAG_CLOSE_THUMBNAIL, OrientalDailyClient.TAG_VIDEO, OrientalDailyClient.TAG_VIDEO_END);
+
     //endregion
 
     @Inject
@@ -45,39 +67,40 @@ final class OrientalDailyClient extends RssClient {
     @NonNull
     @Override
     public Single<NewsItem> updateItem(@NonNull final NewsItem item) {
-        return Single.create(emitter -> this.apiService
-            .getHtml(item.getLink())
-            .compose(RxUtils.applyObservableBackgroundSchedulers())
+        return Single.create(emitter -> this.extractHtml(item.getLink(), null, OrientalDailyClient.TAG_CONTENT, OrientalDailyClient.TAG_ARTICLE_NAV)
+            .compose(RxUtils.applyObservableNetworkSchedulers())
             .retryWhen(RxUtils.exponentialBackoff(Constants.INITIAL_RETRY_DELAY, Constants.MAX_RETRIES, NetworkUtils::shouldRetry))
-            .subscribe(
-                html -> {
-                    html = StringUtils.substringBetween(html, "<div id=\"contentCTN-top\"", "<div id=\"articleNav\">");
+            .flatMap(html -> {
+                final MarkerScanner.Matches matches         = OrientalDailyClient.ARTICLE_SCANNER.scan(html);
+                final Slice                 article         = matches.between(OrientalDailyClient.TAG_CONTENT, OrientalDailyClient.TAG_ARTICLE_NAV);
+                final List<Slice>           imageContainers = matches.allBetween(OrientalDailyClient.TAG_PHOTO, OrientalDailyClient.DIV_CLOSE, article);
+                final List<Image>           images          = new ArrayList<>();
 
-                    final String[]    imageContainers = StringUtils.substringsBetween(html, "<div class=\"photo", OrientalDailyClient.DIV_CLOSE);
-                    final List<Image> images          = new ArrayList<>();
+                for (final Slice imageContainer : imageContainers) {
+                    final String imageUrl         = Slice.asString(matches.between(OrientalDailyClient.TAG_HREF, OrientalDailyClient.TAG_CLOSE, imageContainer));
+                    final String imageDescription = Slice.asString(matches.between(OrientalDailyClient.TAG_TITLE, OrientalDailyClient.TAG_CLOSE, imageContainer));
 
-                    for (final String imageContainer : imageContainers) {
-                        final String imageUrl         = StringUtils.substringBetween(imageContainer, "href=\"", OrientalDailyClient.TAG_CLOSE);
-                        final String imageDescription = StringUtils.substringBetween(imageContainer, "title=\"", OrientalDailyClient.TAG_CLOSE);
-
-                        if (imageUrl != null) images.add(new Image(OrientalDailyClient.BASE_URI + imageUrl, imageDescription));
-                    }
+                    if (imageUrl != null) images.add(new Image(OrientalDailyClient.BASE_URI + imageUrl, imageDescription));
+                }
 
-                    if (!images.isEmpty()) {
-                        item.getImages().clear();
-                        item.getImages().addAll(images);
-                    }
+                if (!images.isEmpty()) {
+                    item.getImages().clear();
+                    item.getImages().addAll(images);
+                }
 
-                    final Video video = this.extractVideo(item.getLink());
-                    if (video != null) item.setVideo(video);
+                final List<Slice>   contents = matches.allBetween(OrientalDailyClient.TAG_OPEN_P, OrientalDailyClient.TAG_CLOSE_P, article);
+                final StringBuilder builder  = new StringBuilder();
 
-                    final String[]      contents = StringUtils.substringsBetween(html, "<p>", "</p>");
-                    final StringBuilder builder  = new StringBuilder();
+                for (final Slice content : contents) builder.append(content).append("<br><br>");
 
-                    for (final String content : contents) builder.append(content).append("<br><br>");
+                item.setDescription(builder.toString());
+                item.setIsFullDescription(true);
 
-                    item.setDescription(builder.toString());
-                    item.setIsFullDescription(true);
+                return this.extractVideo(item.getLink());
+            })
+            .subscribe(
+                video -> {
+                    if (video.isPresent()) item.setVideo(video.get());
 
                     if (!emitter.isDisposed()) emitter.onSuccess(item);
                 },
@@ -99,25 +122,39 @@ final class OrientalDailyClient extends RssClient {
         return items;
     }
 
-    @SuppressWarnings("checkstyle:magicnumber")
-    @WorkerThread
-    @Nullable
-    private Video extractVideo(@NonNull final String url) {
+    /**
+     * Fetches the video of the given article, if any. The video is optional, so failing to fetch it does not fail the article.
+     */
+    @NonNull
+    private Observable<Optional<Video>> extractVideo(@NonNull final String url) {
         final String date = StringUtils.substringBetween(url, "http://orientaldaily.on.cc/cnt/news/", OrientalDailyClient.SLASH);
-        if (date == null) return null;
+        if (date == null) return Observable.just(Optional.empty());
 
-        final String videoList = this.apiService.getHtml("http://orientaldaily.on.cc/cnt/keyinfo/" + date + "/videolist.xml").blockingSingle();
-        if (videoList == null) return null;
+        return this.apiService.getHtml("http://orientaldaily.on.cc/cnt/keyinfo/" + date + "/videolist.xml")
+            .compose(RxUtils.applyObservableNetworkSchedulers())
+            .map(videoList -> OrientalDailyClient.findVideo(url, date, videoList))
+            .onErrorReturn(error -> {
+                if (DevUtils.isLoggable()) Log.e(this.getClass().getSimpleName(), "Error URL = " + url, RxJava2Debug.getEnhancedStackTrace(error));
+
+                return Optional.empty();
+            });
+    }
+
+    @SuppressWarnings("checkstyle:magicnumber")
+    @NonNull
+    private static Optional<Video> findVideo(@NonNull final String url, @NonNull final String date, @NonNull final String videoList) {
+        final MarkerScanner.Matches matches   = OrientalDailyClient.VIDEO_SCANNER.scan(videoList);
+        final String                articleId = "odn-" + date + "-" + date.substring(4) + "_" + StringUtils.substringBetween(url, date + OrientalDailyClient.SLASH, ".html");
 
-        for (final String video : StringUtils.substringsBetween(videoList, "<news>", "</news>")) {
-            if (("odn-" + date + "-" + date.substring(4) + "_" + StringUtils.substringBetween(url, date + OrientalDailyClient.SLASH, ".html")).equals(StringUtils.substringBetween(video, "<articleID>", "</articleID>"))) {
-                final String thumbnailUri = StringUtils.substringBetween(video, "<thumbnail>", "</thumbnail>");
-                final String videoUri     = StringUtils.substringBetween(video, "?mid=", "&amp;mtype=video");
+        for (final Slice video : matches.allBetween(OrientalDailyClient.TAG_OPEN_NEWS, OrientalDailyClient.TAG_CLOSE_NEWS)) {
+            if (articleId.equals(Slice.asString(matches.between(OrientalDailyClient.TAG_OPEN_ARTICLE_ID, OrientalDailyClient.TAG_CLOSE_ARTICLE_ID, video)))) {
+                final String thumbnailUri = Slice.asString(matches.between(OrientalDailyClient.TAG_OPEN_THUMBNAIL, OrientalDailyClient.TAG_CLOSE_THUMBNAIL, video));
+                final String videoUri     = Slice.asString(matches.between(OrientalDailyClient.TAG_VIDEO, OrientalDailyClient.TAG_VIDEO_END, video));
 
-                if (videoUri != null && thumbnailUri != null) return new Video("http://video.cdn.on.cc/Video/" + date.substring(0, 6) + OrientalDailyClient.SLASH + videoUri + "_ipad.mp4", "http://tv.on.cc/xml/Thumbnail/" + date.substring(0, 6) + "/bigthumbnail/" + thumbnailUri);
+                if (videoUri != null && thumbnailUri != null) return Optional.of(new Video("http://video.cdn.on.cc/Video/" + date.substring(0, 6) + OrientalDailyClient.SLASH + videoUri + "_ipad.mp4", "http://tv.on.cc/xml/Thumbnail/" + date.substring(0, 6) + "/bigthumbnail/" + thumbnailUri));
             }
         }
 
-        return null;
+        return Optional.empty();
     }
 }
@@ -15,7 +15,6 @@ import com.github.ayltai.newspaper.app.data.model.Source;
 import com.github.ayltai.newspaper.net.ApiService;
 import com.github.ayltai.newspaper.net.NetworkUtils;
 import com.github.ayltai.newspaper.rss.RssFeed;
-import com.github.ayltai.newspaper.rss.RssItem;
 import com.github.ayltai.newspaper.util.DevUtils;
 import com.github.ayltai.newspaper.util.RxUtils;
 
@@ -34,7 +33,7 @@ public abstract class RssClient extends Client {
         final String category = this.getCategoryName(url);
 
         return Single.create(emitter -> this.apiService.getFeed(url)
-            .compose(RxUtils.applyObservableBackgroundSchedulers())
+            .compose(RxUtils.applyObservableNetworkSchedulers())
             .retryWhen(RxUtils.exponentialBackoff(Constants.INITIAL_RETRY_DELAY, Constants.MAX_RETRIES, NetworkUtils::shouldRetry))
             .map(feed -> this.filter(url, feed))
             .subscribe(
@@ -59,17 +58,16 @@ public abstract class RssClient extends Client {
     @NonNull
     protected List<NewsItem> filter(@NonNull final String url, @NonNull final RssFeed feed) {
         final String         category = this.getCategoryName(url);
-        final List<NewsItem> items    = new ArrayList<>();
+        final List<NewsItem> items    = new ArrayList<>(feed.getItems().size());
 
-        if (feed.getItems() != null) {
-            for (final RssItem item : feed.getItems()) {
-                final NewsItem newsItem = new NewsItem(item, this.source.getName(), category);
+        for (final NewsItem item : feed.getItems()) {
+            item.setSource(this.source.getName());
+            if (category != null) item.setCategory(category);
 
-                final String title = newsItem.getTitle();
-                if (title != null) newsItem.setTitle(title.replaceAll("<br>", "\n"));
+            final String title = item.getTitle();
+            if (title != null) item.setTitle(title.replaceAll("<br>", "\n"));
 
-                items.add(newsItem);
-            }
+            items.add(item);
         }
 
         return items;
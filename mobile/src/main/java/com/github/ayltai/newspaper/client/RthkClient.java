@@ -41,7 +41,7 @@ final class RthkClient extends RssClient {
     public Single<NewsItem> updateItem(@NonNull final NewsItem item) {
         return Single.create(emitter -> this.apiService
             .getHtml(item.getLink())
-            .compose(RxUtils.applyObservableBackgroundSchedulers())
+            .compose(RxUtils.applyObservableNetworkSchedulers())
             .retryWhen(RxUtils.exponentialBackoff(Constants.INITIAL_RETRY_DELAY, Constants.MAX_RETRIES, NetworkUtils::shouldRetry))
             .subscribe(
                 html -> {
@@ -17,8 +17,9 @@ import com.github.ayltai.newspaper.app.data.model.Source;
 import com.github.ayltai.newspaper.net.ApiService;
 import com.github.ayltai.newspaper.net.NetworkUtils;
 import com.github.ayltai.newspaper.util.DevUtils;
+import com.github.ayltai.newspaper.util.MarkerScanner;
 import com.github.ayltai.newspaper.util.RxUtils;
-import com.github.ayltai.newspaper.util.StringUtils;
+import com.github.ayltai.newspaper.util.Slice;
 
 import io.reactivex.Single;
 import okhttp3.OkHttpClient;
@@ -27,6 +28,19 @@ final class ScmpClient extends RssClient {
     private static final String CLOSE_DIV   = "</div>";
     private static final String CLOSE_QUOTE = "\"";
 
+    private static final String TAG_BODY        = "<div class=\"panel-pane pane-entity-field pane-node-body";
+    private static final String TAG_GALLERY     = "<div class=\"swiper-container scmp-gallery-swiper\">";
+    private static final String TAG_OPEN_P      = "<p>";
+    private static final String TAG_CLOSE_P     = "</p>";
+    private static final String TAG_IMAGE       = "<img ";
+    private static final String TAG_SELF_CLOSE  = "/>";
+    private static final String TAG_ENLARGE     = "data-enlarge=\"";
+    private static final String TAG_CAPTION     = "data-caption=\"";
+    private static final String TAG_ORIGINAL    = "data-original=\"";
+    private static final String TAG_IMAGE_TITLE = "<img title=\"";
+
+    private static final MarkerScanner ARTICLE_SCANNER = MarkerScanner.compile(ScmpClient.TAG_BODY, ScmpClient.TAG_GALLERY, ScmpClient.CLOSE_DIV, ScmpClient.TAG_OPEN_P, ScmpClient.TAG_CLOSE_P, ScmpClient.TAG_IMAGE, ScmpClient.TAG_SELF_CLOSE, ScmpClient.TAG_ENLARGE, ScmpClient.TAG_CAPTION, ScmpClient.TAG_ORIGINAL, ScmpClient.TAG_IMAGE_TITLE, ScmpClient.CLOSE_QUOTE);
+
     @Inject
     ScmpClient(@NonNull final OkHttpClient client, @NonNull final ApiService apiService, @NonNull final Source source) {
         super(client, apiService, source);
@@ -38,29 +52,30 @@ final class ScmpClient extends RssClient {
     public Single<NewsItem> updateItem(@NonNull final NewsItem item) {
         return Single.create(emitter -> this.apiService
             .getHtml(item.getLink())
-            .compose(RxUtils.applyObservableBackgroundSchedulers())
+            .compose(RxUtils.applyObservableNetworkSchedulers())
             .retryWhen(RxUtils.exponentialBackoff(Constants.INITIAL_RETRY_DELAY, Constants.MAX_RETRIES, NetworkUtils::shouldRetry))
             .subscribe(
                 html -> {
-                    final String[]      contents        = StringUtils.substringsBetween(StringUtils.substringBetween(html, "<div class=\"panel-pane pane-entity-field pane-node-body", ScmpClient.CLOSE_DIV), "<p>", "</p>");
-                    final String        imagesContainer = StringUtils.substringBetween(html, "<div class=\"swiper-container scmp-gallery-swiper\">", ScmpClient.CLOSE_DIV);
-                    final List<Image>   images          = new ArrayList<>();
-                    final StringBuilder builder         = new StringBuilder();
+                    final MarkerScanner.Matches matches         = ScmpClient.ARTICLE_SCANNER.scan(html);
+                    final List<Slice>           contents        = matches.allBetween(ScmpClient.TAG_OPEN_P, ScmpClient.TAG_CLOSE_P, matches.between(ScmpClient.TAG_BODY, ScmpClient.CLOSE_DIV));
+                    final Slice                 imagesContainer = matches.between(ScmpClient.TAG_GALLERY, ScmpClient.CLOSE_DIV);
+                    final List<Image>           images          = new ArrayList<>();
+                    final StringBuilder         builder         = new StringBuilder();
 
                     if (imagesContainer != null) {
-                        final String[] imageContainers = StringUtils.substringsBetween(imagesContainer, "<img ", "/>");
+                        final List<Slice> imageContainers = matches.allBetween(ScmpClient.TAG_IMAGE, ScmpClient.TAG_SELF_CLOSE, imagesContainer);
 
-                        for (final String imageContainer : imageContainers) {
-                            final String imageUrl         = StringUtils.substringBetween(imageContainer, "data-enlarge=\"", ScmpClient.CLOSE_QUOTE);
-                            final String imageDescription = StringUtils.substringBetween(imageContainer, "data-caption=\"", ScmpClient.CLOSE_QUOTE);
+                        for (final Slice imageContainer : imageContainers) {
+                            final String imageUrl         = Slice.asString(matches.between(ScmpClient.TAG_ENLARGE, ScmpClient.CLOSE_QUOTE, imageContainer));
+                            final String imageDescription = Slice.asString(matches.between(ScmpClient.TAG_CAPTION, ScmpClient.CLOSE_QUOTE, imageContainer));
 
                             if (imageUrl != null) images.add(new Image(imageUrl, imageDescription));
                         }
                     }
 
-                    for (final String content : contents) {
-                        final String imageUrl         = StringUtils.substringBetween(content, "data-original=\"", ScmpClient.CLOSE_QUOTE);
-                        final String imageDescription = StringUtils.substringBetween(content, "<img title=\"", ScmpClient.CLOSE_QUOTE);
+                    for (final Slice content : contents) {
+                        final String imageUrl         = Slice.asString(matches.between(ScmpClient.TAG_ORIGINAL, ScmpClient.CLOSE_QUOTE, content));
+                        final String imageDescription = Slice.asString(matches.between(ScmpClient.TAG_IMAGE_TITLE, ScmpClient.CLOSE_QUOTE, content));
 
                         if (imageUrl == null) {
                             builder.append(content).append("<br><br>");
@@ -1,12 +1,9 @@
 package com.github.ayltai.newspaper.client;
 
-import java.text.DateFormat;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Locale;
 
 import javax.inject.Inject;
 
@@ -21,6 +18,7 @@ import com.github.ayltai.newspaper.app.data.model.NewsItem;
 import com.github.ayltai.newspaper.app.data.model.Source;
 import com.github.ayltai.newspaper.net.ApiService;
 import com.github.ayltai.newspaper.net.NetworkUtils;
+import com.github.ayltai.newspaper.util.DateParser;
 import com.github.ayltai.newspaper.util.DevUtils;
 import com.github.ayltai.newspaper.util.RxUtils;
 import com.github.ayltai.newspaper.util.StringUtils;
@@ -38,13 +36,6 @@ final class SingPaoClient extends Client {
 
     //endregion
 
-    private static final ThreadLocal<DateFormat> DATE_FORMAT = new ThreadLocal<DateFormat>() {
-        @Override
-        protected DateFormat initialValue() {
-            return new SimpleDateFormat("yyyy-MM-dd", Locale.ENGLISH);
-        }
-    };
-
     @Inject
     SingPaoClient(@NonNull final OkHttpClient client, @NonNull final ApiService apiService, @NonNull final Source source) {
         super(client, apiService, source);
@@ -56,7 +47,7 @@ final class SingPaoClient extends Client {
     public Single<List<NewsItem>> getItems(@NonNull final String url) {
         return Single.create(emitter -> this.apiService
             .getHtml(url)
-            .compose(RxUtils.applyObservableBackgroundSchedulers())
+            .compose(RxUtils.applyObservableNetworkSchedulers())
             .retryWhen(RxUtils.exponentialBackoff(Constants.INITIAL_RETRY_DELAY, Constants.MAX_RETRIES, NetworkUtils::shouldRetry))
             .subscribe(
                 html -> {
@@ -75,7 +66,7 @@ final class SingPaoClient extends Client {
                         item.getImages().add(new Image(SingPaoClient.BASE_URI + StringUtils.substringBetween(section, "<img src='", SingPaoClient.TAG)));
 
                         try {
-                            item.setPublishDate(SingPaoClient.DATE_FORMAT.get().parse(StringUtils.substringBetween(section, "<font class='list_date'>", "<br>")));
+                            item.setPublishDate(DateParser.parseIsoDate(StringUtils.substringBetween(section, "<font class='list_date'>", "<br>")));
 
                             items.add(item);
                         } catch (final ParseException e) {
@@ -102,7 +93,7 @@ final class SingPaoClient extends Client {
 
             this.apiService
                 .getHtml(item.getLink())
-                .compose(RxUtils.applyObservableBackgroundSchedulers())
+                .compose(RxUtils.applyObservableNetworkSchedulers())
                 .retryWhen(RxUtils.exponentialBackoff(Constants.INITIAL_RETRY_DELAY, Constants.MAX_RETRIES, NetworkUtils::shouldRetry))
                 .subscribe(
                     html -> {
@@ -1,12 +1,9 @@
 package com.github.ayltai.newspaper.client;
 
-import java.text.DateFormat;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Locale;
 
 import javax.inject.Inject;
 
@@ -21,6 +18,7 @@ import com.github.ayltai.newspaper.app.data.model.NewsItem;
 import com.github.ayltai.newspaper.app.data.model.Source;
 import com.github.ayltai.newspaper.net.ApiService;
 import com.github.ayltai.newspaper.net.NetworkUtils;
+import com.github.ayltai.newspaper.util.DateParser;
 import com.github.ayltai.newspaper.util.DevUtils;
 import com.github.ayltai.newspaper.util.RxUtils;
 import com.github.ayltai.newspaper.util.StringUtils;
@@ -37,13 +35,6 @@ final class SingTaoClient extends Client {
 
     //endregion
 
-    private static final ThreadLocal<DateFormat> DATE_FORMAT = new ThreadLocal<DateFormat>() {
-        @Override
-        protected DateFormat initialValue() {
-            return new SimpleDateFormat("yyyy-MM-dd", Locale.ENGLISH);
-        }
-    };
-
     @Inject
     SingTaoClient(@NonNull final OkHttpClient client, @NonNull final ApiService apiService, @NonNull final Source source) {
         super(client, apiService, source);
@@ -55,7 +46,7 @@ final class SingTaoClient extends Client {
     public Single<List<NewsItem>> getItems(@NonNull final String url) {
         return Single.create(emitter -> this.apiService
             .getHtml(url)
-            .compose(RxUtils.applyObservableBackgroundSchedulers())
+            .compose(RxUtils.applyObservableNetworkSchedulers())
             .retryWhen(RxUtils.exponentialBackoff(Constants.INITIAL_RETRY_DELAY, Constants.MAX_RETRIES, NetworkUtils::shouldRetry))
             .subscribe(
                 html -> {
@@ -76,7 +67,7 @@ final class SingTaoClient extends Client {
                         if (image != null) item.getImages().add(new Image(image));
 
                         try {
-                            item.setPublishDate(SingTaoClient.DATE_FORMAT.get().parse(StringUtils.substringBetween(section, "<i class=\"fa fa-clock-o\"></i>", SingTaoClient.TAG_CLOSE)));
+                            item.setPublishDate(DateParser.parseIsoDate(StringUtils.substringBetween(section, "<i class=\"fa fa-clock-o\"></i>", SingTaoClient.TAG_CLOSE)));
 
                             items.add(item);
                         } catch (final ParseException e) {
@@ -103,7 +94,7 @@ final class SingTaoClient extends Client {
 
             this.apiService
                 .getHtml(item.getLink())
-                .compose(RxUtils.applyObservableBackgroundSchedulers())
+                .compose(RxUtils.applyObservableNetworkSchedulers())
                 .retryWhen(RxUtils.exponentialBackoff(Constants.INITIAL_RETRY_DELAY, Constants.MAX_RETRIES, NetworkUtils::shouldRetry))
                 .subscribe(
                     html -> {
@@ -1,12 +1,9 @@
 package com.github.ayltai.newspaper.client;
 
-import java.text.DateFormat;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Locale;
 
 import android.support.annotation.NonNull;
 import android.support.annotation.WorkerThread;
@@ -19,6 +16,7 @@ import com.github.ayltai.newspaper.app.data.model.NewsItem;
 import com.github.ayltai.newspaper.app.data.model.Source;
 import com.github.ayltai.newspaper.net.ApiService;
 import com.github.ayltai.newspaper.net.NetworkUtils;
+import com.github.ayltai.newspaper.util.DateParser;
 import com.github.ayltai.newspaper.util.DevUtils;
 import com.github.ayltai.newspaper.util.RxUtils;
 import com.github.ayltai.newspaper.util.StringUtils;
@@ -34,13 +32,6 @@ final class SingTaoRealtimeClient extends Client {
 
     //endregion
 
-    private static final ThreadLocal<DateFormat> DATE_FORMAT = new ThreadLocal<DateFormat>() {
-        @Override
-        protected DateFormat initialValue() {
-            return new SimpleDateFormat("yyyy-MM-dd HH:mm", Locale.ENGLISH);
-        }
-    };
-
     SingTaoRealtimeClient(@NonNull final OkHttpClient client, @NonNull final ApiService apiService, @NonNull final Source source) {
         super(client, apiService, source);
     }
@@ -51,7 +42,7 @@ final class SingTaoRealtimeClient extends Client {
     public Single<List<NewsItem>> getItems(@NonNull final String url) {
         return Single.create(emitter -> this.apiService
             .getHtml(url)
-            .compose(RxUtils.applyObservableBackgroundSchedulers())
+            .compose(RxUtils.applyObservableNetworkSchedulers())
             .retryWhen(RxUtils.exponentialBackoff(Constants.INITIAL_RETRY_DELAY, Constants.MAX_RETRIES, NetworkUtils::shouldRetry))
             .subscribe(
                 html -> {
@@ -71,7 +62,7 @@ final class SingTaoRealtimeClient extends Client {
                         if (image != null) item.getImages().add(new Image(image));
 
                         try {
-                            item.setPublishDate(SingTaoRealtimeClient.DATE_FORMAT.get().parse(StringUtils.substringBetween(section, "<i class=\"fa fa-clock-o mr5\"></i>", SingTaoRealtimeClient.TAG_CLOSE)));
+                            item.setPublishDate(DateParser.parseIsoDateTime(StringUtils.substringBetween(section, "<i class=\"fa fa-clock-o mr5\"></i>", SingTaoRealtimeClient.TAG_CLOSE)));
 
                             items.add(item);
                         } catch (final ParseException e) {
@@ -98,7 +89,7 @@ final class SingTaoRealtimeClient extends Client {
 
             this.apiService
                 .getHtml(item.getLink())
-                .compose(RxUtils.applyObservableBackgroundSchedulers())
+                .compose(RxUtils.applyObservableNetworkSchedulers())
                 .retryWhen(RxUtils.exponentialBackoff(Constants.INITIAL_RETRY_DELAY, Constants.MAX_RETRIES, NetworkUtils::shouldRetry))
                 .subscribe(
                     html -> {
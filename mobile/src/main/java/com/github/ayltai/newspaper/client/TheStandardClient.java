@@ -1,12 +1,9 @@
 package com.github.ayltai.newspaper.client;
 
-import java.text.DateFormat;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Locale;
 import java.util.regex.Pattern;
 
 import javax.inject.Inject;
@@ -22,6 +19,7 @@ import com.github.ayltai.newspaper.app.data.model.NewsItem;
 import com.github.ayltai.newspaper.app.data.model.Source;
 import com.github.ayltai.newspaper.net.ApiService;
 import com.github.ayltai.newspaper.net.NetworkUtils;
+import com.github.ayltai.newspaper.util.DateParser;
 import com.github.ayltai.newspaper.util.DevUtils;
 import com.github.ayltai.newspaper.util.RxUtils;
 import com.github.ayltai.newspaper.util.StringUtils;
@@ -39,20 +37,6 @@ final class TheStandardClient extends Client {
     private static final String OPEN_PARAGRAPH  = "<p>";
     private static final String CLOSE_PARAGRAPH = "</p>";
 
-    private static final ThreadLocal<DateFormat> DATE_FORMAT_LONG = new ThreadLocal<DateFormat>() {
-        @Override
-        protected DateFormat initialValue() {
-            return new SimpleDateFormat("dd MMM yyyy h:mm a", Locale.ENGLISH);
-        }
-    };
-
-    private static final ThreadLocal<DateFormat> DATE_FORMAT_SHORT = new ThreadLocal<DateFormat>() {
-        @Override
-        protected DateFormat initialValue() {
-            return new SimpleDateFormat("dd MMM yyyy", Locale.ENGLISH);
-        }
-    };
-
     //endregion
 
     @Inject
@@ -70,7 +54,7 @@ final class TheStandardClient extends Client {
         // TODO: Supports multi-page loading
         return Single.create(emitter -> this.apiService
             .postHtml(tokens[0], Integer.parseInt(sessionId), 1)
-            .compose(RxUtils.applyObservableBackgroundSchedulers())
+            .compose(RxUtils.applyObservableNetworkSchedulers())
             .retryWhen(RxUtils.exponentialBackoff(Constants.INITIAL_RETRY_DELAY, Constants.MAX_RETRIES, NetworkUtils::shouldRetry))
             .subscribe(
                 html -> {
@@ -97,13 +81,9 @@ final class TheStandardClient extends Client {
 
                             final String date = StringUtils.substringBetween(section, "<span>", "</span>");
                             try {
-                                item.setPublishDate(TheStandardClient.DATE_FORMAT_LONG.get().parse(date));
+                                item.setPublishDate(DateParser.parseDayMonthYear(date));
                             } catch (final ParseException e) {
-                                try {
-                                    item.setPublishDate(TheStandardClient.DATE_FORMAT_SHORT.get().parse(date));
-                                } catch (final ParseException x) {
-                                    // Ignored
-                                }
+                                // Ignored
                             }
 
                             items.add(item);
@@ -129,7 +109,7 @@ final class TheStandardClient extends Client {
 
             this.apiService
                 .getHtml(item.getLink())
-                .compose(RxUtils.applyObservableBackgroundSchedulers())
+                .compose(RxUtils.applyObservableNetworkSchedulers())
                 .retryWhen(RxUtils.exponentialBackoff(Constants.INITIAL_RETRY_DELAY, Constants.MAX_RETRIES, NetworkUtils::shouldRetry))
                 .subscribe(
                     fullHtml -> {
@@ -1,5 +1,6 @@
 package com.github.ayltai.newspaper.client;
 
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
@@ -31,6 +32,11 @@ final class WenWeiPoClient extends Client {
     private static final String CLOSE_QUOTE     = "\"";
     private static final String CLOSE_PARAGRAPH = "</p>";
     private static final String LINE_BREAKS     = "<br><br>";
+    private static final String CONTENT_START   = "<!-- Content start -->";
+    private static final String CONTENT_END     = "!-- Content end -->";
+    private static final String SECTION_START   = "<div class=\"content-art-box\">";
+
+    private static final Charset CHARSET = Charset.forName("Big5");
 
     //endregion
 
@@ -43,13 +49,12 @@ final class WenWeiPoClient extends Client {
     @NonNull
     @Override
     public Single<List<NewsItem>> getItems(@NonNull final String url) {
-        return Single.create(emitter -> this.apiService
-            .getHtml(url)
-            .compose(RxUtils.applyObservableBackgroundSchedulers())
+        return Single.create(emitter -> this.extractHtml(url, WenWeiPoClient.CHARSET, WenWeiPoClient.SECTION_START, null)
+            .compose(RxUtils.applyObservableNetworkSchedulers())
             .retryWhen(RxUtils.exponentialBackoff(Constants.INITIAL_RETRY_DELAY, Constants.MAX_RETRIES, NetworkUtils::shouldRetry))
             .subscribe(
                 html -> {
-                    final String[]       sections = StringUtils.substringsBetween(html, "<div class=\"content-art-box\">", "</article>");
+                    final String[]       sections = StringUtils.substringsBetween(html, WenWeiPoClient.SECTION_START, "</article>");
                     final List<NewsItem> items    = new ArrayList<>(sections.length);
                     final String         category = this.getCategoryName(url);
                     final Calendar       calendar = Calendar.getInstance();
@@ -101,13 +106,12 @@ final class WenWeiPoClient extends Client {
         return Single.create(emitter -> {
             if (DevUtils.isLoggable()) Log.d(this.getClass().getSimpleName(), item.getLink());
 
-            this.apiService
-                .getHtml(item.getLink())
-                .compose(RxUtils.applyObservableBackgroundSchedulers())
+            this.extractHtml(item.getLink(), WenWeiPoClient.CHARSET, WenWeiPoClient.CONTENT_START, WenWeiPoClient.CONTENT_END)
+                .compose(RxUtils.applyObservableNetworkSchedulers())
                 .retryWhen(RxUtils.exponentialBackoff(Constants.INITIAL_RETRY_DELAY, Constants.MAX_RETRIES, NetworkUtils::shouldRetry))
                 .subscribe(
                     fullHtml -> {
-                        final String      html            = StringUtils.substringBetween(fullHtml, "<!-- Content start -->", "!-- Content end -->");
+                        final String      html            = StringUtils.substringBetween(fullHtml, WenWeiPoClient.CONTENT_START, WenWeiPoClient.CONTENT_END);
                         final String[]    imageContainers = StringUtils.substringsBetween(html, "<img ", ">");
                         final List<Image> images          = new ArrayList<>();
 
@@ -1,15 +1,17 @@
 package com.github.ayltai.newspaper.data;
 
-import java.util.concurrent.Executors;
-
 import android.support.annotation.NonNull;
 
+import com.github.ayltai.newspaper.util.AppSchedulers;
+
 import io.reactivex.Scheduler;
-import io.reactivex.schedulers.Schedulers;
 import io.realm.Realm;
 
 public abstract class DataManager {
-    public static final Scheduler SCHEDULER = Schedulers.from(Executors.newSingleThreadExecutor());
+    /**
+     * The {@link Scheduler} of the only thread that writes to Realm.
+     */
+    public static final Scheduler SCHEDULER = AppSchedulers.database();
 
     private final Realm realm;
 
@@ -17,6 +19,15 @@ public abstract class DataManager {
         this.realm = realm;
     }
 
+    /**
+     * Returns a {@link Scheduler} for queries that do not write, so that they do not wait behind transactions on {@link #SCHEDULER}.
+     * <p>A {@link DataManager} created on the returned {@link Scheduler} must only be used on it.</p>
+     */
+    @NonNull
+    public static Scheduler getReadScheduler() {
+        return AppSchedulers.databaseReader();
+    }
+
     @NonNull
     public Realm getRealm() {
         return this.realm;
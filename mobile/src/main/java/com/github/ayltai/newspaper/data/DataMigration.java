@@ -0,0 +1,88 @@
+package com.github.ayltai.newspaper.data;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.github.ayltai.newspaper.app.data.model.NewsItem;
+import com.github.ayltai.newspaper.app.data.model.RefreshState;
+import com.github.ayltai.newspaper.app.data.model.SearchTerm;
+
+import io.realm.DynamicRealm;
+import io.realm.FieldAttribute;
+import io.realm.RealmMigration;
+import io.realm.RealmObjectSchema;
+import io.realm.RealmSchema;
+
+/**
+ * Migrates the stored data to the current schema version without losing it.
+ */
+final class DataMigration implements RealmMigration {
+    //region Constants
+
+    static final int SCHEMA_VERSION = 5;
+
+    private static final String CLASS_NEWS_ITEM     = NewsItem.class.getSimpleName();
+    private static final String CLASS_SEARCH_TERM   = SearchTerm.class.getSimpleName();
+    private static final String CLASS_REFRESH_STATE = RefreshState.class.getSimpleName();
+
+    /**
+     * Fields of {@link NewsItem} indexed since schema version 2.
+     */
+    private static final String[] NEWS_ITEM_INDEXES = {
+        NewsItem.FIELD_PUBLISH_DATE,
+        NewsItem.FIELD_SOURCE,
+        NewsItem.FIELD_CATEGORY,
+        NewsItem.FIELD_BOOKMARKED,
+        NewsItem.FIELD_LAST_ACCESSED_DATE
+    };
+
+    //endregion
+
+    @Override
+    public void migrate(@NonNull final DynamicRealm realm, final long oldVersion, final long newVersion) {
+        final RealmSchema schema = realm.getSchema();
+
+        if (oldVersion < 2) {
+            final RealmObjectSchema newsItemSchema = schema.get(DataMigration.CLASS_NEWS_ITEM);
+
+            if (newsItemSchema != null) {
+                for (final String field : DataMigration.NEWS_ITEM_INDEXES) {
+                    if (newsItemSchema.hasField(field) && !newsItemSchema.hasIndex(field)) newsItemSchema.addIndex(field);
+                }
+            }
+        }
+
+        if (oldVersion < 3 && schema.get(DataMigration.CLASS_SEARCH_TERM) == null) schema.create(DataMigration.CLASS_SEARCH_TERM)
+            .addField(SearchTerm.FIELD_TERM, String.class, FieldAttribute.INDEXED)
+            .addField(SearchTerm.FIELD_LINK, String.class, FieldAttribute.INDEXED)
+            .addField(SearchTerm.FIELD_SCORE, int.class);
+
+        if (oldVersion < 4 && schema.get(DataMigration.CLASS_REFRESH_STATE) == null) schema.create(DataMigration.CLASS_REFRESH_STATE)
+            .addField(RefreshState.FIELD_KEY, String.class, FieldAttribute.PRIMARY_KEY)
+            .addField(RefreshState.FIELD_SOURCE, String.class, FieldAttribute.INDEXED)
+            .addField(RefreshState.FIELD_CATEGORY, String.class)
+            .addField(RefreshState.FIELD_LAST_REFRESH_DATE, long.class)
+            .addField(RefreshState.FIELD_ITEM_COUNT, int.class)
+            .addField(RefreshState.FIELD_AVERAGE_LATENCY, long.class);
+
+        if (oldVersion < 5) {
+            final RealmObjectSchema newsItemSchema = schema.get(DataMigration.CLASS_NEWS_ITEM);
+
+            // The stored items are left unindexed, and are indexed by Housekeeper in the background instead of while Realm is being opened
+            if (newsItemSchema != null && !newsItemSchema.hasField(NewsItem.FIELD_INDEXED)) newsItemSchema.addField(NewsItem.FIELD_INDEXED, boolean.class, FieldAttribute.INDEXED);
+
+            // The entries made before unigrams and summaries were indexed are rebuilt along with the items
+            realm.delete(DataMigration.CLASS_SEARCH_TERM);
+        }
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object obj) {
+        return obj instanceof DataMigration;
+    }
+
+    @Override
+    public int hashCode() {
+        return DataMigration.class.hashCode();
+    }
+}
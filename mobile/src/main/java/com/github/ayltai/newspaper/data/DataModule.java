@@ -2,18 +2,19 @@ package com.github.ayltai.newspaper.data;
 
 import android.content.Context;
 import android.support.annotation.NonNull;
+import android.util.Log;
 
+import com.akaita.java.rxjava2debug.RxJava2Debug;
 import com.github.ayltai.newspaper.util.DevUtils;
 
 import dagger.Module;
 import dagger.Provides;
 import io.realm.Realm;
 import io.realm.RealmConfiguration;
+import io.realm.exceptions.RealmMigrationNeededException;
 
 @Module
 public final class DataModule {
-    private static final int SCHEMA_VERSION = 1;
-
     private static boolean isInitialized;
 
     private final Context context;
@@ -36,8 +37,8 @@ public final class DataModule {
                 Realm.init(this.context);
 
                 Realm.setDefaultConfiguration(new RealmConfiguration.Builder()
-                    .schemaVersion(DataModule.SCHEMA_VERSION)
-                    .deleteRealmIfMigrationNeeded()
+                    .schemaVersion(DataMigration.SCHEMA_VERSION)
+                    .migration(new DataMigration())
                     .compactOnLaunch()
                     .build());
             }
@@ -45,6 +46,15 @@ public final class DataModule {
             DataModule.isInitialized = true;
         }
 
-        return Realm.getDefaultInstance();
+        try {
+            return Realm.getDefaultInstance();
+        } catch (final RealmMigrationNeededException e) {
+            if (DevUtils.isLoggable()) Log.e(this.getClass().getSimpleName(), e.getMessage(), RxJava2Debug.getEnhancedStackTrace(e));
+
+            // The stored data is from a schema DataMigration does not know about, so it is discarded the way it used to be on every schema change
+            Realm.deleteRealm(Realm.getDefaultConfiguration());
+
+            return Realm.getDefaultInstance();
+        }
     }
 }
@@ -3,7 +3,6 @@ package com.github.ayltai.newspaper.data;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 
 import android.content.Context;
 import android.os.Bundle;
@@ -18,7 +17,6 @@ import com.github.ayltai.newspaper.util.DevUtils;
 import com.github.ayltai.newspaper.util.Irrelevant;
 import com.github.ayltai.newspaper.util.RxUtils;
 
-import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
 import io.reactivex.Scheduler;
 import io.reactivex.Single;
@@ -39,6 +37,15 @@ public abstract class RealmLoader<D extends Comparable<D>> extends RxLoader<D> {
         return DevUtils.isRunningUnitTest() ? Schedulers.trampoline() : DataManager.SCHEDULER;
     }
 
+    /**
+     * @return A {@link Scheduler} for queries that do not use {@link #getRealm()}.
+     * @see DataManager#getReadScheduler()
+     */
+    @NonNull
+    protected Scheduler getReadScheduler() {
+        return DevUtils.isRunningUnitTest() ? Schedulers.trampoline() : DataManager.getReadScheduler();
+    }
+
     @Nullable
     protected Realm getRealm() {
         return this.realm;
@@ -54,30 +61,39 @@ public abstract class RealmLoader<D extends Comparable<D>> extends RxLoader<D> {
         return true;
     }
 
+    /**
+     * Emits the local items first, followed by the accumulated results each time {@link #loadFromRemoteSource(Context, Bundle)} emits a batch of items.
+     * <p>Remote items replace local items that are equal to them. The returned {@link Flowable} completes after the remote source completes.</p>
+     */
     @NonNull
     @Override
     protected Flowable<List<D>> load(@NonNull final Context context, @Nullable final Bundle args) {
-        return Flowable.create(emitter -> this.loadFromLocalSource(context, args)
-            .zipWith(this.loadFromRemoteSource(context, args), (localItems, remoteItems) -> {
-                final Set<D> results = new ArraySet<>();
-                results.addAll(localItems);
-                results.addAll(remoteItems);
-
-                return new ArrayList<>(results);
+        return this.loadFromLocalSource(context, args)
+            .take(1)
+            .concatWith(this.loadFromRemoteSource(context, args))
+            .scanWith(ArraySet<D>::new, (results, items) -> {
+                final ArraySet<D> newResults = new ArraySet<>(results);
+                newResults.removeAll(items);
+                newResults.addAll(items);
+
+                return newResults;
             })
-            .subscribe(
-                results -> {
-                    Collections.sort(results);
+            .skip(1)
+            .map(results -> {
+                final List<D> items = new ArrayList<>(results);
+                Collections.sort(items);
 
-                    emitter.onNext(results);
-                },
-                emitter::onError
-            ), BackpressureStrategy.LATEST);
+                return items;
+            });
     }
 
     @NonNull
     protected abstract Flowable<List<D>> loadFromLocalSource(@NonNull Context context, @Nullable Bundle args);
 
+    /**
+     * Loads items from the remote source.
+     * <p>Implementations may emit multiple batches of items as soon as each of them is available, and should complete after the last one.</p>
+     */
     @NonNull
     protected abstract Flowable<List<D>> loadFromRemoteSource(@NonNull Context context, @Nullable Bundle args);
 
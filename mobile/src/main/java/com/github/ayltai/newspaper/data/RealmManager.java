@@ -0,0 +1,140 @@
+package com.github.ayltai.newspaper.data;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import android.content.Context;
+import android.support.annotation.NonNull;
+import android.util.Log;
+
+import com.github.ayltai.newspaper.util.DevUtils;
+
+import io.realm.Realm;
+
+/**
+ * Shares one {@link Realm} instance per thread among the operations running on it, counting references so that the instance is closed as soon as the last operation releases it.
+ * <p>Closing instances promptly keeps them from pinning old versions of the data, which makes the database file grow. In debug builds, instances held for longer than {@link #LEAK_TIMEOUT} are logged together with where they were acquired.</p>
+ */
+public final class RealmManager {
+    //region Constants
+
+    /**
+     * The time, in milliseconds, after which a reference not yet released is reported as a leak.
+     */
+    private static final long LEAK_TIMEOUT = 60 * 1000;
+
+    //endregion
+
+    private static final class Reference {
+        private final Realm              realm;
+        private final String             threadName   = Thread.currentThread().getName();
+        private final Deque<Acquisition> acquisitions = new ArrayDeque<>();
+
+        Reference(@NonNull final Realm realm) {
+            this.realm = realm;
+        }
+    }
+
+    private static final class Acquisition {
+        private final long      time = System.currentTimeMillis();
+        private final Throwable stackTrace;
+
+        private volatile boolean isReported;
+
+        Acquisition(final boolean isTracked) {
+            this.stackTrace = isTracked ? new Throwable("Realm acquired here") : null;
+        }
+    }
+
+    private static final ThreadLocal<Reference> REFERENCES      = new ThreadLocal<>();
+    private static final Set<Reference>         LIVE_REFERENCES = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    private RealmManager() {
+    }
+
+    /**
+     * Returns the {@link Realm} instance of the current thread, opening it if no operation on this thread holds it. Each call must be paired with a call to {@link #release(Realm)} on the same thread.
+     */
+    @NonNull
+    public static Realm acquire(@NonNull final Context context) {
+        Reference reference = RealmManager.REFERENCES.get();
+
+        if (reference == null) {
+            reference = new Reference(DaggerDataComponent.builder()
+                .dataModule(new DataModule(context))
+                .build()
+                .realm());
+
+            // A Realm instance also held outside this class may have been cached by a thread without a looper, and does not see the changes committed by other threads until it is refreshed
+            if (!reference.realm.isInTransaction()) reference.realm.refresh();
+
+            RealmManager.REFERENCES.set(reference);
+            RealmManager.LIVE_REFERENCES.add(reference);
+        }
+
+        final boolean isTracked = DevUtils.isLoggable();
+
+        synchronized (reference.acquisitions) {
+            reference.acquisitions.push(new Acquisition(isTracked));
+        }
+
+        if (isTracked) RealmManager.reportLeaks();
+
+        return reference.realm;
+    }
+
+    /**
+     * Releases a {@link Realm} instance returned by {@link #acquire(Context)} on the current thread, and closes it if no other operation on this thread holds it.
+     * @throws IllegalStateException If the instance was not acquired on the current thread.
+     */
+    public static void release(@NonNull final Realm realm) {
+        final Reference reference = RealmManager.REFERENCES.get();
+
+        if (reference == null || reference.realm != realm) throw new IllegalStateException("The Realm instance was not acquired on " + Thread.currentThread().getName());
+
+        final boolean isReleased;
+
+        synchronized (reference.acquisitions) {
+            reference.acquisitions.pop();
+
+            isReleased = reference.acquisitions.isEmpty();
+        }
+
+        if (isReleased) {
+            RealmManager.REFERENCES.remove();
+            RealmManager.LIVE_REFERENCES.remove(reference);
+
+            reference.realm.close();
+        }
+    }
+
+    /**
+     * @return The number of threads holding a {@link Realm} instance acquired from this class.
+     */
+    public static int getReferenceCount() {
+        return RealmManager.LIVE_REFERENCES.size();
+    }
+
+    private static void reportLeaks() {
+        final long now = System.currentTimeMillis();
+
+        for (final Reference reference : RealmManager.LIVE_REFERENCES) {
+            final Acquisition[] acquisitions;
+
+            synchronized (reference.acquisitions) {
+                acquisitions = reference.acquisitions.toArray(new Acquisition[reference.acquisitions.size()]);
+            }
+
+            for (final Acquisition acquisition : acquisitions) {
+                if (!acquisition.isReported && acquisition.stackTrace != null && now - acquisition.time > RealmManager.LEAK_TIMEOUT) {
+                    acquisition.isReported = true;
+
+                    Log.w(RealmManager.class.getSimpleName(), "A Realm instance acquired on " + reference.threadName + " has not been released for " + (now - acquisition.time) + " ms", acquisition.stackTrace);
+                }
+            }
+        }
+    }
+}
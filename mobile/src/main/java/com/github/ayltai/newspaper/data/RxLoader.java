@@ -1,5 +1,6 @@
 package com.github.ayltai.newspaper.data;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import android.content.Context;
@@ -21,6 +22,8 @@ public abstract class RxLoader<D> extends Loader<List<D>> {
     private final Bundle args;
 
     private CompositeDisposable disposables;
+    private List<D>             data;
+    private boolean             isComplete;
 
     //region Constructors
 
@@ -32,24 +35,48 @@ public abstract class RxLoader<D> extends Loader<List<D>> {
 
     //endregion
 
+    /**
+     * Returns whether {@link #load(Context, Bundle)} has completed. The last result is delivered once more when it completes, so that callbacks can tell the final result from the ones still being streamed.
+     */
+    public boolean isComplete() {
+        return this.isComplete;
+    }
+
     @CallSuper
     @Override
     protected void onForceLoad() {
         this.prepareDisposables();
 
+        this.data       = null;
+        this.isComplete = false;
+
         this.disposables.add(this.load(this.getContext(), this.args)
             .compose(RxUtils.applyFlowableBackgroundToMainSchedulers())
             .subscribe(
-                this::deliverResult,
+                data -> {
+                    this.data = data;
+
+                    this.deliverResult(data);
+                },
                 error -> {
                     if (DevUtils.isLoggable()) Log.e(this.getClass().getSimpleName(), error.getMessage(), RxJava2Debug.getEnhancedStackTrace(error));
-                }));
+
+                    this.onComplete();
+                },
+                this::onComplete));
     }
 
+    /**
+     * Delivers the last result again if the load has completed, or loads it otherwise.
+     */
     @CallSuper
     @Override
     protected void onStartLoading() {
-        this.onForceLoad();
+        if (this.isComplete) {
+            this.deliverResult(this.data);
+        } else {
+            this.onForceLoad();
+        }
     }
 
     @CallSuper
@@ -78,6 +105,15 @@ public abstract class RxLoader<D> extends Loader<List<D>> {
     @NonNull
     protected abstract Flowable<List<D>> load(@NonNull Context context, @Nullable Bundle args);
 
+    private void onComplete() {
+        this.isComplete = true;
+
+        // A new instance, as the loader manager does not deliver the same result twice
+        this.data = this.data == null ? new ArrayList<>() : new ArrayList<>(this.data);
+
+        this.deliverResult(this.data);
+    }
+
     private void prepareDisposables() {
         if (this.disposables == null) this.disposables = new CompositeDisposable();
     }
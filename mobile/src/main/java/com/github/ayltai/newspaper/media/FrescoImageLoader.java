@@ -45,6 +45,7 @@ import com.facebook.imagepipeline.core.ImagePipelineFactory;
 import com.facebook.imagepipeline.image.CloseableBitmap;
 import com.facebook.imagepipeline.image.CloseableImage;
 import com.facebook.imagepipeline.request.ImageRequest;
+import com.facebook.imagepipeline.request.ImageRequestBuilder;
 import com.github.ayltai.newspaper.R;
 import com.github.ayltai.newspaper.util.DevUtils;
 import com.github.ayltai.newspaper.util.Optional;
@@ -81,25 +82,37 @@ public final class FrescoImageLoader implements ImageLoader, Closeable, Lifecycl
         this.context = context.getApplicationContext();
     }
 
-    @SuppressWarnings("IllegalCatch")
     @NonNull
     public static Maybe<Bitmap> loadImage(@NonNull final String uri) {
-        return Single.<CloseableReference<CloseableImage>>create(
+        return FrescoImageLoader.loadImage(uri, false);
+    }
+
+    /**
+     * Loads and decodes the image at the given URI.
+     * @param isCacheOnly {@code true} to load the image only if it is cached, such as while saving data.
+     * @return The decoded image, or nothing if it cannot be decoded or is not cached.
+     */
+    @SuppressWarnings("IllegalCatch")
+    @NonNull
+    public static Maybe<Bitmap> loadImage(@NonNull final String uri, final boolean isCacheOnly) {
+        return Single.<Optional<CloseableReference<CloseableImage>>>create(
             emitter -> {
-                final DataSource<CloseableReference<CloseableImage>> source = Fresco.getImagePipeline().fetchDecodedImage(ImageRequest.fromUri(uri), false);
+                final DataSource<CloseableReference<CloseableImage>> source = Fresco.getImagePipeline().fetchDecodedImage(ImageRequestBuilder.newBuilderWithSource(Uri.parse(uri))
+                    .setLowestPermittedRequestLevel(isCacheOnly ? ImageRequest.RequestLevel.DISK_CACHE : ImageRequest.RequestLevel.FULL_FETCH)
+                    .build(), false);
 
                 try {
-                    if (!emitter.isDisposed()) emitter.onSuccess(DataSources.waitForFinalResult(source));
+                    if (!emitter.isDisposed()) emitter.onSuccess(Optional.of(DataSources.waitForFinalResult(source)));
                 } catch (final Throwable error) {
                     if (!emitter.isDisposed()) emitter.onError(error);
                 } finally {
                     source.close();
                 }
             })
-            .compose(RxUtils.applySingleBackgroundSchedulers())
+            .compose(RxUtils.applySingleImageSchedulers())
             .map(reference -> {
-                if (reference.isValid()) {
-                    final CloseableImage image = reference.get();
+                if (reference.isPresent() && reference.get().isValid()) {
+                    final CloseableImage image = reference.get().get();
 
                     // TODO: Checks image size to avoid out-of-memory error
 
@@ -108,7 +121,7 @@ public final class FrescoImageLoader implements ImageLoader, Closeable, Lifecycl
 
                 return Optional.<Bitmap>empty();
             })
-            .compose(RxUtils.applySingleBackgroundSchedulers())
+            .compose(RxUtils.applySingleImageSchedulers())
             .flatMapMaybe(optional -> {
                 if (optional.isPresent()) return Maybe.just(optional.get());
 
@@ -116,6 +129,15 @@ public final class FrescoImageLoader implements ImageLoader, Closeable, Lifecycl
             });
     }
 
+    /**
+     * Returns whether the image at the given URI is in the disk cache, so that it can be shown without downloading it.
+     */
+    @NonNull
+    public static Single<Boolean> isCached(@NonNull final Uri uri) {
+        return Single.fromCallable(() -> FrescoImageLoader.getFileCache(ImageRequest.fromUri(uri)).exists())
+            .compose(RxUtils.applySingleImageSchedulers());
+    }
+
     @Override
     public void loadImage(final int requestId, final Uri uri, final ImageLoader.Callback callback) {
         final ImageRequest request = ImageRequest.fromUri(uri);
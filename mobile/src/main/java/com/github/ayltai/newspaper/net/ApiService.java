@@ -5,10 +5,12 @@ import android.support.annotation.NonNull;
 import com.github.ayltai.newspaper.rss.RssFeed;
 
 import io.reactivex.Observable;
+import okhttp3.ResponseBody;
 import retrofit2.http.Field;
 import retrofit2.http.FormUrlEncoded;
 import retrofit2.http.GET;
 import retrofit2.http.POST;
+import retrofit2.http.Streaming;
 import retrofit2.http.Url;
 
 public interface ApiService {
@@ -20,6 +22,11 @@ public interface ApiService {
     @GET
     Observable<String> getHtml(@Url String url);
 
+    @NonNull
+    @Streaming
+    @GET
+    Observable<ResponseBody> getBody(@Url String url);
+
     @NonNull
     @FormUrlEncoded
     @POST
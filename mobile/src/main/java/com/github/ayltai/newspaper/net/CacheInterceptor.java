@@ -0,0 +1,84 @@
+package com.github.ayltai.newspaper.net;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import android.support.annotation.NonNull;
+import android.text.TextUtils;
+
+import okhttp3.CacheControl;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * A network interceptor that makes responses from configured hosts cacheable for a minimum freshness window when the server sends neither validators nor freshness headers.
+ * <p>Responses carrying an {@code ETag}, a {@code Last-Modified} or any freshness header are left untouched, so that the HTTP cache honours the server, including its {@code no-cache} and {@code max-age=0}, and revalidates them with conditional requests.</p>
+ */
+public final class CacheInterceptor implements Interceptor {
+    //region Constants
+
+    private static final String HEADER_CACHE_CONTROL = "Cache-Control";
+    private static final String HEADER_ETAG          = "ETag";
+    private static final String HEADER_LAST_MODIFIED = "Last-Modified";
+    private static final String HEADER_EXPIRES       = "Expires";
+    private static final String HEADER_PRAGMA        = "Pragma";
+    private static final String METHOD_GET           = "GET";
+
+    //endregion
+
+    private final Map<String, Integer> minFreshness = new ConcurrentHashMap<>();
+
+    CacheInterceptor() {
+    }
+
+    /**
+     * Returns the minimum freshness window, in seconds, applied to responses from the given host.
+     * @param host The host name of the request.
+     * @return The minimum freshness window of the host, or {@code 0} if the host is not configured.
+     */
+    public int getMinFreshness(@NonNull final String host) {
+        final Integer seconds = this.minFreshness.get(host);
+
+        return seconds == null ? 0 : seconds;
+    }
+
+    /**
+     * Sets the minimum freshness window, in seconds, applied to responses without validators from the given host.
+     * @param host The host name of the requests.
+     * @param seconds The minimum freshness window. {@code 0} disables caching of responses without validators.
+     */
+    public void setMinFreshness(@NonNull final String host, final int seconds) {
+        this.minFreshness.put(host, Math.max(0, seconds));
+    }
+
+    @NonNull
+    @Override
+    public Response intercept(@NonNull final Chain chain) throws IOException {
+        final Request  request  = chain.request();
+        final Response response = chain.proceed(request);
+
+        if (!CacheInterceptor.METHOD_GET.equals(request.method()) || !response.isSuccessful() || request.cacheControl().noStore()) return response;
+        if (CacheInterceptor.hasAnyHeader(response, CacheInterceptor.HEADER_ETAG, CacheInterceptor.HEADER_LAST_MODIFIED, CacheInterceptor.HEADER_CACHE_CONTROL, CacheInterceptor.HEADER_EXPIRES, CacheInterceptor.HEADER_PRAGMA)) return response;
+
+        final int minFreshness = this.getMinFreshness(request.url().host());
+        if (minFreshness <= 0) return response;
+
+        return response.newBuilder()
+            .header(CacheInterceptor.HEADER_CACHE_CONTROL, new CacheControl.Builder()
+                .maxAge(minFreshness, TimeUnit.SECONDS)
+                .build()
+                .toString())
+            .build();
+    }
+
+    private static boolean hasAnyHeader(@NonNull final Response response, @NonNull final String... names) {
+        for (final String name : names) {
+            if (!TextUtils.isEmpty(response.header(name))) return true;
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.ayltai.newspaper.net;
+
+import java.io.IOException;
+
+import android.support.annotation.NonNull;
+
+/**
+ * Thrown instead of sending a request to a host whose circuit is open.
+ * @see HostState
+ */
+public final class CircuitOpenException extends IOException {
+    CircuitOpenException(@NonNull final String host) {
+        super("Requests to " + host + " are suspended after repeated failures");
+    }
+}
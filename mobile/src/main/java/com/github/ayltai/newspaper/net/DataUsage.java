@@ -0,0 +1,100 @@
+package com.github.ayltai.newspaper.net;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import android.support.annotation.NonNull;
+
+import com.github.ayltai.newspaper.analytics.DataUsageEvent;
+import com.github.ayltai.newspaper.analytics.EventLogger;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+
+/**
+ * Counts the bytes of the response bodies received over the network in a session, separately for news and for media, so that the savings of {@link NetworkUtils#isDataSaving(android.content.Context)} can be verified.
+ * <p>Bodies are counted as received, before decompression. Responses served from the HTTP cache are not counted.</p>
+ */
+public final class DataUsage {
+    private static final class CountingInterceptor implements Interceptor {
+        private final AtomicLong bytes = new AtomicLong();
+
+        @NonNull
+        @Override
+        public Response intercept(@NonNull final Chain chain) throws IOException {
+            final Response     response = chain.proceed(chain.request());
+            final ResponseBody body     = response.body();
+
+            if (body == null) return response;
+
+            return response.newBuilder()
+                .body(ResponseBody.create(body.contentType(), body.contentLength(), Okio.buffer(new ForwardingSource(body.source()) {
+                    @Override
+                    public long read(@NonNull final Buffer sink, final long byteCount) throws IOException {
+                        final long count = super.read(sink, byteCount);
+                        if (count > 0) CountingInterceptor.this.bytes.addAndGet(count);
+
+                        return count;
+                    }
+                })))
+                .build();
+        }
+    }
+
+    private final DataUsage.CountingInterceptor newsInterceptor  = new DataUsage.CountingInterceptor();
+    private final DataUsage.CountingInterceptor mediaInterceptor = new DataUsage.CountingInterceptor();
+
+    DataUsage() {
+    }
+
+    /**
+     * Returns the number of bytes of news, such as feeds and pages, received in this session.
+     */
+    public long getNewsBytes() {
+        return this.newsInterceptor.bytes.get();
+    }
+
+    /**
+     * Returns the number of bytes of images and videos received in this session.
+     */
+    public long getMediaBytes() {
+        return this.mediaInterceptor.bytes.get();
+    }
+
+    /**
+     * Returns the network interceptor that counts news.
+     */
+    @NonNull
+    Interceptor getNewsInterceptor() {
+        return this.newsInterceptor;
+    }
+
+    /**
+     * Returns the network interceptor that counts images and videos.
+     */
+    @NonNull
+    Interceptor getMediaInterceptor() {
+        return this.mediaInterceptor;
+    }
+
+    /**
+     * Logs the bytes received in this session as a {@link DataUsageEvent}, unless there are none, and starts a new session.
+     * @param isDataSaving {@code true} if data is being saved.
+     */
+    public void export(@NonNull final EventLogger eventLogger, final boolean isDataSaving) {
+        final long newsBytes  = this.newsInterceptor.bytes.getAndSet(0);
+        final long mediaBytes = this.mediaInterceptor.bytes.getAndSet(0);
+
+        if (newsBytes + mediaBytes > 0) eventLogger.logEvent(new DataUsageEvent(newsBytes, mediaBytes, isDataSaving));
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "DataUsage { news = " + this.getNewsBytes() + " bytes, media = " + this.getMediaBytes() + " bytes }";
+    }
+}
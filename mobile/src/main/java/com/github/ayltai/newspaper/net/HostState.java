@@ -0,0 +1,220 @@
+package com.github.ayltai.newspaper.net;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import android.support.annotation.NonNull;
+
+/**
+ * The circuit breaker and the adaptive concurrency limit of the requests to a host.
+ * <p>The circuit opens after {@link #FAILURE_THRESHOLD} consecutive failures, so that requests fail fast instead of waiting for a host that is down. After {@link #OPEN_DURATION}, a single probe request is let through, and the circuit closes again if it succeeds.</p>
+ * <p>The concurrency limit grows while responses are about as fast as the fastest one recently seen, and shrinks when they slow down or fail, so that a slow host is not given more requests than it can serve. Requests over the limit are queued before they take a thread, so that a slow host never holds up the others.</p>
+ */
+public final class HostState {
+    //region Constants
+
+    public static final int STATE_CLOSED    = 0;
+    public static final int STATE_OPEN      = 1;
+    public static final int STATE_HALF_OPEN = 2;
+
+    /**
+     * The number of consecutive failures after which the circuit opens.
+     */
+    static final int FAILURE_THRESHOLD = 5;
+
+    /**
+     * The time, in milliseconds, for which the circuit stays open before a probe request is let through.
+     */
+    static final long OPEN_DURATION = 30 * 1000;
+
+    static final int INITIAL_LIMIT = 4;
+    static final int MIN_LIMIT     = 1;
+
+    /**
+     * The maximum concurrency limit, which is the number of threads of {@link com.github.ayltai.newspaper.util.AppSchedulers#network()}, as a host cannot be given more requests than there are threads to make them.
+     */
+    static final int MAX_LIMIT = 8;
+
+    /**
+     * The factor by which a response may be slower than the fastest recent one without shrinking the concurrency limit.
+     */
+    private static final int LATENCY_TOLERANCE = 2;
+
+    /**
+     * The time, in milliseconds, after which the fastest response seen is forgotten, so that the limit follows the host when it gets permanently slower.
+     */
+    private static final long LATENCY_WINDOW = 5 * 60 * 1000;
+
+    //endregion
+
+    private final String         host;
+    private final Deque<Runnable> waitingTasks = new ArrayDeque<>();
+
+    private int     state = HostState.STATE_CLOSED;
+    private boolean isProbing;
+    private int     consecutiveFailures;
+    private long    openedDate;
+    private int     limit = HostState.INITIAL_LIMIT;
+    private int     inFlight;
+    private long    minLatency;
+    private long    minLatencyDate;
+
+    HostState(@NonNull final String host) {
+        this.host = host;
+    }
+
+    @NonNull
+    public String getHost() {
+        return this.host;
+    }
+
+    /**
+     * @return One of {@link #STATE_CLOSED}, {@link #STATE_OPEN} and {@link #STATE_HALF_OPEN}.
+     */
+    public synchronized int getState() {
+        return this.state;
+    }
+
+    public synchronized int getConsecutiveFailures() {
+        return this.consecutiveFailures;
+    }
+
+    public synchronized int getLimit() {
+        return this.limit;
+    }
+
+    public synchronized int getInFlight() {
+        return this.inFlight;
+    }
+
+    public synchronized int getWaiting() {
+        return this.waitingTasks.size();
+    }
+
+    /**
+     * @return The latency, in milliseconds, of the fastest recent response, or {@code 0} if there is none.
+     */
+    public synchronized long getMinLatency() {
+        return this.minLatency;
+    }
+
+    /**
+     * Checks whether a request to the host is allowed. Each successful call must be followed by a call to {@link #onSuccess(long, long)}, {@link #onFailure(long)}, {@link #onOverload()} or {@link #onCancel()}.
+     * @param now The current time, in milliseconds.
+     * @throws CircuitOpenException If the circuit is open, or a probe request is already in flight.
+     */
+    synchronized void acquire(final long now) throws CircuitOpenException {
+        if (this.state == HostState.STATE_OPEN) {
+            if (now - this.openedDate < HostState.OPEN_DURATION) throw new CircuitOpenException(this.host);
+
+            this.state = HostState.STATE_HALF_OPEN;
+        }
+
+        if (this.state == HostState.STATE_HALF_OPEN) {
+            if (this.isProbing) throw new CircuitOpenException(this.host);
+
+            this.isProbing = true;
+        }
+    }
+
+    /**
+     * Runs the given task at once if fewer tasks than the limit are running, or queues it until one of them calls {@link #release()}.
+     */
+    void admit(@NonNull final Runnable task) {
+        synchronized (this) {
+            if (this.inFlight >= this.limit || !this.waitingTasks.isEmpty()) {
+                this.waitingTasks.add(task);
+
+                return;
+            }
+
+            this.inFlight++;
+        }
+
+        task.run();
+    }
+
+    /**
+     * Removes the given task from the queue.
+     * @return {@code true} if the task was still waiting, or {@code false} if it has been run.
+     */
+    synchronized boolean cancel(@NonNull final Runnable task) {
+        return this.waitingTasks.remove(task);
+    }
+
+    /**
+     * Records the end of a task run by {@link #admit(Runnable)}, and runs the tasks waiting for the slots freed.
+     */
+    void release() {
+        final List<Runnable> tasks = new ArrayList<>();
+
+        synchronized (this) {
+            if (this.inFlight > 0) this.inFlight--;
+
+            while (this.inFlight < this.limit && !this.waitingTasks.isEmpty()) {
+                this.inFlight++;
+
+                tasks.add(this.waitingTasks.poll());
+            }
+        }
+
+        for (final Runnable task : tasks) task.run();
+    }
+
+    /**
+     * Records a response from the host.
+     * @param latency The time, in milliseconds, taken by the host to respond.
+     */
+    synchronized void onSuccess(final long latency, final long now) {
+        this.state               = HostState.STATE_CLOSED;
+        this.consecutiveFailures = 0;
+
+        if (this.minLatency == 0 || latency < this.minLatency || now - this.minLatencyDate > HostState.LATENCY_WINDOW) {
+            this.minLatency     = Math.max(1, latency);
+            this.minLatencyDate = now;
+        }
+
+        if (latency <= this.minLatency * HostState.LATENCY_TOLERANCE) {
+            this.limit = Math.min(HostState.MAX_LIMIT, this.limit + 1);
+        } else {
+            this.limit = Math.max(HostState.MIN_LIMIT, this.limit * 3 / 4);
+        }
+
+        this.isProbing = false;
+    }
+
+    /**
+     * Records a request that the host failed to respond to, or responded to with a server error.
+     */
+    synchronized void onFailure(final long now) {
+        this.consecutiveFailures++;
+        this.limit = Math.max(HostState.MIN_LIMIT, this.limit / 2);
+
+        if (this.state == HostState.STATE_HALF_OPEN || this.consecutiveFailures >= HostState.FAILURE_THRESHOLD) {
+            this.state      = HostState.STATE_OPEN;
+            this.openedDate = now;
+        }
+
+        this.isProbing = false;
+    }
+
+    /**
+     * Records a request that the host rejected for being sent too often. The host is up, so the circuit is not affected.
+     */
+    synchronized void onOverload() {
+        if (this.state == HostState.STATE_HALF_OPEN) this.state = HostState.STATE_CLOSED;
+
+        this.limit = Math.max(HostState.MIN_LIMIT, this.limit / 2);
+
+        this.isProbing = false;
+    }
+
+    /**
+     * Records a request that did not tell anything about the host, such as a cancelled request or a response served from the cache. If it was a probe request, the next request probes the host instead.
+     */
+    synchronized void onCancel() {
+        this.isProbing = false;
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.ayltai.newspaper.net;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.Log;
+
+import com.akaita.java.rxjava2debug.RxJava2Debug;
+import com.github.ayltai.newspaper.util.DevUtils;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import okio.Okio;
+
+/**
+ * Extracts a region of a HTML page while it is being downloaded.
+ * <p>Characters are decoded as they arrive. Everything before the start marker is discarded, and nothing after the end marker is decoded or kept.</p>
+ * <p>The rest of the page is still downloaded, without being decoded, because the HTTP cache only keeps a response that is read to the end. Closing it early would save the footer of one download, but lose the {@code ETag} and {@code Last-Modified} validators that let later requests be answered with a {@code 304} and no body at all.</p>
+ */
+public final class HtmlExtractor {
+    private static final int     BUFFER_SIZE     = 8192;
+    private static final Charset DEFAULT_CHARSET = Charset.forName("UTF-8");
+
+    private HtmlExtractor() {
+    }
+
+    /**
+     * Reads the given response body until the region between {@code start} and {@code end} has been seen, skips the rest of it, and closes it.
+     * @param body The response body to read.
+     * @param charset The charset to decode the body with, or {@code null} to use the one declared by the response, which defaults to UTF-8.
+     * @param start The marker the region starts with, or {@code null} to start from the beginning of the page.
+     * @param end The marker the region ends with, or {@code null} to read until the end of the page.
+     * @return The region, including both markers. It is empty if {@code start} is not found, and runs to the end of the page if {@code end} is not found after {@code start}.
+     * @throws IOException If the body cannot be read.
+     */
+    @NonNull
+    public static String extract(@NonNull final ResponseBody body, @Nullable final Charset charset, @Nullable final String start, @Nullable final String end) throws IOException {
+        final MediaType     contentType = body.contentType();
+        final Reader        reader      = new InputStreamReader(body.byteStream(), charset == null ? contentType == null ? HtmlExtractor.DEFAULT_CHARSET : contentType.charset(HtmlExtractor.DEFAULT_CHARSET) : charset);
+        final StringBuilder builder     = new StringBuilder();
+        final char[]        buffer      = new char[HtmlExtractor.BUFFER_SIZE];
+
+        try {
+            boolean isStarted = start == null;
+            int     from      = 0;
+            int     length;
+
+            while ((length = reader.read(buffer)) != -1) {
+                builder.append(buffer, 0, length);
+
+                if (!isStarted) {
+                    final int index = builder.indexOf(start, from);
+
+                    if (index < 0) {
+                        // Keeps only the characters that may be the beginning of a start marker split across reads
+                        builder.delete(0, Math.max(0, builder.length() - start.length() + 1));
+                        from = 0;
+
+                        continue;
+                    }
+
+                    builder.delete(0, index);
+
+                    isStarted = true;
+                    from      = start.length();
+                }
+
+                if (end != null) {
+                    final int index = builder.indexOf(end, from);
+
+                    if (index >= 0) {
+                        builder.setLength(index + end.length());
+
+                        HtmlExtractor.drain(body);
+
+                        return builder.toString();
+                    }
+
+                    from = Math.max(from, builder.length() - end.length() + 1);
+                }
+            }
+
+            return isStarted ? builder.toString() : "";
+        } finally {
+            body.close();
+        }
+    }
+
+    /**
+     * Reads the rest of the given body without decoding it, so that the response is written to the HTTP cache.
+     */
+    private static void drain(@NonNull final ResponseBody body) {
+        try {
+            body.source().readAll(Okio.blackhole());
+        } catch (final IOException e) {
+            // The region has been read already, so only the cache entry is lost
+            if (DevUtils.isLoggable()) Log.w(HtmlExtractor.class.getSimpleName(), e.getMessage(), RxJava2Debug.getEnhancedStackTrace(e));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.ayltai.newspaper.net;
 
+import javax.inject.Named;
 import javax.inject.Singleton;
 
 import android.support.annotation.NonNull;
@@ -15,7 +16,23 @@ public interface HttpComponent {
     @NonNull
     OkHttpClient httpClient();
 
+    @NonNull
+    @Named(HttpModule.MEDIA)
+    OkHttpClient mediaHttpClient();
+
     ApiService apiService();
 
+    @NonNull
+    CacheInterceptor cacheInterceptor();
+
+    @NonNull
+    ResilienceInterceptor resilienceInterceptor();
+
+    @NonNull
+    NetworkMetrics networkMetrics();
+
+    @NonNull
+    DataUsage dataUsage();
+
     void inject(Client client);
 }
@@ -1,58 +1,125 @@
 package com.github.ayltai.newspaper.net;
 
+import java.io.File;
 import java.util.concurrent.TimeUnit;
 
+import javax.inject.Named;
 import javax.inject.Singleton;
 
+import android.content.Context;
 import android.support.annotation.NonNull;
 
 import com.github.ayltai.newspaper.BuildConfig;
+import com.github.ayltai.newspaper.Constants;
+import com.github.ayltai.newspaper.rss.RssConverterFactory;
 
 import dagger.Module;
 import dagger.Provides;
+import okhttp3.Cache;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.EventListener;
 import okhttp3.OkHttpClient;
-import okhttp3.Response;
-import okhttp3.ResponseBody;
 import retrofit2.Retrofit;
 import retrofit2.converter.scalars.ScalarsConverterFactory;
-import retrofit2.converter.simplexml.SimpleXmlConverterFactory;
 
 @Module
-final class HttpModule {
+public final class HttpModule {
+    /**
+     * The qualifier of the {@link OkHttpClient} used to download images and videos.
+     */
+    public static final String MEDIA = "media";
+
     private static final int TIMEOUT_CONNECT = 10;
     private static final int TIMEOUT_READ    = 30;
     private static final int TIMEOUT_WRITE   = 30;
 
-    private HttpModule() {
+    private static final String CACHE_DIRECTORY = "http";
+
+    private static final int MAX_IDLE_CONNECTIONS = 8;
+    private static final int KEEP_ALIVE_DURATION  = 5;
+
+    private static final int MEDIA_MAX_REQUESTS          = 16;
+    private static final int MEDIA_MAX_REQUESTS_PER_HOST = 3;
+
+    private final Context context;
+
+    public HttpModule(@NonNull final Context context) {
+        this.context = context.getApplicationContext();
+    }
+
+    @Singleton
+    @NonNull
+    @Provides
+    static CacheInterceptor provideCacheInterceptor() {
+        return new CacheInterceptor();
+    }
+
+    @Singleton
+    @NonNull
+    @Provides
+    static ResilienceInterceptor provideResilienceInterceptor() {
+        return new ResilienceInterceptor();
+    }
+
+    @Singleton
+    @NonNull
+    @Provides
+    static NetworkMetrics provideNetworkMetrics() {
+        return new NetworkMetrics();
     }
 
     @Singleton
     @NonNull
     @Provides
-    static OkHttpClient provideHttpClient() {
+    static DataUsage provideDataUsage() {
+        return new DataUsage();
+    }
+
+    @Singleton
+    @NonNull
+    @Provides
+    OkHttpClient provideHttpClient(@NonNull final CacheInterceptor cacheInterceptor, @NonNull final ResilienceInterceptor resilienceInterceptor, @NonNull final NetworkMetrics networkMetrics, @NonNull final DataUsage dataUsage) {
         final OkHttpClient.Builder builder = new OkHttpClient.Builder()
+            .cache(new Cache(new File(this.context.getCacheDir(), HttpModule.CACHE_DIRECTORY), Constants.CACHE_SIZE_MAX_SMALL))
+            .connectionPool(new ConnectionPool(HttpModule.MAX_IDLE_CONNECTIONS, HttpModule.KEEP_ALIVE_DURATION, TimeUnit.MINUTES))
+            .eventListenerFactory(new TimingEventListener.Factory(networkMetrics))
+            .addInterceptor(resilienceInterceptor)
+            .addNetworkInterceptor(cacheInterceptor)
+            .addNetworkInterceptor(dataUsage.getNewsInterceptor())
             .connectTimeout(HttpModule.TIMEOUT_CONNECT, TimeUnit.SECONDS)
             .readTimeout(HttpModule.TIMEOUT_READ, TimeUnit.SECONDS)
             .writeTimeout(HttpModule.TIMEOUT_WRITE, TimeUnit.SECONDS)
             .addInterceptor(chain -> chain.proceed(chain.request()
                 .newBuilder()
                 .header("User-Agent", BuildConfig.APPLICATION_ID + " " + BuildConfig.VERSION_NAME)
-                .build()))
-            .addInterceptor(chain -> {
-                final Response response = chain.proceed(chain.request());
+                .build()));
 
-                if (chain.request().url().host().contains("news.wenweipo.com")) {
-                    final ResponseBody body = response.body();
+        return builder.build();
+    }
 
-                    if (body == null) return response;
+    /**
+     * Returns a client for images and videos that shares the connection pool and the threads of the given client.
+     * <p>Fresco enqueues its calls, so images are admitted by a dispatcher of their own with lower limits, and downloading thumbnails never takes all the connections to a host that news are fetched from. Retrofit and ExoPlayer execute their calls synchronously, which no dispatcher limits, so news are limited per host by the {@link ResilienceInterceptor} instead, and videos are not limited.</p>
+     * <p>Media are cached by Fresco and ExoPlayer, and are not attributed to sources, so the HTTP cache and the {@link NetworkMetrics} are left out. They do not count towards the {@link ResilienceInterceptor} either, so that they neither take its slots nor trip the circuits of the hosts that news are fetched from.</p>
+     */
+    @Singleton
+    @NonNull
+    @Provides
+    @Named(HttpModule.MEDIA)
+    static OkHttpClient provideMediaHttpClient(@NonNull final OkHttpClient httpClient, @NonNull final ResilienceInterceptor resilienceInterceptor, @NonNull final DataUsage dataUsage) {
+        final Dispatcher dispatcher = new Dispatcher(httpClient.dispatcher().executorService());
+        dispatcher.setMaxRequests(HttpModule.MEDIA_MAX_REQUESTS);
+        dispatcher.setMaxRequestsPerHost(HttpModule.MEDIA_MAX_REQUESTS_PER_HOST);
 
-                    return response.newBuilder()
-                        .body(ResponseBody.create(body.contentType(), new String(body.bytes(), "Big5")))
-                        .build();
-                }
+        final OkHttpClient.Builder builder = httpClient.newBuilder()
+            .cache(null)
+            .dispatcher(dispatcher)
+            .eventListener(EventListener.NONE);
 
-                return response;
-            });
+        builder.interceptors().remove(resilienceInterceptor);
+        builder.networkInterceptors().remove(dataUsage.getNewsInterceptor());
+        builder.addNetworkInterceptor(dataUsage.getMediaInterceptor());
 
         return builder.build();
     }
@@ -64,7 +131,7 @@ final class HttpModule {
         return new Retrofit.Builder()
             .addCallAdapterFactory(RxErrorHandlingCallAdapterFactory.create())
             .addConverterFactory(ScalarsConverterFactory.create())
-            .addConverterFactory(SimpleXmlConverterFactory.create())
+            .addConverterFactory(RssConverterFactory.create())
             .baseUrl("http://dummy.base.url")
             .client(httpClient)
             .build();
@@ -74,6 +141,6 @@ final class HttpModule {
     @NonNull
     @Provides
     static ApiService provideApiService(@NonNull final Retrofit retrofit) {
-        return retrofit.create(ApiService.class);
+        return new SingleFlightApiService(retrofit.create(ApiService.class));
     }
 }
@@ -0,0 +1,80 @@
+package com.github.ayltai.newspaper.net;
+
+import android.support.annotation.NonNull;
+
+/**
+ * A histogram of latencies, with buckets growing roughly exponentially so that both fast cache validations and slow downloads are told apart.
+ */
+public final class LatencyHistogram {
+    //region Constants
+
+    /**
+     * The upper bounds, in milliseconds, of the buckets. The last bucket has no upper bound.
+     */
+    private static final long[] BOUNDS = { 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000 };
+
+    //endregion
+
+    private final int[] counts = new int[LatencyHistogram.BOUNDS.length + 1];
+
+    private int  count;
+    private long sum;
+    private long max;
+
+    /**
+     * @param latency The latency, in milliseconds.
+     */
+    public synchronized void record(final long latency) {
+        int i = 0;
+        while (i < LatencyHistogram.BOUNDS.length && latency > LatencyHistogram.BOUNDS[i]) i++;
+
+        this.counts[i]++;
+        this.count++;
+        this.sum += latency;
+        this.max  = Math.max(this.max, latency);
+    }
+
+    public synchronized int getCount() {
+        return this.count;
+    }
+
+    public synchronized long getMean() {
+        return this.count == 0 ? 0 : this.sum / this.count;
+    }
+
+    public synchronized long getMax() {
+        return this.max;
+    }
+
+    /**
+     * Returns the upper bound of the bucket containing the given percentile, or the maximum latency if it is in the last bucket.
+     * @param percentile A percentile between {@code 1} and {@code 100}.
+     */
+    public synchronized long getPercentile(final int percentile) {
+        if (this.count == 0) return 0;
+
+        final int rank  = (int)Math.ceil(this.count * percentile / 100.0);
+        int       total = 0;
+
+        for (int i = 0; i < LatencyHistogram.BOUNDS.length; i++) {
+            total += this.counts[i];
+            if (total >= rank) return Math.min(LatencyHistogram.BOUNDS[i], this.max);
+        }
+
+        return this.max;
+    }
+
+    synchronized void clear() {
+        for (int i = 0; i < this.counts.length; i++) this.counts[i] = 0;
+
+        this.count = 0;
+        this.sum   = 0;
+        this.max   = 0;
+    }
+
+    @NonNull
+    @Override
+    public synchronized String toString() {
+        return "n = " + this.count + ", mean = " + this.getMean() + " ms, p50 = " + this.getPercentile(50) + " ms, p90 = " + this.getPercentile(90) + " ms, max = " + this.max + " ms";
+    }
+}
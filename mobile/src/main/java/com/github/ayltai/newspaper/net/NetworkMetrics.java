@@ -0,0 +1,168 @@
+package com.github.ayltai.newspaper.net;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.github.ayltai.newspaper.analytics.EventLogger;
+import com.github.ayltai.newspaper.analytics.LatencyEvent;
+
+import okhttp3.HttpUrl;
+
+/**
+ * Latency histograms of each phase of a refresh, kept per source: the network phases measured by {@link TimingEventListener}, and the fetching and storing of items measured by their callers.
+ * <p>Requests are attributed to a source by their URL. The URLs of the categories are registered with {@link #tag(String, String, String)}, and other requests, such as those of the details of items, are attributed by host.</p>
+ */
+public final class NetworkMetrics {
+    //region Constants
+
+    public static final String PHASE_DNS        = "DNS";
+    public static final String PHASE_CONNECT    = "Connect";
+    public static final String PHASE_TLS        = "TLS";
+    public static final String PHASE_FIRST_BYTE = "First Byte";
+    public static final String PHASE_BODY       = "Body";
+    public static final String PHASE_CALL       = "Call";
+
+    /**
+     * The time taken by a client to fetch and parse the items of a category, including retries.
+     */
+    public static final String PHASE_FETCH = "Fetch";
+
+    /**
+     * The time taken to store the items of a source.
+     */
+    public static final String PHASE_STORE = "Store";
+
+    private static final String[] PHASES = { NetworkMetrics.PHASE_DNS, NetworkMetrics.PHASE_CONNECT, NetworkMetrics.PHASE_TLS, NetworkMetrics.PHASE_FIRST_BYTE, NetworkMetrics.PHASE_BODY, NetworkMetrics.PHASE_CALL, NetworkMetrics.PHASE_FETCH, NetworkMetrics.PHASE_STORE };
+
+    //endregion
+
+    private final ConcurrentMap<String, ConcurrentMap<String, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+
+    private final Map<String, String> sources    = new ConcurrentHashMap<>();
+    private final Map<String, String> categories = new ConcurrentHashMap<>();
+    private final Map<String, String> hosts      = new ConcurrentHashMap<>();
+
+    NetworkMetrics() {
+    }
+
+    /**
+     * Attributes the requests to the given URL to the given source and category, and the other requests to its host to the given source.
+     */
+    public void tag(@NonNull final String url, @NonNull final String source, @NonNull final String category) {
+        this.sources.put(url, source);
+        this.categories.put(url, category);
+
+        final HttpUrl httpUrl = HttpUrl.parse(url);
+        if (httpUrl != null && !this.hosts.containsKey(httpUrl.host())) this.hosts.put(httpUrl.host(), source);
+    }
+
+    @Nullable
+    public String getSource(@NonNull final HttpUrl url) {
+        final String source = this.sources.get(url.toString());
+
+        return source == null ? this.hosts.get(url.host()) : source;
+    }
+
+    @Nullable
+    public String getCategory(@NonNull final HttpUrl url) {
+        return this.categories.get(url.toString());
+    }
+
+    /**
+     * @param latency The duration of the phase, in milliseconds.
+     */
+    public void record(@NonNull final String source, @NonNull final String phase, final long latency) {
+        ConcurrentMap<String, LatencyHistogram> histograms = this.histograms.get(source);
+
+        if (histograms == null) {
+            final ConcurrentMap<String, LatencyHistogram> newHistograms = new ConcurrentHashMap<>();
+
+            histograms = this.histograms.putIfAbsent(source, newHistograms);
+            if (histograms == null) histograms = newHistograms;
+        }
+
+        LatencyHistogram histogram = histograms.get(phase);
+
+        if (histogram == null) {
+            final LatencyHistogram newHistogram = new LatencyHistogram();
+
+            histogram = histograms.putIfAbsent(phase, newHistogram);
+            if (histogram == null) histogram = newHistogram;
+        }
+
+        histogram.record(latency);
+    }
+
+    /**
+     * Returns the sources with recorded latencies, in alphabetical order.
+     */
+    @NonNull
+    public List<String> getSources() {
+        final List<String> sources = new ArrayList<>(this.histograms.keySet());
+        Collections.sort(sources);
+
+        return sources;
+    }
+
+    /**
+     * Returns the histogram of the given phase of the given source, or {@code null} if no latency of it has been recorded.
+     */
+    @Nullable
+    public LatencyHistogram getHistogram(@NonNull final String source, @NonNull final String phase) {
+        final Map<String, LatencyHistogram> histograms = this.histograms.get(source);
+
+        return histograms == null ? null : histograms.get(phase);
+    }
+
+    /**
+     * Returns a human-readable summary of all histograms, for debugging.
+     */
+    @NonNull
+    public String getReport() {
+        final StringBuilder builder = new StringBuilder();
+
+        for (final String source : this.getSources()) {
+            builder.append(source).append('\n');
+
+            for (final String phase : NetworkMetrics.PHASES) {
+                final LatencyHistogram histogram = this.getHistogram(source, phase);
+                if (histogram != null) builder.append("  ").append(phase).append(": ").append(histogram).append('\n');
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Logs the median and the 90th percentile of each phase of each source as a {@link LatencyEvent}, and clears the histograms, so that each event covers the requests since the last one.
+     */
+    public void export(@NonNull final EventLogger eventLogger) {
+        for (final String source : this.getSources()) {
+            final LatencyHistogram call  = this.getHistogram(source, NetworkMetrics.PHASE_CALL);
+            final LatencyEvent     event = new LatencyEvent(source, call == null ? 0 : call.getCount());
+
+            boolean isEmpty = true;
+
+            for (final String phase : NetworkMetrics.PHASES) {
+                final LatencyHistogram histogram = this.getHistogram(source, phase);
+
+                if (histogram != null && histogram.getCount() > 0) {
+                    event.setLatency(phase, histogram.getPercentile(50), histogram.getPercentile(90));
+
+                    histogram.clear();
+
+                    isEmpty = false;
+                }
+            }
+
+            if (!isEmpty) eventLogger.logEvent(event);
+        }
+    }
+}
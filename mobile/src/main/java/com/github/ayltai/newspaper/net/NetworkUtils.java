@@ -2,15 +2,35 @@ package com.github.ayltai.newspaper.net;
 
 import android.content.Context;
 import android.net.ConnectivityManager;
+import android.net.NetworkInfo;
+import android.os.Build;
+import android.os.SystemClock;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v4.net.ConnectivityManagerCompat;
+import android.telephony.TelephonyManager;
 
+import com.github.ayltai.newspaper.Constants;
+import com.github.ayltai.newspaper.app.config.UserConfig;
 import com.github.ayltai.newspaper.util.DevUtils;
 
 import retrofit2.HttpException;
 
 public final class NetworkUtils {
+    //region Constants
+
     private static final int ERROR_TOO_MANY_REQUESTS = 429;
 
+    /**
+     * The time, in milliseconds, for which {@link #isDataSaving(Context)} reuses its last result, as it is checked while binding list items.
+     */
+    private static final long DATA_SAVING_CHECK_INTERVAL = 10 * 1000;
+
+    //endregion
+
+    private static volatile boolean isDataSaving;
+    private static volatile long    dataSavingCheckTime;
+
     private NetworkUtils() {
     }
 
@@ -22,7 +42,57 @@ public final class NetworkUtils {
         return manager != null && manager.getActiveNetworkInfo() != null && manager.getActiveNetworkInfo().isConnectedOrConnecting();
     }
 
+    /**
+     * Returns {@code true} if data should be saved, as chosen by {@link UserConfig#getDataSaving()}. By default, data is saved if the system Data Saver is on, or the active network is slow. Users may also save data on any metered network, always, or never.
+     * <p>While saving data, only list pages are fetched ahead of time, list images are shown only if they are already cached, and videos are neither played nor buffered until asked to.</p>
+     */
+    public static boolean isDataSaving(@NonNull final Context context) {
+        if (DevUtils.isRunningUnitTest()) return false;
+
+        final long now = SystemClock.elapsedRealtime();
+
+        if (now - NetworkUtils.dataSavingCheckTime >= NetworkUtils.DATA_SAVING_CHECK_INTERVAL || NetworkUtils.dataSavingCheckTime == 0) {
+            NetworkUtils.isDataSaving        = NetworkUtils.isDataSaving(context, UserConfig.create(context).getDataSaving());
+            NetworkUtils.dataSavingCheckTime = now;
+        }
+
+        return NetworkUtils.isDataSaving;
+    }
+
+    private static boolean isDataSaving(@NonNull final Context context, @Constants.DataSaving final int dataSaving) {
+        if (dataSaving == Constants.DATA_SAVING_OFF) return false;
+        if (dataSaving == Constants.DATA_SAVING_ALWAYS) return true;
+
+        final ConnectivityManager manager = (ConnectivityManager)context.getSystemService(Context.CONNECTIVITY_SERVICE);
+        if (manager == null) return false;
+
+        return NetworkUtils.isRestrictingBackground(manager) || NetworkUtils.isSlow(manager.getActiveNetworkInfo()) || dataSaving == Constants.DATA_SAVING_METERED && ConnectivityManagerCompat.isActiveNetworkMetered(manager);
+    }
+
     public static boolean shouldRetry(@NonNull final Throwable throwable) {
         return throwable instanceof HttpException && ((HttpException)throwable).code() == NetworkUtils.ERROR_TOO_MANY_REQUESTS;
     }
+
+    private static boolean isRestrictingBackground(@NonNull final ConnectivityManager manager) {
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.N && manager.getRestrictBackgroundStatus() == ConnectivityManager.RESTRICT_BACKGROUND_STATUS_ENABLED;
+    }
+
+    /**
+     * Returns {@code true} if the given network is a 2G mobile network.
+     */
+    private static boolean isSlow(@Nullable final NetworkInfo info) {
+        if (info == null || info.getType() != ConnectivityManager.TYPE_MOBILE) return false;
+
+        switch (info.getSubtype()) {
+            case TelephonyManager.NETWORK_TYPE_GPRS:
+            case TelephonyManager.NETWORK_TYPE_EDGE:
+            case TelephonyManager.NETWORK_TYPE_CDMA:
+            case TelephonyManager.NETWORK_TYPE_1xRTT:
+            case TelephonyManager.NETWORK_TYPE_IDEN:
+                return true;
+
+            default:
+                return false;
+        }
+    }
 }
@@ -0,0 +1,122 @@
+package com.github.ayltai.newspaper.net;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * An interceptor that guards each host with a {@link HostState}, so that a host that is down fails fast and a slow host is not sent more requests than it can serve.
+ * <p>Connection failures and server errors count as failures. Rate limiting shrinks the concurrency limit only, and cancelled requests and responses served from the cache are not counted.</p>
+ * <p>The concurrency limit is not enforced here, as waiting for it would hold a network thread. Requests are admitted by {@link #schedule(String, Single, Scheduler)} before they take one instead.</p>
+ */
+public final class ResilienceInterceptor implements Interceptor {
+    //region Constants
+
+    private static final int ERROR_TOO_MANY_REQUESTS = 429;
+    private static final int ERROR_SERVER            = 500;
+
+    //endregion
+
+    private final ConcurrentMap<String, HostState> states = new ConcurrentHashMap<>();
+
+    ResilienceInterceptor() {
+    }
+
+    /**
+     * Returns the state of the given host, for diagnostics.
+     */
+    @NonNull
+    public HostState getState(@NonNull final String host) {
+        final HostState state = this.states.get(host);
+        if (state != null) return state;
+
+        final HostState newState = new HostState(host);
+        final HostState oldState = this.states.putIfAbsent(host, newState);
+
+        return oldState == null ? newState : oldState;
+    }
+
+    /**
+     * Returns the states of all hosts requested so far, keyed by host name.
+     */
+    @NonNull
+    public Map<String, HostState> getStates() {
+        return Collections.unmodifiableMap(this.states);
+    }
+
+    /**
+     * Returns a {@link Single} that subscribes to the given one on the given {@link Scheduler} once the host of the given URL has fewer requests in flight than its concurrency limit.
+     */
+    @NonNull
+    public <T> Single<T> schedule(@NonNull final String url, @NonNull final Single<T> single, @NonNull final Scheduler scheduler) {
+        final HttpUrl httpUrl = HttpUrl.parse(url);
+        if (httpUrl == null) return single.subscribeOn(scheduler);
+
+        final HostState state = this.getState(httpUrl.host());
+
+        return Single.create(emitter -> {
+            final Runnable task = () -> emitter.setDisposable(single
+                .subscribeOn(scheduler)
+                .doFinally(state::release)
+                .subscribe(emitter::onSuccess, emitter::tryOnError));
+
+            emitter.setCancellable(() -> state.cancel(task));
+
+            state.admit(task);
+        });
+    }
+
+    @NonNull
+    @Override
+    public Response intercept(@NonNull final Chain chain) throws IOException {
+        final Request   request = chain.request();
+        final HostState state   = this.getState(request.url().host());
+
+        state.acquire(SystemClock.elapsedRealtime());
+
+        final long     start = SystemClock.elapsedRealtime();
+        final Response response;
+
+        try {
+            response = chain.proceed(request);
+        } catch (final IOException e) {
+            if (chain.call().isCanceled()) {
+                state.onCancel();
+            } else {
+                state.onFailure(SystemClock.elapsedRealtime());
+            }
+
+            throw e;
+        } catch (final RuntimeException e) {
+            state.onCancel();
+
+            throw e;
+        }
+
+        final long now = SystemClock.elapsedRealtime();
+
+        if (response.networkResponse() == null) {
+            state.onCancel();
+        } else if (response.code() == ResilienceInterceptor.ERROR_TOO_MANY_REQUESTS) {
+            state.onOverload();
+        } else if (response.code() >= ResilienceInterceptor.ERROR_SERVER) {
+            state.onFailure(now);
+        } else {
+            state.onSuccess(now - start, now);
+        }
+
+        return response;
+    }
+}
@@ -0,0 +1,48 @@
+package com.github.ayltai.newspaper.net;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import android.support.annotation.NonNull;
+
+import io.reactivex.Observable;
+
+/**
+ * Shares an in-flight call among all concurrent subscribers with the same key, so that identical requests made at the same time are sent only once.
+ * <p>The call is forgotten as soon as it terminates or all its subscribers are disposed, so that a later subscriber, such as a retry, makes a new call.</p>
+ */
+public final class SingleFlight<T> {
+    private final ConcurrentMap<String, Observable<T>> calls = new ConcurrentHashMap<>();
+
+    /**
+     * Returns an {@link Observable} that subscribes to the call in flight with the given key, or to a new one created by the given factory if there is none.
+     */
+    @NonNull
+    public Observable<T> share(@NonNull final String key, @NonNull final Callable<Observable<T>> factory) {
+        return Observable.defer(() -> {
+            final Observable<T> call = this.calls.get(key);
+            if (call != null) return call;
+
+            final AtomicReference<Observable<T>> reference = new AtomicReference<>();
+            final Observable<T>                  newCall   = factory.call()
+                .doFinally(() -> this.calls.remove(key, reference.get()))
+                .replay(1)
+                .refCount();
+
+            reference.set(newCall);
+
+            final Observable<T> oldCall = this.calls.putIfAbsent(key, newCall);
+
+            return oldCall == null ? newCall : oldCall;
+        });
+    }
+
+    /**
+     * Returns the number of calls in flight.
+     */
+    public int size() {
+        return this.calls.size();
+    }
+}
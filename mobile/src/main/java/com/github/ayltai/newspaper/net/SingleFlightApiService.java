@@ -0,0 +1,46 @@
+package com.github.ayltai.newspaper.net;
+
+import android.support.annotation.NonNull;
+
+import com.github.ayltai.newspaper.rss.RssFeed;
+
+import io.reactivex.Observable;
+import okhttp3.ResponseBody;
+
+/**
+ * An {@link ApiService} that shares concurrent identical GET requests.
+ * <p>Feeds are downloaded and parsed once, but each subscriber gets its own copy of the {@link RssFeed}, because clients modify the parsed items. Streamed bodies can only be read once, so they are shared by {@link com.github.ayltai.newspaper.client.Client} after extraction instead. POST requests are never shared.</p>
+ */
+final class SingleFlightApiService implements ApiService {
+    private final ApiService            apiService;
+    private final SingleFlight<RssFeed> feeds = new SingleFlight<>();
+    private final SingleFlight<String>  calls = new SingleFlight<>();
+
+    SingleFlightApiService(@NonNull final ApiService apiService) {
+        this.apiService = apiService;
+    }
+
+    @NonNull
+    @Override
+    public Observable<RssFeed> getFeed(@NonNull final String url) {
+        return this.feeds.share(url, () -> this.apiService.getFeed(url)).map(RssFeed::copy);
+    }
+
+    @NonNull
+    @Override
+    public Observable<String> getHtml(@NonNull final String url) {
+        return this.calls.share(url, () -> this.apiService.getHtml(url));
+    }
+
+    @NonNull
+    @Override
+    public Observable<ResponseBody> getBody(@NonNull final String url) {
+        return this.apiService.getBody(url);
+    }
+
+    @NonNull
+    @Override
+    public Observable<String> postHtml(@NonNull final String url, final int sectionId, final int page) {
+        return this.apiService.postHtml(url, sectionId, page);
+    }
+}
@@ -0,0 +1,158 @@
+package com.github.ayltai.newspaper.net;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.Log;
+
+import com.github.ayltai.newspaper.util.DevUtils;
+
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+
+/**
+ * Measures the phases of a call attributed to a source, and records them into {@link NetworkMetrics} when the call ends. Failed calls are not recorded, as their durations are bounded by timeouts rather than by the source.
+ */
+final class TimingEventListener extends EventListener {
+    static final class Factory implements EventListener.Factory {
+        private final NetworkMetrics metrics;
+
+        Factory(@NonNull final NetworkMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        @NonNull
+        @Override
+        public EventListener create(@NonNull final Call call) {
+            final String source = this.metrics.getSource(call.request().url());
+
+            return source == null ? EventListener.NONE : new TimingEventListener(this.metrics, source, this.metrics.getCategory(call.request().url()));
+        }
+    }
+
+    private final NetworkMetrics metrics;
+    private final String         source;
+    private final String         category;
+
+    //region Timings
+
+    private long callStart;
+    private long dnsStart;
+    private long dnsDuration = -1;
+    private long connectStart;
+    private long connectDuration = -1;
+    private long secureConnectStart;
+    private long tlsDuration = -1;
+    private long requestStart;
+    private long firstByteDuration = -1;
+    private long bodyStart;
+    private long bodyDuration = -1;
+
+    //endregion
+
+    private TimingEventListener(@NonNull final NetworkMetrics metrics, @NonNull final String source, @Nullable final String category) {
+        this.metrics  = metrics;
+        this.source   = source;
+        this.category = category;
+    }
+
+    @Override
+    public void callStart(final Call call) {
+        this.callStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsStart(final Call call, final String domainName) {
+        this.dnsStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsEnd(final Call call, final String domainName, final List<InetAddress> addresses) {
+        this.dnsDuration = TimingEventListener.add(this.dnsDuration, this.dnsStart);
+    }
+
+    @Override
+    public void connectStart(final Call call, final InetSocketAddress address, final Proxy proxy) {
+        this.connectStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectStart(final Call call) {
+        this.secureConnectStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectEnd(final Call call, @Nullable final Handshake handshake) {
+        this.tlsDuration = TimingEventListener.add(this.tlsDuration, this.secureConnectStart);
+    }
+
+    @Override
+    public void connectEnd(final Call call, final InetSocketAddress address, final Proxy proxy, @Nullable final Protocol protocol) {
+        this.connectDuration = TimingEventListener.add(this.connectDuration, this.connectStart);
+    }
+
+    @Override
+    public void connectFailed(final Call call, final InetSocketAddress address, final Proxy proxy, @Nullable final Protocol protocol, final IOException e) {
+        this.connectDuration = TimingEventListener.add(this.connectDuration, this.connectStart);
+    }
+
+    @Override
+    public void requestHeadersStart(final Call call) {
+        this.requestStart = System.nanoTime();
+    }
+
+    @Override
+    public void responseHeadersStart(final Call call) {
+        this.firstByteDuration = TimingEventListener.add(this.firstByteDuration, this.requestStart);
+    }
+
+    @Override
+    public void responseBodyStart(final Call call) {
+        this.bodyStart = System.nanoTime();
+    }
+
+    @Override
+    public void responseBodyEnd(final Call call, final long byteCount) {
+        this.bodyDuration = TimingEventListener.add(this.bodyDuration, this.bodyStart);
+    }
+
+    @Override
+    public void callEnd(final Call call) {
+        final long callDuration = TimingEventListener.add(-1, this.callStart);
+
+        this.record(NetworkMetrics.PHASE_DNS, this.dnsDuration);
+        this.record(NetworkMetrics.PHASE_CONNECT, this.connectDuration);
+        this.record(NetworkMetrics.PHASE_TLS, this.tlsDuration);
+        this.record(NetworkMetrics.PHASE_FIRST_BYTE, this.firstByteDuration);
+        this.record(NetworkMetrics.PHASE_BODY, this.bodyDuration);
+        this.record(NetworkMetrics.PHASE_CALL, callDuration);
+
+        if (DevUtils.isLoggable()) Log.d(this.getClass().getSimpleName(), this.source + (this.category == null ? "" : "/" + this.category) + " { dns = " + TimingEventListener.toMillis(this.dnsDuration) + ", connect = " + TimingEventListener.toMillis(this.connectDuration) + ", tls = " + TimingEventListener.toMillis(this.tlsDuration) + ", firstByte = " + TimingEventListener.toMillis(this.firstByteDuration) + ", body = " + TimingEventListener.toMillis(this.bodyDuration) + ", call = " + TimingEventListener.toMillis(callDuration) + " } " + call.request().url());
+    }
+
+    /**
+     * Records the given duration, unless the phase did not happen, such as when a pooled connection is reused.
+     */
+    private void record(@NonNull final String phase, final long duration) {
+        if (duration >= 0) this.metrics.record(this.source, phase, TimingEventListener.toMillis(duration));
+    }
+
+    /**
+     * Adds the time elapsed since {@code start} to the given duration, so that the phases repeated by retries and redirects are added up.
+     */
+    private static long add(final long duration, final long start) {
+        return Math.max(0, duration) + System.nanoTime() - start;
+    }
+
+    private static long toMillis(final long nanos) {
+        return nanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
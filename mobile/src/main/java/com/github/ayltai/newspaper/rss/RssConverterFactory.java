@@ -0,0 +1,45 @@
+package com.github.ayltai.newspaper.rss;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import org.xmlpull.v1.XmlPullParserException;
+
+import com.github.ayltai.newspaper.Constants;
+import com.github.ayltai.newspaper.util.DevUtils;
+
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+
+/**
+ * Converts RSS responses into {@link RssFeed}s with {@link RssParser}, without reading the items that are older than {@link Constants#HOUSEKEEP_TIME}.
+ */
+public final class RssConverterFactory extends Converter.Factory {
+    public static RssConverterFactory create() {
+        return new RssConverterFactory();
+    }
+
+    private RssConverterFactory() {
+    }
+
+    @Nullable
+    @Override
+    public Converter<ResponseBody, ?> responseBodyConverter(@NonNull final Type type, @NonNull final Annotation[] annotations, @NonNull final Retrofit retrofit) {
+        if (type != RssFeed.class) return null;
+
+        return (Converter<ResponseBody, RssFeed>)body -> {
+            try {
+                return RssParser.parse(body.charStream(), DevUtils.isRunningUnitTest() ? 0 : System.currentTimeMillis() - Constants.HOUSEKEEP_TIME);
+            } catch (final XmlPullParserException e) {
+                throw new IOException(e);
+            } finally {
+                body.close();
+            }
+        };
+    }
+}
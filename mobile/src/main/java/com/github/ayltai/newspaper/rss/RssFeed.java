@@ -1,49 +1,44 @@
 package com.github.ayltai.newspaper.rss;
 
+import java.util.ArrayList;
 import java.util.List;
 
-import android.support.annotation.Nullable;
+import android.support.annotation.NonNull;
 
-import org.simpleframework.xml.Element;
-import org.simpleframework.xml.ElementList;
-import org.simpleframework.xml.Path;
-import org.simpleframework.xml.Root;
+import com.github.ayltai.newspaper.app.data.model.Image;
+import com.github.ayltai.newspaper.app.data.model.NewsItem;
 
-@Root(name = "rss", strict = false)
 public final class RssFeed {
-    @Element(name = "title", required = false)
-    @Path("channel")
-    private String title;
+    private final List<NewsItem> items;
 
-    @Element(name = "description", required = false)
-    @Path("channel")
-    private String description;
+    RssFeed(@NonNull final List<NewsItem> items) {
+        this.items = items;
+    }
 
-    @Element(name = "copyright", required = false)
-    @Path("channel")
-    private String copyright;
+    @NonNull
+    public List<NewsItem> getItems() {
+        return this.items;
+    }
 
-    @ElementList(name = "item", inline = true, required = false)
-    @Path("channel")
-    private List<RssItem> items;
+    /**
+     * Returns a copy of this feed with copies of the fields read by {@link RssParser}, so that the items can be modified without affecting other holders of this feed.
+     */
+    @NonNull
+    public RssFeed copy() {
+        final List<NewsItem> items = new ArrayList<>(this.items.size());
 
-    @Nullable
-    public String getTitle() {
-        return this.title;
-    }
+        for (final NewsItem item : this.items) {
+            final NewsItem copy = new NewsItem();
+            copy.setTitle(item.getTitle());
+            copy.setDescription(item.getDescription());
+            copy.setLink(item.getLink());
+            copy.setPublishDate(item.getPublishDate());
 
-    @Nullable
-    public String getDescription() {
-        return this.description;
-    }
+            for (final Image image : item.getImages()) copy.getImages().add(new Image(image.getUrl(), image.getDescription()));
 
-    @Nullable
-    public String getCopyright() {
-        return this.copyright;
-    }
+            items.add(copy);
+        }
 
-    @Nullable
-    public List<RssItem> getItems() {
-        return this.items;
+        return new RssFeed(items);
     }
 }
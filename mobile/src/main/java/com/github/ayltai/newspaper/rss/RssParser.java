@@ -0,0 +1,167 @@
+package com.github.ayltai.newspaper.rss;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.Log;
+import android.util.Xml;
+
+import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserException;
+
+import com.akaita.java.rxjava2debug.RxJava2Debug;
+import com.github.ayltai.newspaper.app.data.model.Image;
+import com.github.ayltai.newspaper.app.data.model.NewsItem;
+import com.github.ayltai.newspaper.util.DateParser;
+import com.github.ayltai.newspaper.util.DevUtils;
+
+/**
+ * Parses RSS 2.0 feeds into {@link NewsItem}s with a pull parser, one item at a time.
+ */
+public final class RssParser {
+    //region Constants
+
+    private static final String TAG_ITEM        = "item";
+    private static final String TAG_TITLE       = "title";
+    private static final String TAG_LINK        = "link";
+    private static final String TAG_GUID        = "guid";
+    private static final String TAG_DESCRIPTION = "description";
+    private static final String TAG_PUB_DATE    = "pubDate";
+    private static final String TAG_ENCLOSURE   = "enclosure";
+    private static final String ATTRIBUTE_URL   = "url";
+
+    /**
+     * Feeds are ordered from the newest to the oldest, but not strictly, so parsing stops only after this many consecutive stale items.
+     */
+    private static final int MAX_STALE_ITEMS = 3;
+
+    //endregion
+
+    private RssParser() {
+    }
+
+    /**
+     * Parses the given RSS feed.
+     * @param reader The feed to parse.
+     * @param minPublishDate Items published before this time, in milliseconds, are skipped, and parsing stops once the feed has gone past it.
+     * @return The items of the feed, without source and category.
+     * @throws XmlPullParserException If the feed is not well-formed.
+     * @throws IOException If the feed cannot be read.
+     */
+    @NonNull
+    public static RssFeed parse(@NonNull final Reader reader, final long minPublishDate) throws XmlPullParserException, IOException {
+        final XmlPullParser  parser = Xml.newPullParser();
+        final List<NewsItem> items  = new ArrayList<>();
+
+        parser.setInput(reader);
+
+        int staleItems = 0;
+
+        while (parser.next() != XmlPullParser.END_DOCUMENT) {
+            if (parser.getEventType() == XmlPullParser.START_TAG && RssParser.TAG_ITEM.equals(parser.getName())) {
+                final NewsItem item = RssParser.readItem(parser);
+
+                if (item != null) {
+                    if (item.getPublishDate() != null && item.getPublishDate().getTime() < minPublishDate) {
+                        if (++staleItems >= RssParser.MAX_STALE_ITEMS) break;
+                    } else {
+                        staleItems = 0;
+
+                        items.add(item);
+                    }
+                }
+            }
+        }
+
+        return new RssFeed(items);
+    }
+
+    @Nullable
+    private static NewsItem readItem(@NonNull final XmlPullParser parser) throws XmlPullParserException, IOException {
+        final int depth = parser.getDepth();
+
+        String title       = null;
+        String link        = null;
+        String guid        = null;
+        String description = null;
+        String pubDate     = null;
+        String image       = null;
+
+        while (parser.next() != XmlPullParser.END_DOCUMENT) {
+            if (parser.getEventType() == XmlPullParser.END_TAG && parser.getDepth() == depth) break;
+
+            if (parser.getEventType() == XmlPullParser.START_TAG && parser.getDepth() == depth + 1) {
+                switch (parser.getName()) {
+                    case RssParser.TAG_TITLE:
+                        title = RssParser.readText(parser);
+                        break;
+
+                    case RssParser.TAG_LINK:
+                        link = RssParser.readText(parser);
+                        break;
+
+                    case RssParser.TAG_GUID:
+                        guid = RssParser.readText(parser);
+                        break;
+
+                    case RssParser.TAG_DESCRIPTION:
+                        description = RssParser.readText(parser);
+                        break;
+
+                    case RssParser.TAG_PUB_DATE:
+                        pubDate = RssParser.readText(parser);
+                        break;
+
+                    case RssParser.TAG_ENCLOSURE:
+                        image = parser.getAttributeValue(null, RssParser.ATTRIBUTE_URL);
+                        break;
+
+                    default:
+                        break;
+                }
+            }
+        }
+
+        if (title == null) return null;
+
+        final NewsItem item = new NewsItem();
+        item.setTitle(title.replace("\uFEFF", ""));
+        item.setDescription(description);
+
+        if (link == null) link = guid;
+        if (link != null) item.setLink(link.trim());
+
+        if (pubDate != null) {
+            try {
+                item.setPublishDate(DateParser.parseRfc822(pubDate));
+            } catch (final ParseException e) {
+                if (DevUtils.isLoggable()) Log.e(RssParser.class.getSimpleName(), e.getMessage(), RxJava2Debug.getEnhancedStackTrace(e));
+            }
+        }
+
+        if (image != null) item.getImages().add(new Image(image));
+
+        return item;
+    }
+
+    /**
+     * Reads the text content of the current element, skipping any nested elements, and moves to its end tag.
+     */
+    @NonNull
+    private static String readText(@NonNull final XmlPullParser parser) throws XmlPullParserException, IOException {
+        final StringBuilder builder = new StringBuilder();
+        final int           depth   = parser.getDepth();
+
+        while (parser.next() != XmlPullParser.END_DOCUMENT) {
+            if (parser.getEventType() == XmlPullParser.END_TAG && parser.getDepth() == depth) break;
+            if (parser.getEventType() == XmlPullParser.TEXT) builder.append(parser.getText());
+        }
+
+        return builder.toString();
+    }
+}
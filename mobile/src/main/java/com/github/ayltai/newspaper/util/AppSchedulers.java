@@ -0,0 +1,152 @@
+package com.github.ayltai.newspaper.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import android.os.Process;
+import android.support.annotation.NonNull;
+
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * A registry of named, bounded {@link Scheduler}s shared by the app, used instead of {@link Schedulers#newThread()} and {@link Schedulers#io()}.
+ */
+public final class AppSchedulers {
+    //region Constants
+
+    /**
+     * The number of threads for refreshes and syncs. It matches the idle connections kept by the HTTP client, so that the concurrency limit of a host is never capped by the threads instead.
+     */
+    private static final int NETWORK_POOL_SIZE = 8;
+
+    private static final int INTERACTIVE_NETWORK_POOL_SIZE = 2;
+    private static final int IMAGE_POOL_SIZE               = 2;
+
+    /**
+     * The number of database reader threads. Each has a scheduler of its own, because a Realm instance must be used on the thread that creates it.
+     */
+    private static final int DATABASE_READER_COUNT = 3;
+
+    //endregion
+
+    private static final MonitoredExecutor NETWORK_EXECUTOR             = new MonitoredExecutor("network", AppSchedulers.NETWORK_POOL_SIZE, Process.THREAD_PRIORITY_BACKGROUND);
+    private static final MonitoredExecutor INTERACTIVE_NETWORK_EXECUTOR = new MonitoredExecutor("network-interactive", AppSchedulers.INTERACTIVE_NETWORK_POOL_SIZE, Process.THREAD_PRIORITY_DEFAULT);
+    private static final MonitoredExecutor PARSE_EXECUTOR               = new MonitoredExecutor("parse", Math.max(2, Runtime.getRuntime().availableProcessors() - 1), Process.THREAD_PRIORITY_BACKGROUND);
+    private static final MonitoredExecutor DATABASE_EXECUTOR            = new MonitoredExecutor("database-writer", 1, Process.THREAD_PRIORITY_BACKGROUND);
+    private static final MonitoredExecutor IMAGE_EXECUTOR               = new MonitoredExecutor("image", AppSchedulers.IMAGE_POOL_SIZE, Process.THREAD_PRIORITY_BACKGROUND + Process.THREAD_PRIORITY_LESS_FAVORABLE);
+
+    private static final Scheduler NETWORK             = Schedulers.from(AppSchedulers.NETWORK_EXECUTOR);
+    private static final Scheduler INTERACTIVE_NETWORK = Schedulers.from(AppSchedulers.INTERACTIVE_NETWORK_EXECUTOR);
+    private static final Scheduler PARSE               = Schedulers.from(AppSchedulers.PARSE_EXECUTOR);
+    private static final Scheduler DATABASE            = Schedulers.from(AppSchedulers.DATABASE_EXECUTOR);
+    private static final Scheduler IMAGE               = Schedulers.from(AppSchedulers.IMAGE_EXECUTOR);
+
+    private static final MonitoredExecutor[] DATABASE_READER_EXECUTORS = new MonitoredExecutor[AppSchedulers.DATABASE_READER_COUNT];
+    private static final Scheduler[]         DATABASE_READERS          = new Scheduler[AppSchedulers.DATABASE_READER_COUNT];
+    private static final AtomicInteger       DATABASE_READER_INDEX     = new AtomicInteger();
+
+    static {
+        for (int i = 0; i < AppSchedulers.DATABASE_READER_COUNT; i++) {
+            AppSchedulers.DATABASE_READER_EXECUTORS[i] = new MonitoredExecutor("database-reader-" + (i + 1), 1, Process.THREAD_PRIORITY_BACKGROUND);
+            AppSchedulers.DATABASE_READERS[i]          = Schedulers.from(AppSchedulers.DATABASE_READER_EXECUTORS[i]);
+        }
+
+        AppSchedulers.NETWORK_EXECUTOR.allowCoreThreadTimeOut(true);
+        AppSchedulers.INTERACTIVE_NETWORK_EXECUTOR.allowCoreThreadTimeOut(true);
+        AppSchedulers.PARSE_EXECUTOR.allowCoreThreadTimeOut(true);
+        AppSchedulers.IMAGE_EXECUTOR.allowCoreThreadTimeOut(true);
+
+        // The database threads are never recycled because Realm instances are confined to the thread that creates them
+    }
+
+    private AppSchedulers() {
+    }
+
+    /**
+     * @return The {@link Scheduler} for blocking network calls of refreshes and syncs.
+     */
+    @NonNull
+    public static Scheduler network() {
+        return AppSchedulers.NETWORK;
+    }
+
+    /**
+     * @return The {@link Scheduler} for blocking network calls the user is waiting for, such as opening an item, so that they never queue behind a refresh.
+     */
+    @NonNull
+    public static Scheduler interactiveNetwork() {
+        return AppSchedulers.INTERACTIVE_NETWORK;
+    }
+
+    /**
+     * Returns {@code true} if the current thread is one of the threads of {@link #network()} or {@link #interactiveNetwork()}.
+     */
+    public static boolean isNetworkThread() {
+        return AppSchedulers.NETWORK_EXECUTOR.isCurrentThread() || AppSchedulers.INTERACTIVE_NETWORK_EXECUTOR.isCurrentThread();
+    }
+
+    /**
+     * @return The CPU-sized {@link Scheduler} for parsing responses.
+     */
+    @NonNull
+    public static Scheduler parse() {
+        return AppSchedulers.PARSE;
+    }
+
+    /**
+     * @return The single-threaded {@link Scheduler} for database operations that write, so that transactions never wait for each other.
+     */
+    @NonNull
+    public static Scheduler database() {
+        return AppSchedulers.DATABASE;
+    }
+
+    /**
+     * Returns the least busy of the single-threaded {@link Scheduler}s for database operations that only read, which run in parallel with each other and with writes.
+     * <p>A Realm instance created on the returned {@link Scheduler} must only be used on it.</p>
+     */
+    @NonNull
+    public static Scheduler databaseReader() {
+        final int start = AppSchedulers.DATABASE_READER_INDEX.getAndIncrement();
+
+        int index = 0;
+        int load  = Integer.MAX_VALUE;
+
+        // Starts from a different reader each time, so that idle readers take turns
+        for (int i = 0; i < AppSchedulers.DATABASE_READER_COUNT; i++) {
+            final int               candidate = ((start + i) % AppSchedulers.DATABASE_READER_COUNT + AppSchedulers.DATABASE_READER_COUNT) % AppSchedulers.DATABASE_READER_COUNT;
+            final MonitoredExecutor executor  = AppSchedulers.DATABASE_READER_EXECUTORS[candidate];
+            final int               count     = executor.getQueueDepth() + executor.getActiveCount();
+
+            if (count < load) {
+                index = candidate;
+                load  = count;
+            }
+        }
+
+        return AppSchedulers.DATABASE_READERS[index];
+    }
+
+    /**
+     * @return The {@link Scheduler} for decoding and processing images.
+     */
+    @NonNull
+    public static Scheduler image() {
+        return AppSchedulers.IMAGE;
+    }
+
+    /**
+     * @return The executors backing the schedulers, for reporting their queue depth, active count and task latency.
+     */
+    @NonNull
+    public static List<MonitoredExecutor> getExecutors() {
+        final List<MonitoredExecutor> executors = new ArrayList<>(Arrays.asList(AppSchedulers.NETWORK_EXECUTOR, AppSchedulers.INTERACTIVE_NETWORK_EXECUTOR, AppSchedulers.PARSE_EXECUTOR, AppSchedulers.DATABASE_EXECUTOR, AppSchedulers.IMAGE_EXECUTOR));
+        executors.addAll(Arrays.asList(AppSchedulers.DATABASE_READER_EXECUTORS));
+
+        return Collections.unmodifiableList(executors);
+    }
+}
@@ -0,0 +1,423 @@
+package com.github.ayltai.newspaper.util;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.LruCache;
+
+/**
+ * Parses the dates published by the news sources into epoch milliseconds.
+ * <p>Well-formed dates are parsed by hand instead of by {@link SimpleDateFormat}, and recently parsed strings are served from a small cache. Anything the fast paths do not recognise falls back to {@link SimpleDateFormat}, so the results are the same.</p>
+ */
+public final class DateParser {
+    //region Constants
+
+    private static final int CACHE_SIZE = 256;
+
+    private static final long INVALID = Long.MIN_VALUE;
+
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int MINUTES_PER_HOUR   = 60;
+    private static final int HOURS_PER_DAY      = 24;
+    private static final int HOURS_PER_HALF_DAY = 12;
+    private static final int DAYS_PER_YEAR      = 365;
+
+    private static final long SECOND = 1000L;
+    private static final long MINUTE = DateParser.SECONDS_PER_MINUTE * DateParser.SECOND;
+    private static final long HOUR   = DateParser.MINUTES_PER_HOUR * DateParser.MINUTE;
+    private static final long DAY    = DateParser.HOURS_PER_DAY * DateParser.HOUR;
+
+    private static final int EPOCH_YEAR = 1970;
+    private static final int MAX_YEAR   = 2999;
+
+    private static final int LEAP_YEAR_CYCLE = 4;
+    private static final int CENTURY         = 100;
+    private static final int GREGORIAN_CYCLE = 400;
+    private static final int FEBRUARY        = 2;
+
+    private static final int[] DAYS_IN_MONTH     = { 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31 };
+    private static final int[] DAYS_BEFORE_MONTH = { 0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334 };
+
+    private static final String[] DAYS   = { "Sun", "Mon", "Tue", "Wed", "Thu", "Fri", "Sat" };
+    private static final String[] MONTHS = { "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec" };
+
+    /**
+     * The length of an abbreviated day or month name.
+     */
+    private static final int NAME_LENGTH = 3;
+
+    private static final int YEAR_DIGITS      = 4;
+    private static final int FIELD_DIGITS     = 2;
+    private static final int ISO_DATE_LENGTH  = 10;
+    private static final int MAX_EPOCH_DIGITS = 12;
+    private static final int RADIX            = 10;
+
+    private static final String ZONE_GMT = "GMT";
+    private static final String ZONE_EDT = "EDT";
+
+    /**
+     * Some sources label Hong Kong time as EDT.
+     */
+    private static final String OFFSET_EDT = "+0800";
+
+    private static final String AM = "AM";
+    private static final String PM = "PM";
+
+    private static final ThreadLocal<DateFormat> RFC_822             = DateParser.createDateFormat("EEE, dd MMM yyyy HH:mm:ss Z");
+    private static final ThreadLocal<DateFormat> ISO_DATE_TIME       = DateParser.createDateFormat("yyyy-MM-dd HH:mm");
+    private static final ThreadLocal<DateFormat> ISO_DATE            = DateParser.createDateFormat("yyyy-MM-dd");
+    private static final ThreadLocal<DateFormat> DAY_MONTH_YEAR_TIME = DateParser.createDateFormat("dd MMM yyyy h:mm a");
+    private static final ThreadLocal<DateFormat> DAY_MONTH_YEAR      = DateParser.createDateFormat("dd MMM yyyy");
+
+    //endregion
+
+    private static final LruCache<String, Long> RFC_822_CACHE        = new LruCache<>(DateParser.CACHE_SIZE);
+    private static final LruCache<String, Long> ISO_DATE_TIME_CACHE  = new LruCache<>(DateParser.CACHE_SIZE);
+    private static final LruCache<String, Long> ISO_DATE_CACHE       = new LruCache<>(DateParser.CACHE_SIZE);
+    private static final LruCache<String, Long> DAY_MONTH_YEAR_CACHE = new LruCache<>(DateParser.CACHE_SIZE);
+
+    private DateParser() {
+    }
+
+    //region Public methods
+
+    /**
+     * Parses a RFC 822 date, such as {@code Sat, 09 Sep 2017 10:00:00 +0800}, as used by RSS feeds.
+     */
+    public static long parseRfc822(@Nullable final String text) throws ParseException {
+        if (text == null) throw new ParseException("Unparseable date: null", 0);
+
+        final Long cached = DateParser.RFC_822_CACHE.get(text);
+        if (cached != null) return cached;
+
+        long time = DateParser.fastParseRfc822(text);
+        if (time == DateParser.INVALID) time = DateParser.RFC_822.get().parse(text.trim().replace(DateParser.ZONE_EDT, DateParser.OFFSET_EDT)).getTime();
+
+        DateParser.RFC_822_CACHE.put(text, time);
+
+        return time;
+    }
+
+    /**
+     * Parses a local date and time, such as {@code 2017-09-10 18:46}.
+     */
+    public static long parseIsoDateTime(@Nullable final String text) throws ParseException {
+        if (text == null) throw new ParseException("Unparseable date: null", 0);
+
+        final Long cached = DateParser.ISO_DATE_TIME_CACHE.get(text);
+        if (cached != null) return cached;
+
+        long time = DateParser.fastParseIsoDate(text, true);
+        if (time == DateParser.INVALID) time = DateParser.ISO_DATE_TIME.get().parse(text).getTime();
+
+        DateParser.ISO_DATE_TIME_CACHE.put(text, time);
+
+        return time;
+    }
+
+    /**
+     * Parses a local date, such as {@code 2017-09-10}.
+     */
+    public static long parseIsoDate(@Nullable final String text) throws ParseException {
+        if (text == null) throw new ParseException("Unparseable date: null", 0);
+
+        final Long cached = DateParser.ISO_DATE_CACHE.get(text);
+        if (cached != null) return cached;
+
+        long time = DateParser.fastParseIsoDate(text, false);
+        if (time == DateParser.INVALID) time = DateParser.ISO_DATE.get().parse(text).getTime();
+
+        DateParser.ISO_DATE_CACHE.put(text, time);
+
+        return time;
+    }
+
+    /**
+     * Parses a local date with an optional time, such as {@code 09 Sep 2017 6:30 PM} or {@code 09 Sep 2017}.
+     */
+    public static long parseDayMonthYear(@Nullable final String text) throws ParseException {
+        if (text == null) throw new ParseException("Unparseable date: null", 0);
+
+        final Long cached = DateParser.DAY_MONTH_YEAR_CACHE.get(text);
+        if (cached != null) return cached;
+
+        long time = DateParser.fastParseDayMonthYear(text);
+
+        if (time == DateParser.INVALID) {
+            try {
+                time = DateParser.DAY_MONTH_YEAR_TIME.get().parse(text).getTime();
+            } catch (final ParseException e) {
+                time = DateParser.DAY_MONTH_YEAR.get().parse(text).getTime();
+            }
+        }
+
+        DateParser.DAY_MONTH_YEAR_CACHE.put(text, time);
+
+        return time;
+    }
+
+    /**
+     * Parses a number of seconds since the epoch, such as {@code 1504900568}.
+     */
+    public static long parseEpochSeconds(@Nullable final String text) throws ParseException {
+        if (text == null || text.isEmpty() || text.length() > DateParser.MAX_EPOCH_DIGITS) throw new ParseException("Unparseable date: " + text, 0);
+
+        long seconds = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c < '0' || c > '9') throw new ParseException("Unparseable date: " + text, i);
+
+            seconds = seconds * DateParser.RADIX + c - '0';
+        }
+
+        return seconds * DateParser.SECOND;
+    }
+
+    //endregion
+
+    //region Fast paths
+
+    private static long fastParseRfc822(@NonNull final String text) {
+        final int end = DateParser.trimEnd(text);
+
+        // Day name, such as "Sat, "
+        int i = DateParser.skipSpaces(text, 0);
+        if (DateParser.indexOf(DateParser.DAYS, text, i) < 0 || i + DateParser.NAME_LENGTH + 1 > end || text.charAt(i + DateParser.NAME_LENGTH) != ',') return DateParser.INVALID;
+
+        i = DateParser.skipSpaces(text, i + DateParser.NAME_LENGTH + 1);
+
+        int j = text.indexOf(' ', i);
+        if (j < 0 || j > end) return DateParser.INVALID;
+
+        final int day = DateParser.parseNumber(text, i, j, DateParser.FIELD_DIGITS);
+
+        // Month name, such as "Sep "
+        i = j + 1;
+        final int month = DateParser.indexOf(DateParser.MONTHS, text, i) + 1;
+        if (month == 0 || i + DateParser.NAME_LENGTH + 1 > end || text.charAt(i + DateParser.NAME_LENGTH) != ' ') return DateParser.INVALID;
+
+        // Year, such as "2017 "
+        i += DateParser.NAME_LENGTH + 1;
+        if (i + DateParser.YEAR_DIGITS + 1 > end || text.charAt(i + DateParser.YEAR_DIGITS) != ' ') return DateParser.INVALID;
+
+        final int year = DateParser.parseNumber(text, i, i + DateParser.YEAR_DIGITS, DateParser.YEAR_DIGITS);
+
+        i += DateParser.YEAR_DIGITS + 1;
+        j = text.indexOf(':', i);
+        if (j < 0 || j > end) return DateParser.INVALID;
+
+        final int hour = DateParser.parseNumber(text, i, j, DateParser.FIELD_DIGITS);
+
+        i = j + 1;
+        j = text.indexOf(':', i);
+        if (j < 0 || j > end) return DateParser.INVALID;
+
+        final int minute = DateParser.parseNumber(text, i, j, DateParser.FIELD_DIGITS);
+
+        i = j + 1;
+        j = text.indexOf(' ', i);
+        if (j < 0 || j > end) return DateParser.INVALID;
+
+        final int  second = DateParser.parseNumber(text, i, j, DateParser.FIELD_DIGITS);
+        final long offset = DateParser.parseOffset(text, j + 1, end);
+
+        if (offset == DateParser.INVALID || !DateParser.isValid(year, month, day, hour, minute, second)) return DateParser.INVALID;
+
+        return DateParser.toEpochMillis(year, month, day, hour, minute, second) - offset;
+    }
+
+    private static long fastParseIsoDate(@NonNull final String text, final boolean hasTime) {
+        final int length = text.length();
+
+        if (length < DateParser.ISO_DATE_LENGTH || text.charAt(DateParser.YEAR_DIGITS) != '-') return DateParser.INVALID;
+
+        final int year = DateParser.parseNumber(text, 0, DateParser.YEAR_DIGITS, DateParser.YEAR_DIGITS);
+
+        final int j = text.indexOf('-', DateParser.YEAR_DIGITS + 1);
+        if (j < 0) return DateParser.INVALID;
+
+        final int month = DateParser.parseNumber(text, DateParser.YEAR_DIGITS + 1, j, DateParser.FIELD_DIGITS);
+        final int k     = DateParser.endOfNumber(text, j + 1);
+        final int day   = DateParser.parseNumber(text, j + 1, k, DateParser.FIELD_DIGITS);
+
+        if (!hasTime) return DateParser.isValid(year, month, day, 0, 0, 0) ? DateParser.toLocalEpochMillis(year, month, day, 0, 0) : DateParser.INVALID;
+
+        if (k >= length || text.charAt(k) != ' ') return DateParser.INVALID;
+
+        final int m = text.indexOf(':', k + 1);
+        if (m < 0) return DateParser.INVALID;
+
+        final int hour   = DateParser.parseNumber(text, k + 1, m, DateParser.FIELD_DIGITS);
+        final int minute = DateParser.parseNumber(text, m + 1, DateParser.endOfNumber(text, m + 1), DateParser.FIELD_DIGITS);
+
+        return DateParser.isValid(year, month, day, hour, minute, 0) ? DateParser.toLocalEpochMillis(year, month, day, hour, minute) : DateParser.INVALID;
+    }
+
+    private static long fastParseDayMonthYear(@NonNull final String text) {
+        final int end = DateParser.trimEnd(text);
+
+        final int j = text.indexOf(' ');
+        if (j < 0 || j > end) return DateParser.INVALID;
+
+        final int day   = DateParser.parseNumber(text, 0, j, DateParser.FIELD_DIGITS);
+        final int month = DateParser.indexOf(DateParser.MONTHS, text, j + 1) + 1;
+        if (month == 0 || j + DateParser.NAME_LENGTH + 2 > end || text.charAt(j + DateParser.NAME_LENGTH + 1) != ' ') return DateParser.INVALID;
+
+        final int i    = j + DateParser.NAME_LENGTH + 2;
+        final int year = i + DateParser.YEAR_DIGITS <= end ? DateParser.parseNumber(text, i, i + DateParser.YEAR_DIGITS, DateParser.YEAR_DIGITS) : -1;
+
+        if (!DateParser.isValid(year, month, day, 0, 0, 0)) return DateParser.INVALID;
+        if (i + DateParser.YEAR_DIGITS == end) return DateParser.toLocalEpochMillis(year, month, day, 0, 0);
+
+        // Only a well-formed " h:mm AM" suffix is handled here, anything else is left to the slow path
+        if (text.charAt(i + DateParser.YEAR_DIGITS) != ' ') return DateParser.INVALID;
+
+        final int m        = text.indexOf(':', i + DateParser.YEAR_DIGITS + 1);
+        final int meridiem = m + DateParser.FIELD_DIGITS + 2;
+        if (m < 0 || meridiem + DateParser.AM.length() != end || text.charAt(meridiem - 1) != ' ') return DateParser.INVALID;
+
+        final int     hour   = DateParser.parseNumber(text, i + DateParser.YEAR_DIGITS + 1, m, DateParser.FIELD_DIGITS);
+        final int     minute = DateParser.parseNumber(text, m + 1, meridiem - 1, DateParser.FIELD_DIGITS);
+        final boolean isAm   = text.startsWith(DateParser.AM, meridiem);
+
+        if (hour < 1 || hour > DateParser.HOURS_PER_HALF_DAY || !isAm && !text.startsWith(DateParser.PM, meridiem) || !DateParser.isValid(year, month, day, 0, minute, 0)) return DateParser.INVALID;
+
+        return DateParser.toLocalEpochMillis(year, month, day, hour % DateParser.HOURS_PER_HALF_DAY + (isAm ? 0 : DateParser.HOURS_PER_HALF_DAY), minute);
+    }
+
+    //endregion
+
+    //region Helpers
+
+    @NonNull
+    private static ThreadLocal<DateFormat> createDateFormat(@NonNull final String pattern) {
+        return new ThreadLocal<DateFormat>() {
+            @Override
+            protected DateFormat initialValue() {
+                return new SimpleDateFormat(pattern, Locale.ENGLISH);
+            }
+        };
+    }
+
+    /**
+     * Returns the unsigned number in {@code [start, end)}, or {@code -1} if it is empty, longer than {@code maxDigits} or not a number.
+     */
+    private static int parseNumber(@NonNull final String text, final int start, final int end, final int maxDigits) {
+        if (start >= end || end - start > maxDigits || end > text.length()) return -1;
+
+        int value = 0;
+
+        for (int i = start; i < end; i++) {
+            final char c = text.charAt(i);
+            if (c < '0' || c > '9') return -1;
+
+            value = value * DateParser.RADIX + c - '0';
+        }
+
+        return value;
+    }
+
+    private static int endOfNumber(@NonNull final String text, final int start) {
+        int i = start;
+        while (i < text.length() && text.charAt(i) >= '0' && text.charAt(i) <= '9') i++;
+
+        return i;
+    }
+
+    private static int skipSpaces(@NonNull final String text, final int start) {
+        int i = start;
+        while (i < text.length() && text.charAt(i) <= ' ') i++;
+
+        return i;
+    }
+
+    private static int trimEnd(@NonNull final String text) {
+        int i = text.length();
+        while (i > 0 && text.charAt(i - 1) <= ' ') i--;
+
+        return i;
+    }
+
+    private static int indexOf(@NonNull final String[] names, @NonNull final String text, final int start) {
+        for (int i = 0; i < names.length; i++) {
+            if (text.startsWith(names[i], start)) return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the offset of a {@code +hhmm}, {@code -hhmm}, {@code GMT} or {@code EDT} zone in {@code [start, end)} in milliseconds.
+     */
+    private static long parseOffset(@NonNull final String text, final int start, final int end) {
+        if (end - start == DateParser.ZONE_GMT.length() && text.startsWith(DateParser.ZONE_GMT, start)) return 0;
+        if (end - start == DateParser.ZONE_EDT.length() && text.startsWith(DateParser.ZONE_EDT, start)) return DateParser.parseOffset(DateParser.OFFSET_EDT, 0, DateParser.OFFSET_EDT.length());
+        if (end - start != DateParser.OFFSET_EDT.length()) return DateParser.INVALID;
+
+        final char sign    = text.charAt(start);
+        final int  hours   = DateParser.parseNumber(text, start + 1, start + 1 + DateParser.FIELD_DIGITS, DateParser.FIELD_DIGITS);
+        final int  minutes = DateParser.parseNumber(text, start + 1 + DateParser.FIELD_DIGITS, end, DateParser.FIELD_DIGITS);
+
+        if (sign != '+' && sign != '-' || hours < 0 || hours >= DateParser.HOURS_PER_DAY || minutes < 0 || minutes >= DateParser.MINUTES_PER_HOUR) return DateParser.INVALID;
+
+        final long offset = hours * DateParser.HOUR + minutes * DateParser.MINUTE;
+
+        return sign == '+' ? offset : -offset;
+    }
+
+    private static boolean isValid(final int year, final int month, final int day, final int hour, final int minute, final int second) {
+        return year >= DateParser.EPOCH_YEAR && year <= DateParser.MAX_YEAR
+            && month >= 1 && month <= DateParser.MONTHS.length
+            && day >= 1 && day <= DateParser.daysInMonth(year, month)
+            && hour >= 0 && hour < DateParser.HOURS_PER_DAY
+            && minute >= 0 && minute < DateParser.MINUTES_PER_HOUR
+            && second >= 0 && second < DateParser.SECONDS_PER_MINUTE;
+    }
+
+    private static boolean isLeapYear(final int year) {
+        return year % DateParser.LEAP_YEAR_CYCLE == 0 && (year % DateParser.CENTURY != 0 || year % DateParser.GREGORIAN_CYCLE == 0);
+    }
+
+    private static int daysInMonth(final int year, final int month) {
+        return DateParser.DAYS_IN_MONTH[month - 1] + (month == DateParser.FEBRUARY && DateParser.isLeapYear(year) ? 1 : 0);
+    }
+
+    /**
+     * Returns the number of leap years in {@code [1, year)}.
+     */
+    private static int leapYearsBefore(final int year) {
+        final int y = year - 1;
+
+        return y / DateParser.LEAP_YEAR_CYCLE - y / DateParser.CENTURY + y / DateParser.GREGORIAN_CYCLE;
+    }
+
+    /**
+     * Converts a Gregorian date and time in UTC from {@link #EPOCH_YEAR} onwards into epoch milliseconds.
+     */
+    private static long toEpochMillis(final int year, final int month, final int day, final int hour, final int minute, final int second) {
+        final long days = (long)(year - DateParser.EPOCH_YEAR) * DateParser.DAYS_PER_YEAR
+            + DateParser.leapYearsBefore(year) - DateParser.leapYearsBefore(DateParser.EPOCH_YEAR)
+            + DateParser.DAYS_BEFORE_MONTH[month - 1] + (month > DateParser.FEBRUARY && DateParser.isLeapYear(year) ? 1 : 0)
+            + day - 1;
+
+        return days * DateParser.DAY + hour * DateParser.HOUR + minute * DateParser.MINUTE + second * DateParser.SECOND;
+    }
+
+    /**
+     * Converts a date and time in the default time zone into epoch milliseconds, the same way {@link SimpleDateFormat} does.
+     */
+    private static long toLocalEpochMillis(final int year, final int month, final int day, final int hour, final int minute) {
+        final TimeZone timeZone = TimeZone.getDefault();
+        final long     local    = DateParser.toEpochMillis(year, month, day, hour, minute, 0);
+
+        return local - timeZone.getOffset(local - timeZone.getRawOffset());
+    }
+
+    //endregion
+}
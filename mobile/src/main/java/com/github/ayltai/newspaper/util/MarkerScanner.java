@@ -0,0 +1,308 @@
+package com.github.ayltai.newspaper.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.text.TextUtils;
+
+/**
+ * Finds all occurrences of a fixed set of markers in a single pass over a text, using an Aho-Corasick automaton.
+ * <p>A scanner is immutable and thread-safe, and is meant to be compiled once per set of markers and reused. Text between markers is returned as {@link Slice} views, with the same semantics as {@link StringUtils#substringBetween(String, String, String)} and {@link StringUtils#substringsBetween(String, String, String)}.</p>
+ */
+public final class MarkerScanner {
+    private static final int ASCII = 128;
+    private static final int ROOT  = 0;
+
+    private final String[]                      markers;
+    private final Map<String, Integer>          indices;
+    private final List<Map<Character, Integer>> children;
+    private final int[][]                       transitions;
+    private final int[]                         failures;
+    private final int[][]                       outputs;
+
+    private MarkerScanner(@NonNull final String[] markers) {
+        this.markers = markers;
+        this.indices = new HashMap<>(markers.length);
+
+        final List<Map<Character, Integer>> children = new ArrayList<>();
+        final List<List<Integer>>           outputs  = new ArrayList<>();
+
+        children.add(new HashMap<>());
+        outputs.add(new ArrayList<>());
+
+        for (int i = 0; i < markers.length; i++) {
+            final String marker = markers[i];
+            if (TextUtils.isEmpty(marker)) throw new IllegalArgumentException("Markers must not be empty");
+            if (this.indices.containsKey(marker)) continue;
+
+            this.indices.put(marker, i);
+
+            int node = MarkerScanner.ROOT;
+            for (int j = 0; j < marker.length(); j++) {
+                final char    c     = marker.charAt(j);
+                final Integer child = children.get(node).get(c);
+
+                if (child == null) {
+                    children.add(new HashMap<>());
+                    outputs.add(new ArrayList<>());
+
+                    children.get(node).put(c, children.size() - 1);
+                    node = children.size() - 1;
+                } else {
+                    node = child;
+                }
+            }
+
+            outputs.get(node).add(i);
+        }
+
+        this.children    = children;
+        this.failures    = new int[children.size()];
+        this.transitions = new int[children.size()][MarkerScanner.ASCII];
+        this.outputs     = new int[children.size()][];
+
+        // Breadth-first, so that the failure node of every node is resolved before the node itself
+        final Queue<Integer> queue = new ArrayDeque<>();
+        queue.add(MarkerScanner.ROOT);
+
+        while (!queue.isEmpty()) {
+            final int node = queue.remove();
+
+            for (final Map.Entry<Character, Integer> entry : children.get(node).entrySet()) {
+                final int child = entry.getValue();
+
+                if (node != MarkerScanner.ROOT) {
+                    final int failure = this.next(this.failures[node], entry.getKey());
+
+                    this.failures[child] = failure;
+                    outputs.get(child).addAll(outputs.get(failure));
+                }
+
+                queue.add(child);
+            }
+
+            for (char c = 0; c < MarkerScanner.ASCII; c++) {
+                final Integer child = children.get(node).get(c);
+                this.transitions[node][c] = child == null ? node == MarkerScanner.ROOT ? MarkerScanner.ROOT : this.transitions[this.failures[node]][c] : child;
+            }
+
+            final List<Integer> output = outputs.get(node);
+            this.outputs[node] = new int[output.size()];
+            for (int i = 0; i < output.size(); i++) this.outputs[node][i] = output.get(i);
+        }
+    }
+
+    /**
+     * Compiles the given markers into a scanner.
+     * @param markers The markers to look for. They must not be empty.
+     * @return A scanner that finds all occurrences of {@code markers}.
+     */
+    @NonNull
+    public static MarkerScanner compile(@NonNull final String... markers) {
+        return new MarkerScanner(Arrays.copyOf(markers, markers.length));
+    }
+
+    /**
+     * Finds all occurrences of the markers of this scanner in the given text.
+     * <p>If {@code text} is a {@link Slice}, the occurrences are looked up within its region of the underlying text, and the returned slices share that text.</p>
+     * @param text The text to scan.
+     * @return The occurrences of the markers.
+     */
+    @NonNull
+    public Matches scan(@NonNull final CharSequence text) {
+        if (text instanceof Slice) {
+            final Slice slice = (Slice)text;
+
+            return this.scan(slice.getText(), slice.getStart(), slice.getEnd());
+        }
+
+        return this.scan(text, 0, text.length());
+    }
+
+    @NonNull
+    private Matches scan(@NonNull final CharSequence text, final int start, final int end) {
+        final int[][] positions = new int[this.markers.length][];
+        final int[]   counts    = new int[this.markers.length];
+
+        int node = MarkerScanner.ROOT;
+        for (int i = start; i < end; i++) {
+            final char c = text.charAt(i);
+            node = c < MarkerScanner.ASCII ? this.transitions[node][c] : this.next(node, c);
+
+            for (final int index : this.outputs[node]) {
+                if (positions[index] == null) {
+                    positions[index] = new int[8];
+                } else if (counts[index] == positions[index].length) {
+                    positions[index] = Arrays.copyOf(positions[index], counts[index] * 2);
+                }
+
+                positions[index][counts[index]++] = i - this.markers[index].length() + 1;
+            }
+        }
+
+        return new Matches(text, start, end, positions, counts);
+    }
+
+    private int next(final int node, final char c) {
+        int current = node;
+
+        while (true) {
+            final Integer child = this.children.get(current).get(c);
+            if (child != null) return child;
+            if (current == MarkerScanner.ROOT) return MarkerScanner.ROOT;
+
+            current = this.failures[current];
+        }
+    }
+
+    private int indexOf(@NonNull final String marker) {
+        final Integer index = this.indices.get(marker);
+        if (index == null) throw new IllegalArgumentException("Marker not compiled: " + marker);
+
+        return index;
+    }
+
+    /**
+     * The occurrences of the markers of a {@link MarkerScanner} in a text.
+     */
+    public final class Matches {
+        private final CharSequence text;
+        private final int          start;
+        private final int          end;
+        private final int[][]      positions;
+        private final int[]        counts;
+
+        Matches(@NonNull final CharSequence text, final int start, final int end, @NonNull final int[][] positions, @NonNull final int[] counts) {
+            this.text      = text;
+            this.start     = start;
+            this.end       = end;
+            this.positions = positions;
+            this.counts    = counts;
+        }
+
+        /**
+         * Returns the number of occurrences of the given marker.
+         * @param marker The marker, which must be one of the compiled markers.
+         * @return The number of occurrences of {@code marker}.
+         */
+        public int count(@NonNull final String marker) {
+            return this.counts[MarkerScanner.this.indexOf(marker)];
+        }
+
+        /**
+         * Gets the text between the first occurrence of {@code open} and the first following occurrence of {@code close}.
+         * @param open The opening marker, which must be one of the compiled markers.
+         * @param close The closing marker, which must be one of the compiled markers.
+         * @return The text between the markers, or {@code null} if no match is found.
+         */
+        @Nullable
+        public Slice between(@NonNull final String open, @NonNull final String close) {
+            return this.between(open, close, this.start, this.end);
+        }
+
+        /**
+         * Gets the text between the first occurrence of {@code open} and the first following occurrence of {@code close}, within the given region.
+         * @param open The opening marker, which must be one of the compiled markers.
+         * @param close The closing marker, which must be one of the compiled markers.
+         * @param region A slice of the scanned text returned by this object, may be null.
+         * @return The text between the markers, or {@code null} if {@code region} is {@code null} or no match is found.
+         */
+        @Nullable
+        public Slice between(@NonNull final String open, @NonNull final String close, @Nullable final Slice region) {
+            return region == null ? null : this.between(open, close, region.getStart(), region.getEnd());
+        }
+
+        /**
+         * Gets all texts between occurrences of {@code open} and {@code close}.
+         * @param open The opening marker, which must be one of the compiled markers.
+         * @param close The closing marker, which must be one of the compiled markers.
+         * @return The texts between the markers, in order, or an empty list if no match is found.
+         */
+        @NonNull
+        public List<Slice> allBetween(@NonNull final String open, @NonNull final String close) {
+            return this.allBetween(open, close, this.start, this.end);
+        }
+
+        /**
+         * Gets all texts between occurrences of {@code open} and {@code close}, within the given region.
+         * @param open The opening marker, which must be one of the compiled markers.
+         * @param close The closing marker, which must be one of the compiled markers.
+         * @param region A slice of the scanned text returned by this object, may be null.
+         * @return The texts between the markers, in order, or an empty list if {@code region} is {@code null} or no match is found.
+         */
+        @NonNull
+        public List<Slice> allBetween(@NonNull final String open, @NonNull final String close, @Nullable final Slice region) {
+            return region == null ? Collections.<Slice>emptyList() : this.allBetween(open, close, region.getStart(), region.getEnd());
+        }
+
+        @Nullable
+        private Slice between(@NonNull final String open, @NonNull final String close, final int from, final int to) {
+            final int openIndex  = MarkerScanner.this.indexOf(open);
+            final int closeIndex = MarkerScanner.this.indexOf(close);
+
+            final int openPosition = this.find(openIndex, from, to);
+            if (openPosition < 0) return null;
+
+            final int start         = openPosition + open.length();
+            final int closePosition = this.find(closeIndex, start, to);
+            if (closePosition < 0) return null;
+
+            return new Slice(this.text, start, closePosition);
+        }
+
+        @NonNull
+        private List<Slice> allBetween(@NonNull final String open, @NonNull final String close, final int from, final int to) {
+            final int openIndex  = MarkerScanner.this.indexOf(open);
+            final int closeIndex = MarkerScanner.this.indexOf(close);
+
+            final List<Slice> slices = new ArrayList<>();
+
+            int position = from;
+            while (position < to - close.length()) {
+                final int openPosition = this.find(openIndex, position, to);
+                if (openPosition < 0) break;
+
+                final int start         = openPosition + open.length();
+                final int closePosition = this.find(closeIndex, start, to);
+                if (closePosition < 0) break;
+
+                slices.add(new Slice(this.text, start, closePosition));
+
+                position = closePosition + close.length();
+            }
+
+            return slices;
+        }
+
+        /**
+         * Returns the position of the first occurrence of the marker at the given index that lies entirely within {@code [from, to)}, or {@code -1} if there is none.
+         */
+        private int find(final int index, final int from, final int to) {
+            final int[] positions = this.positions[index];
+            if (positions == null) return -1;
+
+            int low  = 0;
+            int high = this.counts[index];
+
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+
+                if (positions[middle] < from) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            return low < this.counts[index] && positions[low] + MarkerScanner.this.markers[index].length() <= to ? positions[low] : -1;
+        }
+    }
+}
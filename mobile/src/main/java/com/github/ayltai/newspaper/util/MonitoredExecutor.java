@@ -0,0 +1,133 @@
+package com.github.ayltai.newspaper.util;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import android.os.Process;
+import android.support.annotation.NonNull;
+
+/**
+ * A fixed-size {@link ThreadPoolExecutor} with named threads that keeps track of its queue depth, active count and task latency.
+ */
+public final class MonitoredExecutor extends ThreadPoolExecutor {
+    private static final long KEEP_ALIVE_TIME = 30;
+    private static final long NANOS_PER_MILLI = 1000 * 1000;
+
+    /**
+     * The executor running the current thread, if any.
+     */
+    private static final ThreadLocal<MonitoredExecutor> CURRENT = new ThreadLocal<>();
+
+    private final String name;
+
+    private final AtomicLong taskCount        = new AtomicLong();
+    private final AtomicLong totalWaitTime    = new AtomicLong();
+    private final AtomicLong totalRunningTime = new AtomicLong();
+    private final AtomicLong maxWaitTime      = new AtomicLong();
+
+    private final class TimedRunnable implements Runnable {
+        private final Runnable runnable;
+        private final long     submitTime = System.nanoTime();
+
+        TimedRunnable(@NonNull final Runnable runnable) {
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void run() {
+            final long startTime = System.nanoTime();
+            final long waitTime  = startTime - this.submitTime;
+
+            try {
+                this.runnable.run();
+            } finally {
+                MonitoredExecutor.this.taskCount.incrementAndGet();
+                MonitoredExecutor.this.totalWaitTime.addAndGet(waitTime);
+                MonitoredExecutor.this.totalRunningTime.addAndGet(System.nanoTime() - startTime);
+
+                long maxWaitTime = MonitoredExecutor.this.maxWaitTime.get();
+                while (waitTime > maxWaitTime && !MonitoredExecutor.this.maxWaitTime.compareAndSet(maxWaitTime, waitTime)) maxWaitTime = MonitoredExecutor.this.maxWaitTime.get();
+            }
+        }
+    }
+
+    public MonitoredExecutor(@NonNull final String name, final int poolSize, final int threadPriority) {
+        super(poolSize, poolSize, MonitoredExecutor.KEEP_ALIVE_TIME, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), MonitoredExecutor.newThreadFactory(name, threadPriority));
+
+        this.name = name;
+    }
+
+    @NonNull
+    public String getName() {
+        return this.name;
+    }
+
+    public int getQueueDepth() {
+        return this.getQueue().size();
+    }
+
+    /**
+     * Returns {@code true} if the current thread is one of the threads of this executor.
+     */
+    public boolean isCurrentThread() {
+        return MonitoredExecutor.CURRENT.get() == this;
+    }
+
+    /**
+     * @return The average time, in milliseconds, tasks waited in the queue before running.
+     */
+    public long getAverageWaitTime() {
+        final long count = this.taskCount.get();
+
+        return count == 0 ? 0 : this.totalWaitTime.get() / count / MonitoredExecutor.NANOS_PER_MILLI;
+    }
+
+    /**
+     * @return The longest time, in milliseconds, a task waited in the queue before running.
+     */
+    public long getMaxWaitTime() {
+        return this.maxWaitTime.get() / MonitoredExecutor.NANOS_PER_MILLI;
+    }
+
+    /**
+     * @return The average time, in milliseconds, tasks took to run.
+     */
+    public long getAverageRunningTime() {
+        final long count = this.taskCount.get();
+
+        return count == 0 ? 0 : this.totalRunningTime.get() / count / MonitoredExecutor.NANOS_PER_MILLI;
+    }
+
+    @Override
+    protected void beforeExecute(final Thread thread, final Runnable runnable) {
+        MonitoredExecutor.CURRENT.set(this);
+
+        super.beforeExecute(thread, runnable);
+    }
+
+    @Override
+    public void execute(@NonNull final Runnable command) {
+        super.execute(new TimedRunnable(command));
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "MonitoredExecutor { name = '" + this.name + "', poolSize = " + this.getPoolSize() + ", activeCount = " + this.getActiveCount() + ", queueDepth = " + this.getQueueDepth() + ", completedTaskCount = " + this.taskCount.get() + ", averageWaitTime = " + this.getAverageWaitTime() + ", maxWaitTime = " + this.getMaxWaitTime() + ", averageRunningTime = " + this.getAverageRunningTime() + " }";
+    }
+
+    @NonNull
+    private static ThreadFactory newThreadFactory(@NonNull final String name, final int threadPriority) {
+        final AtomicInteger count = new AtomicInteger();
+
+        return runnable -> new Thread(() -> {
+            Process.setThreadPriority(threadPriority);
+
+            runnable.run();
+        }, name + "-" + count.incrementAndGet());
+    }
+}
@@ -31,11 +31,32 @@ public final class RxUtils {
             .subscribeOn(scheduler);
     }
 
-    public static <T> ObservableTransformer<T, T> applyObservableBackgroundSchedulers() {
+    /**
+     * Subscribes on {@link AppSchedulers#network()} and observes on {@link AppSchedulers#parse()}, so that blocking network calls and parsing do not compete for the same threads.
+     * <p>If subscribed on a network thread already, the call is made on it at once instead of waiting in the queue again, so that a caller timing the call from a network thread does not count the time spent waiting for another one.</p>
+     */
+    public static <T> ObservableTransformer<T, T> applyObservableNetworkSchedulers() {
         if (DevUtils.isRunningUnitTest()) return RxUtils.applyObservableTrampolineSchedulers();
 
-        return observable -> observable.observeOn(Schedulers.io())
-            .subscribeOn(Schedulers.io());
+        return observable -> Observable.defer(() -> AppSchedulers.isNetworkThread() ? observable : observable.subscribeOn(AppSchedulers.network()))
+            .observeOn(AppSchedulers.parse());
+    }
+
+    /**
+     * Subscribes on {@link AppSchedulers#interactiveNetwork()} and observes on {@link AppSchedulers#parse()}. Network calls made with {@link #applyObservableNetworkSchedulers()} inside the subscription stay on the interactive thread.
+     */
+    public static <T> SingleTransformer<T, T> applySingleInteractiveNetworkSchedulers() {
+        if (DevUtils.isRunningUnitTest()) return RxUtils.applySingleTrampolineSchedulers();
+
+        return single -> single.observeOn(AppSchedulers.parse())
+            .subscribeOn(AppSchedulers.interactiveNetwork());
+    }
+
+    public static <T> SingleTransformer<T, T> applySingleImageSchedulers() {
+        if (DevUtils.isRunningUnitTest()) return RxUtils.applySingleTrampolineSchedulers();
+
+        return single -> single.observeOn(AppSchedulers.image())
+            .subscribeOn(AppSchedulers.image());
     }
 
     public static <T> SingleTransformer<T, T> applySingleBackgroundSchedulers() {
@@ -66,6 +87,16 @@ public final class RxUtils {
             .subscribeOn(Schedulers.io());
     }
 
+    /**
+     * Subscribes on {@link Schedulers#computation()} and observes on the main thread, for work that keeps the CPU busy without blocking.
+     */
+    public static <T> SingleTransformer<T, T> applySingleComputationToMainSchedulers() {
+        if (DevUtils.isRunningUnitTest()) return RxUtils.applySingleTrampolineSchedulers();
+
+        return single -> single.observeOn(AndroidSchedulers.mainThread())
+            .subscribeOn(Schedulers.computation());
+    }
+
     public static <T> MaybeTransformer<T, T> applyMaybeBackgroundToMainSchedulers() {
         if (DevUtils.isRunningUnitTest()) return RxUtils.applyMaybeTrampolineSchedulers();
 
@@ -0,0 +1,83 @@
+package com.github.ayltai.newspaper.util;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+/**
+ * A lightweight view of a region of a {@link CharSequence}. No characters are copied until {@link #toString()} is called.
+ */
+public final class Slice implements CharSequence {
+    private final CharSequence text;
+    private final int          start;
+    private final int          end;
+
+    Slice(@NonNull final CharSequence text, final int start, final int end) {
+        if (start < 0 || end > text.length() || start > end) throw new IndexOutOfBoundsException("start = " + start + ", end = " + end + ", length = " + text.length());
+
+        this.text  = text;
+        this.start = start;
+        this.end   = end;
+    }
+
+    /**
+     * Returns the characters of the given slice as a {@link String}.
+     * @param slice The slice to copy, may be null.
+     * @return The characters of {@code slice}, or {@code null} if {@code slice} is {@code null}.
+     */
+    @Nullable
+    public static String asString(@Nullable final Slice slice) {
+        return slice == null ? null : slice.toString();
+    }
+
+    /**
+     * @return The underlying text of this slice.
+     */
+    @NonNull
+    CharSequence getText() {
+        return this.text;
+    }
+
+    /**
+     * @return The index in the underlying text where this slice starts, inclusive.
+     */
+    int getStart() {
+        return this.start;
+    }
+
+    /**
+     * @return The index in the underlying text where this slice ends, exclusive.
+     */
+    int getEnd() {
+        return this.end;
+    }
+
+    @Override
+    public int length() {
+        return this.end - this.start;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= this.length()) throw new IndexOutOfBoundsException("index = " + index + ", length = " + this.length());
+
+        return this.text.charAt(this.start + index);
+    }
+
+    @NonNull
+    @Override
+    public Slice subSequence(final int start, final int end) {
+        if (start < 0 || end > this.length() || start > end) throw new IndexOutOfBoundsException("start = " + start + ", end = " + end + ", length = " + this.length());
+
+        return new Slice(this.text, this.start + start, this.start + end);
+    }
+
+    public boolean isEmpty() {
+        return this.start == this.end;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return this.text.subSequence(this.start, this.end).toString();
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.ayltai.newspaper.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+/**
+ * Splits text into search terms: overlapping bigrams for runs of CJK characters, and lower-cased words for everything else. HTML tags and character entities are skipped.
+ * <p>Indexed text also gets a unigram for each CJK character, so that a single character can be looked up as a whole term.</p>
+ */
+public final class Tokenizer {
+    //region Constants
+
+    private static final int MAX_ENTITY_LENGTH = 10;
+
+    //endregion
+
+    private Tokenizer() {
+    }
+
+    /**
+     * Returns the terms of the given text, in order and with duplicates.
+     */
+    @NonNull
+    public static List<String> tokenize(@Nullable final CharSequence text) {
+        return Tokenizer.tokenize(text, false);
+    }
+
+    /**
+     * Returns the terms of the given text, in order and with duplicates.
+     * @param withUnigrams {@code true} to also return each character of a run of CJK characters, as done for indexing.
+     */
+    @NonNull
+    public static List<String> tokenize(@Nullable final CharSequence text, final boolean withUnigrams) {
+        final List<String> tokens = new ArrayList<>();
+        if (text == null) return tokens;
+
+        final int length = text.length();
+        int       i      = 0;
+
+        while (i < length) {
+            final char c = text.charAt(i);
+
+            if (c == '<') {
+                i = Tokenizer.skipTag(text, i);
+            } else if (c == '&') {
+                i = Tokenizer.skipEntity(text, i);
+            } else if (Tokenizer.isCjk(c)) {
+                int j = i + 1;
+                while (j < length && Tokenizer.isCjk(text.charAt(j))) j++;
+
+                if (j - i == 1) {
+                    tokens.add(String.valueOf(c));
+                } else {
+                    for (int k = i; k < j - 1; k++) tokens.add(text.subSequence(k, k + 2).toString());
+
+                    if (withUnigrams) {
+                        for (int k = i; k < j; k++) tokens.add(String.valueOf(text.charAt(k)));
+                    }
+                }
+
+                i = j;
+            } else if (Character.isLetterOrDigit(c)) {
+                int j = i + 1;
+                while (j < length && Character.isLetterOrDigit(text.charAt(j)) && !Tokenizer.isCjk(text.charAt(j))) j++;
+
+                tokens.add(text.subSequence(i, j).toString().toLowerCase(Locale.ENGLISH));
+
+                i = j;
+            } else {
+                i++;
+            }
+        }
+
+        return tokens;
+    }
+
+    /**
+     * Returns {@code true} if the given character is a Chinese, Japanese or Korean character that is searched by bigrams.
+     */
+    public static boolean isCjk(final char c) {
+        return c >= '\u3040' && c <= '\u30FF'
+            || c >= '\u3400' && c <= '\u4DBF'
+            || c >= '\u4E00' && c <= '\u9FFF'
+            || c >= '\uAC00' && c <= '\uD7AF'
+            || c >= '\uF900' && c <= '\uFAFF';
+    }
+
+    private static int skipTag(@NonNull final CharSequence text, final int start) {
+        for (int i = start + 1; i < text.length(); i++) {
+            if (text.charAt(i) == '>') return i + 1;
+        }
+
+        return start + 1;
+    }
+
+    private static int skipEntity(@NonNull final CharSequence text, final int start) {
+        final int end = Math.min(text.length(), start + Tokenizer.MAX_ENTITY_LENGTH);
+
+        for (int i = start + 1; i < end; i++) {
+            final char c = text.charAt(i);
+
+            if (c == ';') return i + 1;
+            if (!Character.isLetterOrDigit(c) && c != '#') break;
+        }
+
+        return start + 1;
+    }
+}
@@ -10,6 +10,11 @@ public abstract class ListPresenter<M, V extends ListPresenter.View<M>> extends
     public interface View<M> extends Presenter.View {
         void bind(@NonNull List<M> models);
 
+        /**
+         * Replaces the bound models with the given ones, updating only the rows that changed.
+         */
+        void update(@NonNull List<M> models);
+
         void scrollTo(int scrollPosition, boolean smoothScroll);
 
         @NonNull
@@ -9,26 +9,53 @@ import android.animation.Animator;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.v4.util.Pair;
+import android.support.v7.util.DiffUtil;
 import android.support.v7.widget.RecyclerView;
+import android.util.Log;
+import android.util.LruCache;
 import android.view.View;
 import android.view.animation.AccelerateDecelerateInterpolator;
 import android.view.animation.Interpolator;
 
+import com.akaita.java.rxjava2debug.RxJava2Debug;
+import com.github.ayltai.newspaper.util.DevUtils;
+import com.github.ayltai.newspaper.util.RxUtils;
 import com.github.ayltai.newspaper.view.binding.Binder;
 import com.github.ayltai.newspaper.view.binding.FullBinderFactory;
 import com.github.ayltai.newspaper.view.binding.PartBinderFactory;
 import com.github.ayltai.newspaper.view.binding.Binders;
 
+import io.reactivex.Single;
 import io.reactivex.disposables.Disposable;
 
 public abstract class UniversalAdapter<M, V, T extends RecyclerView.ViewHolder> extends RecyclerView.Adapter<T> {
     public static final int          DEFAULT_ANIMATION_DURATION     = 600;
     public static final Interpolator DEFAULT_ANIMATION_INTERPOLATOR = new AccelerateDecelerateInterpolator();
 
-    private final List<FullBinderFactory<M>>                     factories;
-    private final List<Pair<PartBinderFactory<M, V>, Binder<V>>> binders = new ArrayList<>();
+    /**
+     * The maximum number of {@link Binder}s kept for the rows not bound to a view. It is larger than the number of rows on screen and in the recycled view pool.
+     */
+    private static final int BINDER_CACHE_SIZE = 64;
+
+    /**
+     * A row of the adapter: a part of a model and the factory of its {@link Binder}. Rows are compared by identity, so that equal models in different rows have their own {@link Binder}s.
+     */
+    private static final class Part<M, V> {
+        private final PartBinderFactory<M, V> factory;
+        private final M                       model;
+
+        Part(@NonNull final PartBinderFactory<M, V> factory, @Nullable final M model) {
+            this.factory = factory;
+            this.model   = model;
+        }
+    }
 
-    private int lastItemPosition;
+    private final List<FullBinderFactory<M>>      factories;
+    private final List<Part<M, V>>                parts   = new ArrayList<>();
+    private final LruCache<Part<M, V>, Binder<V>> binders = new LruCache<>(UniversalAdapter.BINDER_CACHE_SIZE);
+
+    private int        lastItemPosition;
+    private Disposable diffDisposable;
 
     protected UniversalAdapter(@NonNull final List<FullBinderFactory<M>> factories) {
         this.factories = factories;
@@ -36,17 +63,32 @@ public abstract class UniversalAdapter<M, V, T extends RecyclerView.ViewHolder>
 
     @Override
     public int getItemCount() {
-        return this.binders.size();
+        return this.parts.size();
     }
 
+    /**
+     * Returns the view type of the given position without creating its {@link Binder}.
+     */
     @Override
     public int getItemViewType(final int position) {
-        return this.binders.get(position).first.getPartType();
+        return this.parts.get(position).factory.getPartType();
     }
 
+    /**
+     * Returns the {@link Binder} of the given position, creating it when the position is bound for the first time or after its {@link Binder} has been evicted from the cache.
+     * <p>An evicted {@link Binder} is not disposed, as it may still be bound to a view; it is disposed when the view is bound again.</p>
+     */
     @NonNull
     protected Binder<V> getBinder(final int position) {
-        return this.binders.get(position).second;
+        final Part<M, V> part   = this.parts.get(position);
+        Binder<V>        binder = this.binders.get(part);
+
+        if (binder == null) {
+            binder = part.factory.create(part.model);
+            if (binder != null) this.binders.put(part, binder);
+        }
+
+        return binder;
     }
 
     @NonNull
@@ -63,15 +105,29 @@ public abstract class UniversalAdapter<M, V, T extends RecyclerView.ViewHolder>
         return UniversalAdapter.DEFAULT_ANIMATION_INTERPOLATOR;
     }
 
+    /**
+     * Returns {@code true} if the given models represent the same item, so that {@link #onItemsChanged(List)} moves or updates its row instead of replacing it.
+     * <p>This is called on a background thread.</p>
+     */
+    protected boolean areItemsTheSame(@Nullable final M oldModel, @Nullable final M newModel) {
+        return oldModel == null ? newModel == null : oldModel.equals(newModel);
+    }
+
+    /**
+     * Returns {@code true} if the given models of the same item look the same, so that {@link #onItemsChanged(List)} keeps the {@link Binder} of its row.
+     * <p>This is called on a background thread, and on the main thread when the changes are applied.</p>
+     */
+    protected boolean areContentsTheSame(@Nullable final M oldModel, @Nullable final M newModel) {
+        return oldModel == newModel;
+    }
+
     public void clear() {
-        for (final Pair<PartBinderFactory<M, V>, Binder<V>> binder : this.binders) {
-            if (binder.second instanceof Disposable) {
-                final Disposable disposable = (Disposable)binder.second;
-                if (!disposable.isDisposed()) disposable.dispose();
-            }
-        }
+        this.cancelDiff();
 
-        this.binders.clear();
+        for (final Binder<V> binder : this.binders.snapshot().values()) UniversalAdapter.dispose(binder);
+
+        this.binders.evictAll();
+        this.parts.clear();
 
         this.notifyDataSetChanged();
     }
@@ -110,7 +166,8 @@ public abstract class UniversalAdapter<M, V, T extends RecyclerView.ViewHolder>
      * @param items The items changed.
      */
     public void onDataSetChanged(@NonNull final Iterable<M> items) {
-        this.binders.addAll(Binders.createBinders(items, this.factories));
+        this.cancelDiff();
+        this.parts.addAll(UniversalAdapter.toParts(Binders.createParts(items, this.factories)));
 
         this.notifyDataSetChanged();
     }
@@ -121,8 +178,96 @@ public abstract class UniversalAdapter<M, V, T extends RecyclerView.ViewHolder>
      * @param positionStart Position of the first item that was inserted.
      */
     public void onItemRangeInserted(@NonNull final Collection<M> items, final int positionStart) {
-        this.binders.addAll(positionStart, Binders.createBinders(items, this.factories));
+        this.cancelDiff();
+
+        final List<Part<M, V>> parts = UniversalAdapter.toParts(Binders.createParts(items, this.factories));
+        this.parts.addAll(positionStart, parts);
 
-        this.notifyItemRangeInserted(positionStart, items.size());
+        this.notifyItemRangeInserted(positionStart, parts.size());
+    }
+
+    /**
+     * Replaces the items with the given ones. The differences are computed on a background thread and notified as insertions, removals, moves and changes, so that the rows not changed keep their {@link Binder}s and are not bound again.
+     * <p>A pending update is discarded if the items are changed again before it is applied.</p>
+     * @param items The new items.
+     */
+    public void onItemsChanged(@NonNull final List<M> items) {
+        this.cancelDiff();
+
+        final List<Part<M, V>> oldParts = new ArrayList<>(this.parts);
+
+        this.diffDisposable = Single.fromCallable(() -> {
+                final List<Part<M, V>> newParts = UniversalAdapter.toParts(Binders.createParts(items, this.factories));
+
+                return Pair.create(newParts, DiffUtil.calculateDiff(new DiffUtil.Callback() {
+                    @Override
+                    public int getOldListSize() {
+                        return oldParts.size();
+                    }
+
+                    @Override
+                    public int getNewListSize() {
+                        return newParts.size();
+                    }
+
+                    @Override
+                    public boolean areItemsTheSame(final int oldItemPosition, final int newItemPosition) {
+                        return oldParts.get(oldItemPosition).factory == newParts.get(newItemPosition).factory && UniversalAdapter.this.areItemsTheSame(oldParts.get(oldItemPosition).model, newParts.get(newItemPosition).model);
+                    }
+
+                    @Override
+                    public boolean areContentsTheSame(final int oldItemPosition, final int newItemPosition) {
+                        return UniversalAdapter.this.areContentsTheSame(oldParts.get(oldItemPosition).model, newParts.get(newItemPosition).model);
+                    }
+                }));
+            })
+            .compose(RxUtils.applySingleComputationToMainSchedulers())
+            .subscribe(
+                result -> this.applyDiff(result.first, result.second),
+                error -> {
+                    if (DevUtils.isLoggable()) Log.e(this.getClass().getSimpleName(), error.getMessage(), RxJava2Debug.getEnhancedStackTrace(error));
+                });
+    }
+
+    private void applyDiff(@NonNull final List<Part<M, V>> newParts, @NonNull final DiffUtil.DiffResult result) {
+        final boolean[] isReused = new boolean[this.parts.size()];
+
+        for (int i = 0; i < newParts.size(); i++) {
+            final int oldPosition = result.convertNewPositionToOld(i);
+
+            // The row keeps its part, and therefore its cached binder
+            if (oldPosition != DiffUtil.DiffResult.NO_POSITION && this.areContentsTheSame(this.parts.get(oldPosition).model, newParts.get(i).model)) {
+                newParts.set(i, this.parts.get(oldPosition));
+                isReused[oldPosition] = true;
+            }
+        }
+
+        for (int i = 0; i < isReused.length; i++) {
+            if (!isReused[i]) UniversalAdapter.dispose(this.binders.remove(this.parts.get(i)));
+        }
+
+        this.parts.clear();
+        this.parts.addAll(newParts);
+
+        result.dispatchUpdatesTo(this);
+    }
+
+    private void cancelDiff() {
+        if (this.diffDisposable != null && !this.diffDisposable.isDisposed()) this.diffDisposable.dispose();
+    }
+
+    @NonNull
+    private static <M, V> List<Part<M, V>> toParts(@NonNull final List<Pair<PartBinderFactory<M, V>, M>> pairs) {
+        final List<Part<M, V>> parts = new ArrayList<>(pairs.size());
+        for (final Pair<PartBinderFactory<M, V>, M> pair : pairs) parts.add(new Part<>(pair.first, pair.second));
+
+        return parts;
+    }
+
+    private static void dispose(@Nullable final Object binder) {
+        if (binder instanceof Disposable) {
+            final Disposable disposable = (Disposable)binder;
+            if (!disposable.isDisposed()) disposable.dispose();
+        }
     }
 }
@@ -2,7 +2,6 @@ package com.github.ayltai.newspaper.view;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 import android.support.annotation.CallSuper;
 import android.support.annotation.NonNull;
@@ -17,6 +16,7 @@ import com.github.ayltai.newspaper.util.RxUtils;
 import io.reactivex.Flowable;
 import io.reactivex.Single;
 import io.reactivex.android.schedulers.AndroidSchedulers;
+import io.reactivex.disposables.Disposable;
 
 public abstract class VerticalListPresenter<M, V extends VerticalListPresenter.View<M>> extends ListPresenter<M, V> {
     public interface View<M> extends ListPresenter.View<M> {
@@ -36,6 +36,11 @@ public abstract class VerticalListPresenter<M, V extends VerticalListPresenter.V
 
         void hideLoadingView();
 
+        /**
+         * Sets whether more models are being loaded, so that an empty list is not shown as empty, and the refresh indicator is not hidden, until loading completes.
+         */
+        void setLoading(boolean isLoading);
+
         @NonNull
         Flowable<Irrelevant> clears();
 
@@ -43,6 +48,9 @@ public abstract class VerticalListPresenter<M, V extends VerticalListPresenter.V
         Flowable<Irrelevant> pullToRefreshes();
     }
 
+    private boolean    isLoading;
+    private Disposable loadDisposable;
+
     @NonNull
     public abstract Single<Irrelevant> clearAll();
 
@@ -58,13 +66,41 @@ public abstract class VerticalListPresenter<M, V extends VerticalListPresenter.V
         super.bindModel(models);
 
         if (this.getView() != null) {
-            if (models.isEmpty()) this.getView().showEmptyView();
+            if (models.isEmpty() && !this.isLoading) this.getView().showEmptyView();
 
-            this.getView().clear();
-            this.getView().bind(models);
+            this.getView().update(models);
         }
     }
 
+    /**
+     * Binds the models emitted by {@link #load()}, replacing any load in progress, and tells the view when the last of them is bound.
+     */
+    private void bindModels(@NonNull final V view) {
+        if (this.loadDisposable != null && !this.loadDisposable.isDisposed()) this.loadDisposable.dispose();
+
+        this.isLoading = true;
+        view.setLoading(true);
+
+        this.loadDisposable = this.load()
+            .compose(RxUtils.applyFlowableSchedulers(AndroidSchedulers.mainThread()))
+            .subscribe(
+                this::bindModel,
+                error -> {
+                    if (DevUtils.isLoggable()) Log.e(this.getClass().getSimpleName(), error.getMessage(), RxJava2Debug.getEnhancedStackTrace(error));
+
+                    this.onLoadComplete();
+                },
+                this::onLoadComplete);
+
+        this.manageDisposable(this.loadDisposable);
+    }
+
+    private void onLoadComplete() {
+        this.isLoading = false;
+
+        if (this.getView() != null) this.getView().setLoading(false);
+    }
+
     @CallSuper
     @Override
     public void onViewAttached(@NonNull final V view, final boolean isFirstAttached) {
@@ -73,13 +109,7 @@ public abstract class VerticalListPresenter<M, V extends VerticalListPresenter.V
         if (isFirstAttached) {
             view.showLoadingView();
 
-            this.manageDisposable(this.load()
-                .compose(RxUtils.applyFlowableSchedulers(AndroidSchedulers.mainThread()))
-                .subscribe(
-                    this::bindModel,
-                    error -> {
-                        if (DevUtils.isLoggable()) Log.e(this.getClass().getSimpleName(), error.getMessage(), RxJava2Debug.getEnhancedStackTrace(error));
-                    }));
+            this.bindModels(view);
         } else {
             view.scrollTo(this.scrollPosition, true);
         }
@@ -122,22 +152,8 @@ public abstract class VerticalListPresenter<M, V extends VerticalListPresenter.V
                 this.onPullToRefresh();
                 this.resetState();
 
-                final AtomicBoolean hasCleared = new AtomicBoolean(false);
-
-                this.manageDisposable(this.load()
-                    .compose(RxUtils.applyFlowableSchedulers(AndroidSchedulers.mainThread()))
-                    .subscribe(
-                        models -> {
-                            if (!hasCleared.get()) {
-                                hasCleared.set(true);
-                                view.clear();
-                            }
-
-                            this.bindModel(models);
-                        },
-                        error -> {
-                            if (DevUtils.isLoggable()) Log.e(this.getClass().getSimpleName(), error.getMessage(), RxJava2Debug.getEnhancedStackTrace(error));
-                        }));
+                // The items refreshed replace the items shown, so that only the rows changed are bound again
+                this.bindModels(view);
             },
             error -> {
                 if (DevUtils.isLoggable()) Log.e(this.getClass().getSimpleName(), error.getMessage(), RxJava2Debug.getEnhancedStackTrace(error));
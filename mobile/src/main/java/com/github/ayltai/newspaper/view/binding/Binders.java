@@ -2,6 +2,7 @@ package com.github.ayltai.newspaper.view.binding;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
@@ -11,11 +12,18 @@ public final class Binders {
     private Binders() {
     }
 
+    /**
+     * Returns the {@link PartBinderFactory} of each part of the given models, paired with the model of that part, without creating their {@link Binder}s, which are created when their parts are bound.
+     */
     @NonNull
-    public static <M, V> Collection<Pair<PartBinderFactory<M, V>, Binder<V>>> createBinders(@NonNull final Iterable<M> models, @NonNull final Iterable<FullBinderFactory<M>> factories) {
-        final Collection<Pair<PartBinderFactory<M, V>, Binder<V>>> list = new ArrayList<>();
+    public static <M, V> List<Pair<PartBinderFactory<M, V>, M>> createParts(@NonNull final Iterable<M> models, @NonNull final Iterable<FullBinderFactory<M>> factories) {
+        final List<Pair<PartBinderFactory<M, V>, M>> list = new ArrayList<>();
 
-        for (final M model : models) list.addAll(Binders.create(model, Binders.simplify(model, factories)));
+        for (final M model : models) {
+            for (final PartBinderFactory<M, V> factory : Binders.<M, V>simplify(model, factories)) {
+                if (factory.isNeeded(model)) list.add(Pair.create(factory, model));
+            }
+        }
 
         return list;
     }
@@ -41,14 +49,4 @@ public final class Binders {
 
         return list;
     }
-
-    private static <M, V> Collection<Pair<PartBinderFactory<M, V>, Binder<V>>> create(@Nullable final M model, @NonNull final Iterable<PartBinderFactory<M, V>> factories) {
-        final Collection<Pair<PartBinderFactory<M, V>, Binder<V>>> list = new ArrayList<>();
-
-        for (final PartBinderFactory<M, V> factory : factories) {
-            if (factory.isNeeded(model)) list.add(Pair.create(factory, factory.create(model)));
-        }
-
-        return list;
-    }
 }
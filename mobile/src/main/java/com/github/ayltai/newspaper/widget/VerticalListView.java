@@ -37,6 +37,8 @@ public abstract class VerticalListView<M> extends ListView<M> implements Vertica
 
     //endregion
 
+    private boolean isLoading;
+
     protected VerticalListView(@NonNull final Context context) {
         super(context);
     }
@@ -69,7 +71,7 @@ public abstract class VerticalListView<M> extends ListView<M> implements Vertica
         }
 
         if (this.adapter.getItemCount() == 0 && models.isEmpty()) {
-            this.showEmptyView();
+            if (!this.isLoading) this.showEmptyView();
         } else {
             this.hideEmptyView();
             this.hideLoadingView();
@@ -84,7 +86,24 @@ public abstract class VerticalListView<M> extends ListView<M> implements Vertica
             this.adapter.onItemRangeInserted(models, this.adapter.getItemCount() - 1);
         }
 
-        this.swipeRefreshLayout.setRefreshing(false);
+        if (!this.isLoading) this.swipeRefreshLayout.setRefreshing(false);
+    }
+
+    @Override
+    public void update(@NonNull final List<M> models) {
+        if (models.isEmpty()) {
+            if (!this.isLoading) this.showEmptyView();
+        } else {
+            this.hideEmptyView();
+            this.hideLoadingView();
+        }
+
+        final List<M> items = new ArrayList<>(models);
+        items.add(null);
+
+        this.adapter.onItemsChanged(items);
+
+        if (!this.isLoading) this.swipeRefreshLayout.setRefreshing(false);
     }
 
     @Override
@@ -114,6 +133,18 @@ public abstract class VerticalListView<M> extends ListView<M> implements Vertica
         this.pullToRefreshes.onNext(Irrelevant.INSTANCE);
     }
 
+    @Override
+    public void setLoading(final boolean isLoading) {
+        this.isLoading = isLoading;
+
+        if (!isLoading) {
+            this.swipeRefreshLayout.setRefreshing(false);
+
+            // Only the footer is left
+            if (this.adapter.getItemCount() <= 1) this.showEmptyView();
+        }
+    }
+
     @Override
     public void showEmptyView() {
         this.recyclerView.setVisibility(View.GONE);
@@ -1,18 +1,25 @@
 package com.github.ayltai.newspaper.app.data;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 
 import org.junit.Assert;
 import org.junit.Test;
 import org.robolectric.RuntimeEnvironment;
 
+import com.github.ayltai.newspaper.Constants;
 import com.github.ayltai.newspaper.app.data.model.NewsItem;
+import com.github.ayltai.newspaper.app.data.model.RefreshState;
 import com.github.ayltai.newspaper.data.DaggerDataComponent;
 import com.github.ayltai.newspaper.data.DataModule;
 import com.github.ayltai.newspaper.data.DataTest;
+import com.github.ayltai.newspaper.data.RealmManager;
 import com.github.ayltai.newspaper.util.Irrelevant;
 
+import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
 import io.realm.Realm;
 
 public final class ItemManagerTest extends DataTest {
@@ -24,7 +31,8 @@ public final class ItemManagerTest extends DataTest {
             .realm();
 
         Assert.assertEquals(realm, ItemManager.create(realm).getRealm());
-        Assert.assertEquals(realm, ItemManager.create(RuntimeEnvironment.application).blockingGet().getRealm());
+        Assert.assertEquals(realm, ItemManager.using(RuntimeEnvironment.application, Schedulers.trampoline(), manager -> Single.just(manager.getRealm())).blockingGet());
+        Assert.assertEquals(0, RealmManager.getReferenceCount());
     }
 
     @Test
@@ -41,6 +49,50 @@ public final class ItemManagerTest extends DataTest {
         Assert.assertEquals(0, queryItems.size());
     }
 
+    @Test
+    public void testGetItemPage() {
+        final ItemManager manager = ItemManager.create(DaggerDataComponent.builder()
+            .dataModule(new DataModule(RuntimeEnvironment.application))
+            .build()
+            .realm());
+
+        final List<NewsItem> items = manager.getItemPage(new String[] { "source" }, new String[] { "category" }, Long.MAX_VALUE, new String[0]).blockingGet();
+        Assert.assertEquals(0, items.size());
+
+        final List<NewsItem> nextItems = manager.getItemPage(new String[] { "source" }, new String[] { "category" }, System.currentTimeMillis(), new String[] { "link" }).blockingGet();
+        Assert.assertEquals(0, nextItems.size());
+    }
+
+    @Test
+    public void testGetItem() {
+        final ItemManager manager = ItemManager.create(DaggerDataComponent.builder()
+            .dataModule(new DataModule(RuntimeEnvironment.application))
+            .build()
+            .realm());
+
+        Assert.assertNull(manager.getItem("link").blockingGet());
+    }
+
+    @Test
+    public void testSummarize() {
+        Assert.assertNull(ItemManager.summarize(null));
+        Assert.assertEquals("<p>Short</p>", ItemManager.summarize("<p>Short</p>"));
+
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100; i++) builder.append("<b>word</b>\n");
+
+        final String summary = ItemManager.summarize(builder.toString());
+        Assert.assertFalse(summary.contains("<"));
+        Assert.assertTrue(summary.startsWith("word word "));
+        Assert.assertTrue(summary.length() <= 201);
+
+        final StringBuilder entityBuilder = new StringBuilder();
+        for (int i = 0; i < 197; i++) entityBuilder.append('a');
+        entityBuilder.append("&amp;bbb");
+
+        Assert.assertFalse(ItemManager.summarize(entityBuilder.toString()).contains("&"));
+    }
+
     @Test
     public void testGetHistoricalItems() {
         final ItemManager manager = ItemManager.create(DaggerDataComponent.builder()
@@ -82,6 +134,63 @@ public final class ItemManagerTest extends DataTest {
         items.add(item);
 
         Assert.assertEquals(1, manager.putItems(items).blockingGet().size());
+
+        final List<NewsItem> summaries = manager.putItems(items, true).blockingGet();
+        Assert.assertEquals(1, summaries.size());
+        Assert.assertTrue(summaries.get(0).isSummary());
+    }
+
+    @Test
+    public void testSearch() {
+        final ItemManager manager = ItemManager.create(DaggerDataComponent.builder()
+            .dataModule(new DataModule(RuntimeEnvironment.application))
+            .build()
+            .realm());
+
+        final NewsItem item = ItemManagerTest.createItem("link", new Date(), false, null);
+        item.setTitle("香港天氣");
+
+        manager.putItems(Collections.singletonList(item)).blockingGet();
+
+        Assert.assertEquals(1, manager.getItems("港", new String[] { "source" }, new String[] { "category" }).blockingGet().size());
+        Assert.assertEquals(1, manager.getItems("天氣", new String[] { "source" }, new String[] { "category" }).blockingGet().size());
+        Assert.assertEquals(0, manager.getItems("雨", new String[] { "source" }, new String[] { "category" }).blockingGet().size());
+
+        // Items are indexed as they are put, so nothing is left for the background indexing
+        Assert.assertEquals(0, manager.indexItems().blockingGet().intValue());
+    }
+
+    @Test
+    public void testHousekeep() {
+        final ItemManager manager = ItemManager.create(DaggerDataComponent.builder()
+            .dataModule(new DataModule(RuntimeEnvironment.application))
+            .build()
+            .realm());
+
+        Assert.assertEquals(0, manager.housekeep().blockingGet().intValue());
+
+        final long now = System.currentTimeMillis();
+        final Date old = new Date(now - Constants.HOUSEKEEP_TIME - 60 * 60 * 1000);
+
+        final List<NewsItem> items = new ArrayList<>();
+        items.add(ItemManagerTest.createItem("recent", new Date(now - 60 * 60 * 1000), false, null));
+        items.add(ItemManagerTest.createItem("obsolete", old, false, null));
+        items.add(ItemManagerTest.createItem("bookmarked", old, true, new Date(now)));
+        items.add(ItemManagerTest.createItem("unread", old, true, null));
+        items.add(ItemManagerTest.createItem("invalid", new Date(0), false, null));
+        items.add(ItemManagerTest.createItem("future", new Date(now + 24 * 60 * 60 * 1000), false, null));
+
+        manager.putItems(items).blockingGet();
+
+        Assert.assertEquals(4, manager.housekeep().blockingGet().intValue());
+        Assert.assertNotNull(manager.getItem("recent").blockingGet());
+        Assert.assertNotNull(manager.getItem("bookmarked").blockingGet());
+        Assert.assertNull(manager.getItem("obsolete").blockingGet());
+        Assert.assertNull(manager.getItem("unread").blockingGet());
+        Assert.assertNull(manager.getItem("invalid").blockingGet());
+        Assert.assertNull(manager.getItem("future").blockingGet());
+
+        Assert.assertEquals(0, manager.housekeep().blockingGet().intValue());
     }
 
     @Test
@@ -103,4 +212,27 @@ public final class ItemManagerTest extends DataTest {
 
         Assert.assertEquals(Irrelevant.INSTANCE, manager.clearBookmarks().blockingGet());
     }
+
+    @Test
+    public void testRefreshStates() {
+        final ItemManager manager = ItemManager.create(DaggerDataComponent.builder()
+            .dataModule(new DataModule(RuntimeEnvironment.application))
+            .build()
+            .realm());
+
+        Assert.assertEquals(Irrelevant.INSTANCE, manager.putRefreshStates(Collections.singletonList(new RefreshState("source", "category", 0, 1, 0))).blockingGet());
+        Assert.assertTrue(manager.getRefreshStates(new String[] { "source" }).blockingGet().isEmpty());
+    }
+
+    private static NewsItem createItem(final String link, final Date publishDate, final boolean isBookmarked, final Date lastAccessedDate) {
+        final NewsItem item = new NewsItem();
+        item.setLink(link);
+        item.setSource("source");
+        item.setCategory("category");
+        item.setPublishDate(publishDate);
+        item.setBookmarked(isBookmarked);
+        item.setLastAccessedDate(lastAccessedDate);
+
+        return item;
+    }
 }
@@ -0,0 +1,41 @@
+package com.github.ayltai.newspaper.app.data;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.github.ayltai.newspaper.Constants;
+import com.github.ayltai.newspaper.UnitTest;
+import com.github.ayltai.newspaper.app.data.model.RefreshState;
+
+public final class RefreshPolicyTest extends UnitTest {
+    private static final long NOW = 1000000000000L;
+
+    @Test
+    public void testIsFresh() {
+        Assert.assertFalse(RefreshPolicy.isFresh(null, RefreshPolicyTest.NOW));
+        Assert.assertTrue(RefreshPolicy.isFresh(new RefreshState("source", "category", RefreshPolicyTest.NOW - 1000, 10, 500), RefreshPolicyTest.NOW));
+        Assert.assertFalse(RefreshPolicy.isFresh(new RefreshState("source", "category", RefreshPolicyTest.NOW - 1000, 0, 500), RefreshPolicyTest.NOW));
+        Assert.assertFalse(RefreshPolicy.isFresh(new RefreshState("source", "category", RefreshPolicyTest.NOW - RefreshPolicy.FRESH_DURATION, 10, 500), RefreshPolicyTest.NOW));
+    }
+
+    @Test
+    public void testGetTimeout() {
+        Assert.assertEquals(Constants.STALE_REFRESH_TIMEOUT, RefreshPolicy.getTimeout(null, false, RefreshPolicyTest.NOW));
+        Assert.assertEquals(Constants.STALE_REFRESH_TIMEOUT, RefreshPolicy.getTimeout(new RefreshState("source", "category", RefreshPolicyTest.NOW - RefreshPolicy.STALE_DURATION, 10, 500), true, RefreshPolicyTest.NOW));
+        Assert.assertEquals(Constants.REFRESH_TIMEOUT, RefreshPolicy.getTimeout(new RefreshState("source", "category", RefreshPolicyTest.NOW - 1000, 10, 500), true, RefreshPolicyTest.NOW));
+        Assert.assertEquals(Constants.CONNECTION_TIMEOUT, RefreshPolicy.getTimeout(new RefreshState("source", "category", RefreshPolicyTest.NOW - 1000, 10, 500), false, RefreshPolicyTest.NOW));
+        Assert.assertEquals(6, RefreshPolicy.getTimeout(new RefreshState("source", "category", RefreshPolicyTest.NOW - 1000, 10, 1800), false, RefreshPolicyTest.NOW));
+        Assert.assertEquals(Constants.REFRESH_TIMEOUT, RefreshPolicy.getTimeout(new RefreshState("source", "category", RefreshPolicyTest.NOW - 1000, 10, 10000), false, RefreshPolicyTest.NOW));
+    }
+
+    @Test
+    public void testUpdate() {
+        final RefreshState state = RefreshPolicy.update(null, "source", "category", 10, 800, RefreshPolicyTest.NOW);
+
+        Assert.assertEquals(RefreshState.toKey("source", "category"), state.getKey());
+        Assert.assertEquals(RefreshPolicyTest.NOW, state.getLastRefreshDate());
+        Assert.assertEquals(10, state.getItemCount());
+        Assert.assertEquals(800, state.getAverageLatency());
+        Assert.assertEquals(700, RefreshPolicy.update(state, "source", "category", 5, 400, RefreshPolicyTest.NOW).getAverageLatency());
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.ayltai.newspaper.app.data;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.github.ayltai.newspaper.UnitTest;
+import com.github.ayltai.newspaper.app.data.model.NewsItem;
+
+public final class SearchResultsTest extends UnitTest {
+    @Test
+    public void testIsRefinableBy() {
+        final SearchResults results = new SearchResults("hong", Collections.emptyList(), Collections.emptyMap());
+
+        Assert.assertTrue(results.isRefinableBy("hong"));
+        Assert.assertTrue(results.isRefinableBy("hong kong"));
+        Assert.assertFalse(results.isRefinableBy("hon"));
+        Assert.assertFalse(results.isRefinableBy("kong"));
+        Assert.assertFalse(results.isRefinableBy("hong &amp;"));
+        Assert.assertFalse(new SearchResults(null, Collections.emptyList(), Collections.emptyMap()).isRefinableBy("hong"));
+    }
+
+    @Test
+    public void testRefine() {
+        final NewsItem a = SearchResultsTest.createItem("a", "Hong Kong weather", "Rain", 3000);
+        final NewsItem b = SearchResultsTest.createItem("b", "Hongkong", "Kong", 2000);
+        final NewsItem c = SearchResultsTest.createItem("c", "Tokyo", "Hong Kong", 1000);
+
+        final List<NewsItem>                    items = Arrays.asList(a, b, c);
+        final Map<String, Map<String, Integer>> index = new HashMap<>();
+
+        for (final NewsItem item : items) index.put(item.getLink(), SearchIndex.score(item.getTitle(), item.getDescription()));
+
+        final SearchResults results = new SearchResults("ho", items, index);
+
+        Assert.assertEquals(Arrays.asList(a, c), results.refine("hong kong").getItems());
+        Assert.assertEquals(Arrays.asList(a, b, c), results.refine("hong").getItems());
+        Assert.assertEquals(Collections.singletonList(a), results.refine("hong kong").refine("hong kong w").getItems());
+        Assert.assertEquals(Collections.emptyList(), results.refine("hong kong tokyo rain").getItems());
+    }
+
+    private static NewsItem createItem(final String link, final String title, final String description, final long publishDate) {
+        final NewsItem item = new NewsItem();
+        item.setLink(link);
+        item.setTitle(title);
+        item.setDescription(description);
+        item.setPublishDate(publishDate);
+
+        return item;
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.ayltai.newspaper.app.data;
+
+import java.io.FileInputStream;
+import java.util.Collections;
+
+import android.support.annotation.CallSuper;
+import android.support.annotation.NonNull;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.robolectric.RuntimeEnvironment;
+
+import com.github.ayltai.newspaper.app.ComponentFactory;
+import com.github.ayltai.newspaper.app.data.model.NewsItem;
+import com.github.ayltai.newspaper.app.data.model.SourceFactory;
+import com.github.ayltai.newspaper.client.Client;
+import com.github.ayltai.newspaper.client.RssClient;
+import com.github.ayltai.newspaper.data.DataTest;
+import com.github.ayltai.newspaper.net.ApiService;
+import com.github.ayltai.newspaper.net.HttpComponent;
+import com.github.ayltai.newspaper.net.NetworkMetrics;
+import com.github.ayltai.newspaper.rss.RssConverterFactory;
+
+import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
+import retrofit2.Retrofit;
+import retrofit2.adapter.rxjava2.RxJava2CallAdapterFactory;
+import retrofit2.converter.scalars.ScalarsConverterFactory;
+
+public final class SynchronizerTest extends DataTest {
+    private static final String SOURCE   = "香港電台";
+    private static final String CATEGORY = "即時港聞";
+
+    private MockWebServer server;
+
+    @CallSuper
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        this.server = new MockWebServer();
+        this.server.start();
+    }
+
+    @CallSuper
+    @After
+    @Override
+    public void tearDown() throws Exception {
+        this.server.shutdown();
+
+        super.tearDown();
+    }
+
+    @Test
+    public void testSync() throws Exception {
+        this.server.enqueue(new MockResponse()
+            .setHeader("Content-Type", "application/rss+xml; charset=UTF-8")
+            .setBody(new Buffer().readFrom(new FileInputStream("src/debug/assets/rthk.xml"))));
+
+        final HttpComponent  httpComponent = ComponentFactory.getInstance().getHttpComponent(RuntimeEnvironment.application);
+        final NetworkMetrics metrics       = httpComponent.networkMetrics();
+        final int            count         = Synchronizer.sync(RuntimeEnvironment.application, Schedulers.trampoline(), Collections.singletonMap(SynchronizerTest.SOURCE, this.createClient()), Collections.singletonList(SynchronizerTest.CATEGORY), metrics, httpComponent.resilienceInterceptor()).blockingGet();
+
+        Assert.assertEquals(20, count);
+        Assert.assertEquals(1, this.server.getRequestCount());
+        Assert.assertEquals("/rthk/news/rss/c_expressnews_clocal.xml", this.server.takeRequest().getPath());
+        Assert.assertNotNull(metrics.getHistogram(SynchronizerTest.SOURCE, NetworkMetrics.PHASE_FETCH));
+    }
+
+    @Test
+    public void testSyncUnselectedCategories() {
+        final HttpComponent httpComponent = ComponentFactory.getInstance().getHttpComponent(RuntimeEnvironment.application);
+
+        Assert.assertEquals(0, (int)Synchronizer.sync(RuntimeEnvironment.application, Schedulers.trampoline(), Collections.singletonMap(SynchronizerTest.SOURCE, this.createClient()), Collections.singletonList("unknown"), httpComponent.networkMetrics(), httpComponent.resilienceInterceptor()).blockingGet());
+        Assert.assertEquals(0, this.server.getRequestCount());
+    }
+
+    @NonNull
+    private Client createClient() {
+        // Sends the requests to the real hosts to the local server instead
+        final OkHttpClient httpClient = new OkHttpClient.Builder()
+            .addInterceptor(chain -> chain.proceed(chain.request()
+                .newBuilder()
+                .url(this.server.url(chain.request().url().encodedPath()))
+                .build()))
+            .build();
+
+        final ApiService apiService = new Retrofit.Builder()
+            .addCallAdapterFactory(RxJava2CallAdapterFactory.create())
+            .addConverterFactory(ScalarsConverterFactory.create())
+            .addConverterFactory(RssConverterFactory.create())
+            .baseUrl(this.server.url("/"))
+            .client(httpClient)
+            .build()
+            .create(ApiService.class);
+
+        return new RssClient(httpClient, apiService, SourceFactory.getInstance(RuntimeEnvironment.application).getSource(SynchronizerTest.SOURCE)) {
+            @NonNull
+            @Override
+            public Single<NewsItem> updateItem(@NonNull final NewsItem item) {
+                return Single.just(item);
+            }
+        };
+    }
+}
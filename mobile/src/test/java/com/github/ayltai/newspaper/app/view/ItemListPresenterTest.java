@@ -1,22 +1,29 @@
 package com.github.ayltai.newspaper.app.view;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 
 import android.support.annotation.NonNull;
 
+import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.robolectric.Robolectric;
 
 import com.github.ayltai.newspaper.app.MainActivity;
+import com.github.ayltai.newspaper.app.data.ItemManager;
 import com.github.ayltai.newspaper.app.data.model.Item;
+import com.github.ayltai.newspaper.app.data.model.NewsItem;
 import com.github.ayltai.newspaper.app.data.model.Video;
 import com.github.ayltai.newspaper.util.Irrelevant;
 import com.github.ayltai.newspaper.view.VerticalListPresenter;
 import com.github.ayltai.newspaper.view.PresenterTest;
 
+import io.reactivex.Single;
 import io.reactivex.processors.FlowableProcessor;
 import io.reactivex.processors.PublishProcessor;
 import io.realm.RealmList;
@@ -25,7 +32,7 @@ public final class ItemListPresenterTest extends PresenterTest<MainActivity, Ite
     private final FlowableProcessor<List<Item>> load                           = PublishProcessor.create();
     private final FlowableProcessor<Irrelevant> clears                         = PublishProcessor.create();
     private final FlowableProcessor<Irrelevant> pullToRefreshes                = PublishProcessor.create();
-    private final FlowableProcessor<Irrelevant> bestVisibleItemPositionChanges = PublishProcessor.create();
+    private final FlowableProcessor<Integer>    bestVisibleItemPositionChanges = PublishProcessor.create();
 
     @NonNull
     @Override
@@ -69,8 +76,8 @@ public final class ItemListPresenterTest extends PresenterTest<MainActivity, Ite
 
         this.load.onNext(models);
 
-        Mockito.verify(this.getView(), Mockito.times(1)).clear();
-        Mockito.verify(this.getView(), Mockito.times(1)).bind(models);
+        Mockito.verify(this.getView(), Mockito.never()).clear();
+        Mockito.verify(this.getView(), Mockito.times(1)).update(models);
     }
 
     @Test
@@ -89,8 +96,78 @@ public final class ItemListPresenterTest extends PresenterTest<MainActivity, Ite
 
         this.load.onNext(models);
 
-        Mockito.verify(this.getView(), Mockito.times(3)).clear();
-        Mockito.verify(this.getView(), Mockito.times(2)).bind(models);
+        // The load superseded by the refresh is no longer bound
+        Mockito.verify(this.getView(), Mockito.never()).clear();
+        Mockito.verify(this.getView(), Mockito.times(1)).update(models);
+    }
+
+    @Test
+    public void Given_loading_When_loadCompletes_Then_viewIsNotLoading() {
+        // Given
+        this.attachments.onNext(true);
+
+        Mockito.verify(this.getView(), Mockito.times(1)).setLoading(true);
+
+        this.load.onNext(Collections.emptyList());
+
+        Mockito.verify(this.getView(), Mockito.never()).showEmptyView();
+
+        // When
+        this.load.onComplete();
+
+        // Then
+        Mockito.verify(this.getView(), Mockito.times(1)).setLoading(false);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void Given_manyPages_When_scrolled_Then_farthestPagesAreDroppedAndLoadedAgain() {
+        // Given
+        final List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 10 * ItemManager.PAGE_SIZE; i++) items.add(ItemListPresenterTest.createItem(i));
+
+        Mockito.doAnswer(invocation -> {
+            final long         before        = invocation.getArgument(0);
+            final List<String> excludedLinks = Arrays.asList((String[])invocation.getArgument(1));
+            final List<Item>   page          = new ArrayList<>();
+
+            for (final Item item : items) {
+                if (page.size() < ItemManager.PAGE_SIZE && item.getPublishDate().getTime() <= before && !excludedLinks.contains(item.getLink())) page.add(item);
+            }
+
+            return Single.just(page);
+        }).when(this.getPresenter()).loadPage(Mockito.anyLong(), Mockito.any(String[].class));
+
+        this.attachments.onNext(true);
+        this.load.onNext(new ArrayList<>(items.subList(0, ItemManager.PAGE_SIZE)));
+
+        // When
+        for (int i = 1; i <= 6; i++) this.bestVisibleItemPositionChanges.onNext(i * ItemManager.PAGE_SIZE - 1);
+
+        // Then
+        final ArgumentCaptor<List<Item>> models = ArgumentCaptor.forClass(List.class);
+
+        Mockito.verify(this.getView(), Mockito.atLeastOnce()).update(models.capture());
+        Assert.assertEquals("The farthest pages are not dropped", 5 * ItemManager.PAGE_SIZE, models.getValue().size());
+        Assert.assertEquals("link" + 3 * ItemManager.PAGE_SIZE, models.getValue().get(ItemManager.PAGE_SIZE).getLink());
+
+        // When
+        this.bestVisibleItemPositionChanges.onNext(ItemManager.PAGE_SIZE);
+
+        // Then
+        Mockito.verify(this.getView(), Mockito.atLeastOnce()).update(models.capture());
+        Assert.assertEquals("The last page is not dropped", 5 * ItemManager.PAGE_SIZE, models.getValue().size());
+        Assert.assertEquals("The dropped page is not loaded again", "link" + 2 * ItemManager.PAGE_SIZE, models.getValue().get(ItemManager.PAGE_SIZE).getLink());
+    }
+
+    @NonNull
+    private static Item createItem(final int index) {
+        final NewsItem item = new NewsItem();
+        item.setLink("link" + index);
+        item.setTitle("");
+        item.setPublishDate(1000000000000L - index * 1000L);
+
+        return item;
     }
 
     @NonNull
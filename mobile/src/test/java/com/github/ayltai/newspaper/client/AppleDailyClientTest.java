@@ -46,6 +46,14 @@ public final class AppleDailyClientTest extends NetworkTest {
             return Observable.just(AppleDailyClientTest.createVideoHtml());
         }).when(this.apiService).getHtml(Mockito.anyString());
 
+        Mockito.doAnswer(invocationOnMock -> {
+            final String url = invocationOnMock.getArgument(0);
+
+            if (AppleDailyClientTest.APPLE_DAILY_URL.equals(url)) return Observable.fromCallable(() -> NetworkTest.createResponseBody(AppleDailyClientTest.createHtml()));
+
+            return Observable.error(new RuntimeException("Fake error 1"));
+        }).when(this.apiService).getBody(Mockito.anyString());
+
         this.client = new AppleDailyClient(this.httpClient, this.apiService, SourceFactory.getInstance(RuntimeEnvironment.application).getSource("蘋果日報"));
     }
 
@@ -23,5 +23,7 @@ public final class ClientFactoryTest extends UnitTest {
         Assert.assertTrue(factory.getClient("晴報") instanceof SkyPostClient);
         Assert.assertTrue(factory.getClient("信報") instanceof HkejClient);
         Assert.assertTrue(factory.getClient("香港電台") instanceof RthkClient);
+        Assert.assertFalse(factory.getHostStates("蘋果日報").isEmpty());
+        Assert.assertTrue(factory.getHostStates("unknown").isEmpty());
     }
 }
@@ -2,6 +2,7 @@ package com.github.ayltai.newspaper.client;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.util.List;
 
 import android.support.annotation.CallSuper;
@@ -12,13 +13,13 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.robolectric.RuntimeEnvironment;
-import org.simpleframework.xml.core.Persister;
 
 import com.github.ayltai.newspaper.app.data.model.Item;
 import com.github.ayltai.newspaper.app.data.model.NewsItem;
 import com.github.ayltai.newspaper.app.data.model.SourceFactory;
 import com.github.ayltai.newspaper.net.NetworkTest;
 import com.github.ayltai.newspaper.rss.RssFeed;
+import com.github.ayltai.newspaper.rss.RssParser;
 import com.github.ayltai.newspaper.util.IOUtils;
 
 import io.reactivex.Observable;
@@ -38,9 +39,9 @@ public final class HketClientTest extends NetworkTest {
         super.setUp();
 
         Mockito.doReturn(Observable.just(HketClientTest.createFeed())).when(this.apiService).getFeed(HketClientTest.HKET_URL);
-        Mockito.doReturn(Observable.just(HketClientTest.createDetailsHtml())).when(this.apiService).getHtml(HketClientTest.HKET_DETAILS_URL);
+        Mockito.doReturn(Observable.fromCallable(() -> NetworkTest.createResponseBody(HketClientTest.createDetailsHtml()))).when(this.apiService).getBody(HketClientTest.HKET_DETAILS_URL);
         Mockito.doReturn(Observable.error(new RuntimeException("Fake error 1"))).when(this.apiService).getFeed(HketClientTest.ERROR_URL);
-        Mockito.doReturn(Observable.error(new RuntimeException("Fake error 2"))).when(this.apiService).getHtml(HketClientTest.ERROR_DETAILS_URL);
+        Mockito.doReturn(Observable.error(new RuntimeException("Fake error 2"))).when(this.apiService).getBody(HketClientTest.ERROR_DETAILS_URL);
 
         this.client = new HketClient(this.httpClient, this.apiService, SourceFactory.getInstance(RuntimeEnvironment.application).getSource("經濟日報"));
     }
@@ -86,7 +87,7 @@ public final class HketClientTest extends NetworkTest {
 
     @NonNull
     private static RssFeed createFeed() throws Exception {
-        return new Persister().read(RssFeed.class, new FileInputStream("src/debug/assets/hket.xml"));
+        return RssParser.parse(new InputStreamReader(new FileInputStream("src/debug/assets/hket.xml"), "UTF-8"), 0);
     }
 
     @NonNull
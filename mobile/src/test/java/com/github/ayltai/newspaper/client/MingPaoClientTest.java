@@ -2,6 +2,7 @@ package com.github.ayltai.newspaper.client;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.util.List;
 
 import android.support.annotation.CallSuper;
@@ -12,13 +13,13 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.robolectric.RuntimeEnvironment;
-import org.simpleframework.xml.core.Persister;
 
 import com.github.ayltai.newspaper.app.data.model.Item;
 import com.github.ayltai.newspaper.app.data.model.NewsItem;
 import com.github.ayltai.newspaper.app.data.model.SourceFactory;
 import com.github.ayltai.newspaper.net.NetworkTest;
 import com.github.ayltai.newspaper.rss.RssFeed;
+import com.github.ayltai.newspaper.rss.RssParser;
 import com.github.ayltai.newspaper.util.IOUtils;
 
 import io.reactivex.Observable;
@@ -112,12 +113,12 @@ public final class MingPaoClientTest extends NetworkTest {
 
     @NonNull
     private static RssFeed createFeed() throws Exception {
-        return new Persister().read(RssFeed.class, new FileInputStream("src/debug/assets/mingpao.xml"));
+        return RssParser.parse(new InputStreamReader(new FileInputStream("src/debug/assets/mingpao.xml"), "UTF-8"), 0);
     }
 
     @NonNull
     private static RssFeed createInstantFeed() throws Exception {
-        return new Persister().read(RssFeed.class, new FileInputStream("src/debug/assets/mingpao_instant.xml"));
+        return RssParser.parse(new InputStreamReader(new FileInputStream("src/debug/assets/mingpao_instant.xml"), "UTF-8"), 0);
     }
 
     @NonNull
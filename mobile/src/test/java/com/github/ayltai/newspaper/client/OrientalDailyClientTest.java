@@ -2,6 +2,7 @@ package com.github.ayltai.newspaper.client;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.util.List;
 
 import android.support.annotation.CallSuper;
@@ -12,13 +13,13 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.robolectric.RuntimeEnvironment;
-import org.simpleframework.xml.core.Persister;
 
 import com.github.ayltai.newspaper.app.data.model.Item;
 import com.github.ayltai.newspaper.app.data.model.NewsItem;
 import com.github.ayltai.newspaper.app.data.model.SourceFactory;
 import com.github.ayltai.newspaper.net.NetworkTest;
 import com.github.ayltai.newspaper.rss.RssFeed;
+import com.github.ayltai.newspaper.rss.RssParser;
 import com.github.ayltai.newspaper.util.IOUtils;
 
 import io.reactivex.Observable;
@@ -38,10 +39,10 @@ public final class OrientalDailyClientTest extends NetworkTest {
         super.setUp();
 
         Mockito.doReturn(Observable.just(createFeed())).when(this.apiService).getFeed(OrientalDailyClientTest.ORIENTAL_DAILY_URL);
-        Mockito.doReturn(Observable.just(createHtml())).when(this.apiService).getHtml(OrientalDailyClientTest.ORIENTAL_DAILY_DETAILS_URL);
+        Mockito.doReturn(Observable.fromCallable(() -> NetworkTest.createResponseBody(createHtml()))).when(this.apiService).getBody(OrientalDailyClientTest.ORIENTAL_DAILY_DETAILS_URL);
         Mockito.doReturn(Observable.just(createVideoHtml())).when(this.apiService).getHtml("http://orientaldaily.on.cc/cnt/keyinfo/20170909/videolist.xml");
         Mockito.doReturn(Observable.error(new RuntimeException("Fake error 1"))).when(this.apiService).getFeed(OrientalDailyClientTest.ERROR_URL);
-        Mockito.doReturn(Observable.error(new RuntimeException("Fake error 2"))).when(this.apiService).getHtml(OrientalDailyClientTest.ERROR_DETAILS_URL);
+        Mockito.doReturn(Observable.error(new RuntimeException("Fake error 2"))).when(this.apiService).getBody(OrientalDailyClientTest.ERROR_DETAILS_URL);
 
         this.client = new OrientalDailyClient(this.httpClient, this.apiService, SourceFactory.getInstance(RuntimeEnvironment.application).getSource("東方日報"));
     }
@@ -87,7 +88,7 @@ public final class OrientalDailyClientTest extends NetworkTest {
 
     @NonNull
     private static RssFeed createFeed() throws Exception {
-        return new Persister().read(RssFeed.class, new FileInputStream("src/debug/assets/oriental_daily.xml"));
+        return RssParser.parse(new InputStreamReader(new FileInputStream("src/debug/assets/oriental_daily.xml"), "UTF-8"), 0);
     }
 
     @NonNull
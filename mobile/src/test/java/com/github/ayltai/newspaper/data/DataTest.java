@@ -10,6 +10,8 @@ import org.robolectric.RuntimeEnvironment;
 
 import com.github.ayltai.newspaper.UnitTest;
 import com.github.ayltai.newspaper.app.data.model.NewsItem;
+import com.github.ayltai.newspaper.app.data.model.RefreshState;
+import com.github.ayltai.newspaper.app.data.model.SearchTerm;
 
 import edu.emory.mathcs.backport.java.util.Collections;
 import io.realm.Case;
@@ -58,9 +60,11 @@ public abstract class DataTest extends UnitTest {
         PowerMockito.when(query.endGroup()).thenReturn(query);
         PowerMockito.when(query.and()).thenReturn(query);
         PowerMockito.when(query.or()).thenReturn(query);
+        PowerMockito.when(query.not()).thenReturn(query);
         PowerMockito.when(query.contains(Mockito.anyString(), Mockito.anyString(), Mockito.any(Case.class))).thenReturn(query);
         PowerMockito.when(query.greaterThan(Mockito.anyString(), Mockito.anyInt())).thenReturn(query);
         PowerMockito.when(query.greaterThan(Mockito.anyString(), Mockito.anyLong())).thenReturn(query);
+        PowerMockito.when(query.greaterThanOrEqualTo(Mockito.anyString(), Mockito.anyLong())).thenReturn(query);
         PowerMockito.when(query.lessThan(Mockito.anyString(), Mockito.anyLong())).thenReturn(query);
         PowerMockito.when(query.lessThanOrEqualTo(Mockito.anyString(), Mockito.anyLong())).thenReturn(query);
         PowerMockito.when(query.equalTo(Mockito.anyString(), Mockito.anyBoolean())).thenReturn(query);
@@ -77,5 +81,25 @@ public abstract class DataTest extends UnitTest {
 
         final NewsItem item = new NewsItem();
         PowerMockito.when(results.first()).thenReturn(item);
+
+        final RealmQuery<SearchTerm> termQuery = PowerMockito.mock(RealmQuery.class);
+        PowerMockito.when(realm.where(SearchTerm.class)).thenReturn(termQuery);
+        PowerMockito.when(termQuery.in(Mockito.anyString(), Mockito.any(String[].class))).thenReturn(termQuery);
+        PowerMockito.when(termQuery.equalTo(Mockito.anyString(), Mockito.anyString())).thenReturn(termQuery);
+        PowerMockito.when(termQuery.beginsWith(Mockito.anyString(), Mockito.anyString())).thenReturn(termQuery);
+        PowerMockito.when(termQuery.contains(Mockito.anyString(), Mockito.anyString())).thenReturn(termQuery);
+
+        final RealmResults<SearchTerm> termResults = PowerMockito.mock(RealmResults.class);
+        PowerMockito.when(termQuery.findAll()).thenReturn(termResults);
+        PowerMockito.when(termResults.iterator()).thenReturn(Collections.emptyList().iterator());
+        PowerMockito.when(termResults.deleteAllFromRealm()).thenReturn(true);
+
+        final RealmQuery<RefreshState> stateQuery = PowerMockito.mock(RealmQuery.class);
+        PowerMockito.when(realm.where(RefreshState.class)).thenReturn(stateQuery);
+        PowerMockito.when(stateQuery.in(Mockito.anyString(), Mockito.any(String[].class))).thenReturn(stateQuery);
+
+        final RealmResults<RefreshState> stateResults = PowerMockito.mock(RealmResults.class);
+        PowerMockito.when(stateQuery.findAll()).thenReturn(stateResults);
+        PowerMockito.when(stateResults.iterator()).thenReturn(Collections.emptyList().iterator());
     }
 }
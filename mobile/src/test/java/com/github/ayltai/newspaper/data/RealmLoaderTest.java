@@ -1,5 +1,7 @@
 package com.github.ayltai.newspaper.data;
 
+import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 
 import android.content.Context;
@@ -11,6 +13,7 @@ import org.junit.Test;
 import org.robolectric.RuntimeEnvironment;
 
 import com.github.ayltai.newspaper.app.data.model.Item;
+import com.github.ayltai.newspaper.app.data.model.NewsItem;
 
 import edu.emory.mathcs.backport.java.util.Collections;
 import io.reactivex.Flowable;
@@ -55,4 +58,42 @@ public final class RealmLoaderTest extends DataTest {
             }
         }.isValid());
     }
+
+    @Test
+    public void testLoad() {
+        final Item localItem   = RealmLoaderTest.createItem("local", 1);
+        final Item remoteItem1 = RealmLoaderTest.createItem("remote 1", 2);
+        final Item remoteItem2 = RealmLoaderTest.createItem("remote 2", 3);
+
+        final RealmLoader<Item> loader = new RealmLoader<Item>(RuntimeEnvironment.application, null) {
+            @NonNull
+            @Override
+            protected Flowable<List<Item>> loadFromLocalSource(@NonNull final Context context, @Nullable final Bundle args) {
+                return Flowable.just(Arrays.asList(localItem));
+            }
+
+            @NonNull
+            @Override
+            protected Flowable<List<Item>> loadFromRemoteSource(@NonNull final Context context, @Nullable final Bundle args) {
+                return Flowable.just(Arrays.asList(remoteItem1), Arrays.asList(localItem, remoteItem2));
+            }
+        };
+
+        loader.load(RuntimeEnvironment.application, null)
+            .test()
+            .assertValues(
+                Arrays.asList(localItem),
+                Arrays.asList(remoteItem1, localItem),
+                Arrays.asList(remoteItem2, remoteItem1, localItem))
+            .assertComplete();
+    }
+
+    @NonNull
+    private static Item createItem(@NonNull final String link, final long publishDate) {
+        final NewsItem item = new NewsItem();
+        item.setLink(link);
+        item.setPublishDate(new Date(publishDate));
+
+        return item;
+    }
 }
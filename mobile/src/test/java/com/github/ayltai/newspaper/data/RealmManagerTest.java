@@ -0,0 +1,33 @@
+package com.github.ayltai.newspaper.data;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.robolectric.RuntimeEnvironment;
+
+import io.realm.Realm;
+
+public final class RealmManagerTest extends DataTest {
+    @Test
+    public void testAcquire() {
+        final Realm realm = RealmManager.acquire(RuntimeEnvironment.application);
+
+        Assert.assertEquals(realm, RealmManager.acquire(RuntimeEnvironment.application));
+        Assert.assertEquals(1, RealmManager.getReferenceCount());
+
+        RealmManager.release(realm);
+
+        Mockito.verify(realm, Mockito.never()).close();
+        Assert.assertEquals(1, RealmManager.getReferenceCount());
+
+        RealmManager.release(realm);
+
+        Mockito.verify(realm).close();
+        Assert.assertEquals(0, RealmManager.getReferenceCount());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testReleaseWithoutAcquire() {
+        RealmManager.release(Realm.getDefaultInstance());
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.ayltai.newspaper.net;
+
+import java.io.IOException;
+
+import android.support.annotation.NonNull;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.github.ayltai.newspaper.UnitTest;
+
+import okhttp3.Interceptor;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+public final class CacheInterceptorTest extends UnitTest {
+    private static final String URL = "http://www.example.com/news";
+
+    @Test
+    public void Given_responseWithoutValidators_When_interceptIsCalled_Then_minFreshnessIsApplied() throws IOException {
+        final CacheInterceptor interceptor = new CacheInterceptor();
+        interceptor.setMinFreshness("www.example.com", 300);
+
+        final Response response = interceptor.intercept(CacheInterceptorTest.createChain(new Response.Builder()));
+
+        Assert.assertEquals("Incorrect max-age", 300, response.cacheControl().maxAgeSeconds());
+    }
+
+    @Test
+    public void Given_responseWithValidators_When_interceptIsCalled_Then_responseIsUnchanged() throws IOException {
+        final CacheInterceptor interceptor = new CacheInterceptor();
+        interceptor.setMinFreshness("www.example.com", 300);
+
+        final Response response = interceptor.intercept(CacheInterceptorTest.createChain(new Response.Builder()
+            .header("ETag", "\"abc\"")));
+
+        Assert.assertEquals("Server validators are not honoured", -1, response.cacheControl().maxAgeSeconds());
+    }
+
+    @Test
+    public void Given_serverFreshnessHeaders_When_interceptIsCalled_Then_serverFreshnessIsKept() throws IOException {
+        final CacheInterceptor interceptor = new CacheInterceptor();
+        interceptor.setMinFreshness("www.example.com", 300);
+
+        Response response = interceptor.intercept(CacheInterceptorTest.createChain(new Response.Builder()
+            .header("Cache-Control", "no-cache")));
+
+        Assert.assertTrue("no-cache is not honoured", response.cacheControl().noCache());
+
+        response = interceptor.intercept(CacheInterceptorTest.createChain(new Response.Builder()
+            .header("Cache-Control", "max-age=0")));
+
+        Assert.assertEquals("max-age=0 is not honoured", 0, response.cacheControl().maxAgeSeconds());
+    }
+
+    @Test
+    public void Given_unconfiguredHost_When_interceptIsCalled_Then_responseIsUnchanged() throws IOException {
+        final CacheInterceptor interceptor = new CacheInterceptor();
+
+        final Response response = interceptor.intercept(CacheInterceptorTest.createChain(new Response.Builder()));
+
+        Assert.assertEquals("Incorrect min freshness", 0, interceptor.getMinFreshness("www.example.com"));
+        Assert.assertEquals("Unconfigured host is made cacheable", -1, response.cacheControl().maxAgeSeconds());
+    }
+
+    @NonNull
+    private static Interceptor.Chain createChain(@NonNull final Response.Builder builder) throws IOException {
+        final Request           request = new Request.Builder().url(CacheInterceptorTest.URL).build();
+        final Interceptor.Chain chain   = Mockito.mock(Interceptor.Chain.class);
+
+        Mockito.doReturn(request).when(chain).request();
+        Mockito.doReturn(builder
+            .request(request)
+            .protocol(Protocol.HTTP_1_1)
+            .code(200)
+            .message("OK")
+            .body(ResponseBody.create(null, ""))
+            .build()).when(chain).proceed(Mockito.any(Request.class));
+
+        return chain;
+    }
+}
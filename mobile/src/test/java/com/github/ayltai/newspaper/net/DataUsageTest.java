@@ -0,0 +1,64 @@
+package com.github.ayltai.newspaper.net;
+
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.github.ayltai.newspaper.UnitTest;
+import com.github.ayltai.newspaper.analytics.DataUsageEvent;
+import com.github.ayltai.newspaper.analytics.EventLogger;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+public final class DataUsageTest extends UnitTest {
+    private static final String BODY = "<html></html>";
+
+    @Test
+    public void testDataUsage() throws IOException {
+        final MockWebServer server = new MockWebServer();
+        server.enqueue(new MockResponse().setBody(DataUsageTest.BODY));
+        server.enqueue(new MockResponse().setBody(DataUsageTest.BODY));
+        server.start();
+
+        final DataUsage    dataUsage = new DataUsage();
+        final OkHttpClient client    = new OkHttpClient.Builder()
+            .addNetworkInterceptor(dataUsage.getNewsInterceptor())
+            .build();
+
+        try {
+            DataUsageTest.fetch(client, server);
+            Assert.assertEquals(DataUsageTest.BODY.length(), dataUsage.getNewsBytes());
+
+            DataUsageTest.fetch(client, server);
+            Assert.assertEquals(DataUsageTest.BODY.length() * 2, dataUsage.getNewsBytes());
+            Assert.assertEquals(0, dataUsage.getMediaBytes());
+        } finally {
+            server.shutdown();
+        }
+
+        final EventLogger eventLogger = Mockito.mock(EventLogger.class);
+
+        dataUsage.export(eventLogger, true);
+        Assert.assertEquals(0, dataUsage.getNewsBytes());
+
+        // Sessions without any bytes received are not reported
+        dataUsage.export(eventLogger, true);
+        Mockito.verify(eventLogger, Mockito.times(1)).logEvent(Mockito.any(DataUsageEvent.class));
+    }
+
+    private static void fetch(final OkHttpClient client, final MockWebServer server) throws IOException {
+        final Response response = client.newCall(new Request.Builder().url(server.url("/")).build()).execute();
+
+        try {
+            Assert.assertEquals(DataUsageTest.BODY, response.body().string());
+        } finally {
+            response.close();
+        }
+    }
+}
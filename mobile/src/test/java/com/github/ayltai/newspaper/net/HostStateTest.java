@@ -0,0 +1,107 @@
+package com.github.ayltai.newspaper.net;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.github.ayltai.newspaper.UnitTest;
+
+public final class HostStateTest extends UnitTest {
+    private static final String HOST = "www.example.com";
+    private static final long   NOW  = 1000000L;
+
+    @Test
+    public void testCircuitBreaker() throws CircuitOpenException {
+        final HostState state = new HostState(HostStateTest.HOST);
+
+        for (int i = 0; i < HostState.FAILURE_THRESHOLD; i++) {
+            Assert.assertEquals(HostState.STATE_CLOSED, state.getState());
+
+            state.acquire(HostStateTest.NOW);
+            state.onFailure(HostStateTest.NOW);
+        }
+
+        Assert.assertEquals(HostState.STATE_OPEN, state.getState());
+        HostStateTest.assertRejected(state, HostStateTest.NOW + HostState.OPEN_DURATION - 1);
+
+        // Only one probe request is let through
+        state.acquire(HostStateTest.NOW + HostState.OPEN_DURATION);
+        Assert.assertEquals(HostState.STATE_HALF_OPEN, state.getState());
+        HostStateTest.assertRejected(state, HostStateTest.NOW + HostState.OPEN_DURATION);
+
+        state.onFailure(HostStateTest.NOW + HostState.OPEN_DURATION);
+        Assert.assertEquals(HostState.STATE_OPEN, state.getState());
+
+        state.acquire(HostStateTest.NOW + 2 * HostState.OPEN_DURATION);
+        state.onSuccess(100, HostStateTest.NOW + 2 * HostState.OPEN_DURATION);
+        Assert.assertEquals(HostState.STATE_CLOSED, state.getState());
+        Assert.assertEquals(0, state.getConsecutiveFailures());
+    }
+
+    @Test
+    public void testLimit() {
+        final HostState     state = new HostState(HostStateTest.HOST);
+        final List<Integer> runs  = new ArrayList<>();
+
+        for (int i = 0; i <= HostState.INITIAL_LIMIT; i++) {
+            final int index = i;
+            state.admit(() -> runs.add(index));
+        }
+
+        // The task over the limit waits without being run
+        Assert.assertEquals(HostState.INITIAL_LIMIT, runs.size());
+        Assert.assertEquals(HostState.INITIAL_LIMIT, state.getInFlight());
+        Assert.assertEquals(1, state.getWaiting());
+
+        state.onSuccess(100, HostStateTest.NOW);
+        Assert.assertEquals(HostState.INITIAL_LIMIT + 1, state.getLimit());
+        Assert.assertEquals(100, state.getMinLatency());
+
+        state.release();
+        Assert.assertEquals(HostState.INITIAL_LIMIT + 1, runs.size());
+        Assert.assertEquals(HostState.INITIAL_LIMIT, state.getInFlight());
+        Assert.assertEquals(0, state.getWaiting());
+
+        state.onSuccess(1000, HostStateTest.NOW);
+        Assert.assertEquals((HostState.INITIAL_LIMIT + 1) * 3 / 4, state.getLimit());
+
+        state.onOverload();
+        Assert.assertEquals((HostState.INITIAL_LIMIT + 1) * 3 / 4 / 2, state.getLimit());
+        Assert.assertEquals(HostState.STATE_CLOSED, state.getState());
+
+        for (int i = 0; i < HostState.INITIAL_LIMIT; i++) state.release();
+        Assert.assertEquals(0, state.getInFlight());
+        Assert.assertEquals(HostState.MIN_LIMIT, state.getLimit());
+    }
+
+    @Test
+    public void testCancel() {
+        final HostState     state = new HostState(HostStateTest.HOST);
+        final List<Integer> runs  = new ArrayList<>();
+
+        for (int i = 0; i < HostState.INITIAL_LIMIT; i++) state.admit(() -> runs.add(0));
+
+        final Runnable task = () -> runs.add(1);
+        state.admit(task);
+
+        Assert.assertTrue(state.cancel(task));
+        Assert.assertEquals(0, state.getWaiting());
+
+        state.release();
+        Assert.assertEquals(HostState.INITIAL_LIMIT, runs.size());
+        Assert.assertEquals(HostState.INITIAL_LIMIT - 1, state.getInFlight());
+        Assert.assertFalse(state.cancel(task));
+    }
+
+    private static void assertRejected(final HostState state, final long now) {
+        try {
+            state.acquire(now);
+
+            Assert.fail("The request is not rejected");
+        } catch (final CircuitOpenException e) {
+            // Expected
+        }
+    }
+}
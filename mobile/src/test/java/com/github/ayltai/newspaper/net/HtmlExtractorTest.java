@@ -0,0 +1,62 @@
+package com.github.ayltai.newspaper.net;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import android.support.annotation.NonNull;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.github.ayltai.newspaper.UnitTest;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+
+public final class HtmlExtractorTest extends UnitTest {
+    private static final String START = "<div class=\"start\">";
+    private static final String END   = "<div class=\"end\">";
+
+    @Test
+    public void Given_markersAcrossReads_When_extractIsCalled_Then_regionIsReturned() throws IOException {
+        final char[] padding = new char[8190];
+        Arrays.fill(padding, ' ');
+
+        final String region = HtmlExtractorTest.START + new String(padding) + "文章" + HtmlExtractorTest.END;
+        final String html   = new String(padding) + region + new String(padding) + "<footer></footer>";
+
+        Assert.assertEquals("Incorrect region", region, HtmlExtractor.extract(HtmlExtractorTest.createBody(html, Charset.forName("UTF-8")), null, HtmlExtractorTest.START, HtmlExtractorTest.END));
+        Assert.assertEquals("Incorrect page", html, HtmlExtractor.extract(HtmlExtractorTest.createBody(html, Charset.forName("UTF-8")), null, null, null));
+    }
+
+    @Test
+    public void Given_missingMarkers_When_extractIsCalled_Then_stringUtilsSemanticsAreKept() throws IOException {
+        Assert.assertEquals("Incorrect region", "", HtmlExtractor.extract(HtmlExtractorTest.createBody("<p></p>", Charset.forName("UTF-8")), null, HtmlExtractorTest.START, HtmlExtractorTest.END));
+        Assert.assertEquals("Incorrect region", HtmlExtractorTest.START + "<p></p>", HtmlExtractor.extract(HtmlExtractorTest.createBody("<p>" + HtmlExtractorTest.START + "<p></p>", Charset.forName("UTF-8")), null, HtmlExtractorTest.START, HtmlExtractorTest.END));
+    }
+
+    @Test
+    public void Given_regionBeforeFooter_When_extractIsCalled_Then_bodyIsReadToTheEnd() throws IOException {
+        final char[] footer = new char[64 * 1024];
+        Arrays.fill(footer, ' ');
+
+        final Buffer buffer = new Buffer().writeUtf8("<p>" + HtmlExtractorTest.START + "<p></p>" + HtmlExtractorTest.END + new String(footer));
+
+        Assert.assertEquals("Incorrect region", HtmlExtractorTest.START + "<p></p>" + HtmlExtractorTest.END, HtmlExtractor.extract(ResponseBody.create(MediaType.parse("text/html"), buffer.size(), buffer), null, HtmlExtractorTest.START, HtmlExtractorTest.END));
+        Assert.assertEquals("Body is not read to the end, so it is not cached", 0, buffer.size());
+    }
+
+    @Test
+    public void Given_big5Body_When_extractIsCalled_Then_bodyIsDecoded() throws IOException {
+        final Charset charset = Charset.forName("Big5");
+
+        Assert.assertEquals("Incorrect region", "<p>文匯報</p>", HtmlExtractor.extract(HtmlExtractorTest.createBody("<html><p>文匯報</p></html>", charset), charset, "<p>", "</p>"));
+    }
+
+    @NonNull
+    private static ResponseBody createBody(@NonNull final String html, @NonNull final Charset charset) {
+        return ResponseBody.create(MediaType.parse("text/html"), html.getBytes(charset));
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.ayltai.newspaper.net;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.github.ayltai.newspaper.UnitTest;
+import com.github.ayltai.newspaper.analytics.EventLogger;
+import com.github.ayltai.newspaper.analytics.LatencyEvent;
+
+import okhttp3.HttpUrl;
+
+public final class NetworkMetricsTest extends UnitTest {
+    @Test
+    public void testHistogram() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.getPercentile(50));
+
+        for (int i = 1; i <= 10; i++) histogram.record(i * 100);
+
+        Assert.assertEquals(10, histogram.getCount());
+        Assert.assertEquals(550, histogram.getMean());
+        Assert.assertEquals(1000, histogram.getMax());
+        Assert.assertEquals(500, histogram.getPercentile(50));
+        Assert.assertEquals(1000, histogram.getPercentile(90));
+
+        histogram.record(60000);
+        Assert.assertEquals(60000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testTag() {
+        final NetworkMetrics metrics = new NetworkMetrics();
+        metrics.tag("http://www.example.com/news.xml", "Source", "Category");
+
+        Assert.assertEquals("Source", metrics.getSource(HttpUrl.parse("http://www.example.com/news.xml")));
+        Assert.assertEquals("Category", metrics.getCategory(HttpUrl.parse("http://www.example.com/news.xml")));
+        Assert.assertEquals("Source", metrics.getSource(HttpUrl.parse("http://www.example.com/details.html")));
+        Assert.assertNull(metrics.getCategory(HttpUrl.parse("http://www.example.com/details.html")));
+        Assert.assertNull(metrics.getSource(HttpUrl.parse("http://cdn.example.com/image.jpg")));
+    }
+
+    @Test
+    public void testExport() {
+        final NetworkMetrics metrics = new NetworkMetrics();
+        metrics.record("Source", NetworkMetrics.PHASE_CALL, 200);
+        metrics.record("Source", NetworkMetrics.PHASE_STORE, 50);
+
+        Assert.assertTrue(metrics.getReport().contains(NetworkMetrics.PHASE_STORE));
+
+        final EventLogger eventLogger = Mockito.mock(EventLogger.class);
+
+        metrics.export(eventLogger);
+        Mockito.verify(eventLogger, Mockito.times(1)).logEvent(Mockito.any(LatencyEvent.class));
+        Assert.assertEquals(0, metrics.getHistogram("Source", NetworkMetrics.PHASE_CALL).getCount());
+
+        // Nothing is logged without new requests
+        metrics.export(eventLogger);
+        Mockito.verify(eventLogger, Mockito.times(1)).logEvent(Mockito.any(LatencyEvent.class));
+    }
+}
@@ -1,13 +1,16 @@
 package com.github.ayltai.newspaper.net;
 
 import android.support.annotation.CallSuper;
+import android.support.annotation.NonNull;
 
 import org.junit.Before;
 import org.mockito.Mockito;
 
 import com.github.ayltai.newspaper.UnitTest;
 
+import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
+import okhttp3.ResponseBody;
 
 public abstract class NetworkTest extends UnitTest {
     protected OkHttpClient httpClient;
@@ -21,4 +24,9 @@ public abstract class NetworkTest extends UnitTest {
         this.httpClient = Mockito.mock(OkHttpClient.class);
         this.apiService = Mockito.mock(ApiService.class);
     }
+
+    @NonNull
+    protected static ResponseBody createResponseBody(@NonNull final String html) {
+        return ResponseBody.create(MediaType.parse("text/html; charset=UTF-8"), html);
+    }
 }
@@ -0,0 +1,78 @@
+package com.github.ayltai.newspaper.net;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.github.ayltai.newspaper.UnitTest;
+
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.PublishSubject;
+
+public final class SingleFlightTest extends UnitTest {
+    private static final String URL = "http://www.example.com";
+
+    @Test
+    public void testShare() {
+        final SingleFlight<String>   singleFlight = new SingleFlight<>();
+        final PublishSubject<String> subject      = PublishSubject.create();
+        final AtomicInteger          calls        = new AtomicInteger();
+
+        final Observable<String> observable = singleFlight.share(SingleFlightTest.URL, () -> {
+            calls.incrementAndGet();
+
+            return subject;
+        });
+
+        final TestObserver<String> first  = observable.test();
+        final TestObserver<String> second = observable.test();
+
+        Assert.assertEquals(1, calls.get());
+        Assert.assertEquals(1, singleFlight.size());
+
+        subject.onNext("html");
+        subject.onComplete();
+
+        first.assertResult("html");
+        second.assertResult("html");
+        Assert.assertEquals(0, singleFlight.size());
+
+        // A later subscriber makes a new call
+        observable.test();
+        Assert.assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testDispose() {
+        final SingleFlight<String> singleFlight = new SingleFlight<>();
+        final AtomicInteger        calls        = new AtomicInteger();
+
+        final Observable<String> observable = singleFlight.share(SingleFlightTest.URL, () -> {
+            calls.incrementAndGet();
+
+            return Observable.never();
+        });
+
+        final TestObserver<String> first  = observable.test();
+        final TestObserver<String> second = observable.test();
+
+        first.dispose();
+        Assert.assertEquals(1, singleFlight.size());
+
+        second.dispose();
+        Assert.assertEquals(0, singleFlight.size());
+
+        observable.test();
+        Assert.assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testError() {
+        final SingleFlight<String> singleFlight = new SingleFlight<>();
+
+        singleFlight.share(SingleFlightTest.URL, () -> Observable.error(new IllegalStateException())).test().assertError(IllegalStateException.class);
+        Assert.assertEquals(0, singleFlight.size());
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.ayltai.newspaper.rss;
+
+import java.io.StringReader;
+
+import android.support.annotation.NonNull;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.github.ayltai.newspaper.UnitTest;
+
+public final class RssParserTest extends UnitTest {
+    @Test
+    public void testParse() throws Exception {
+        final RssFeed feed = RssParser.parse(new StringReader("<rss><channel><title>Feed</title>"
+            + "<item><title><![CDATA[﻿ Title <br>]]></title><guid>http://www.example.com/1</guid><description><![CDATA[<p>Description</p>]]></description><pubDate>Sat, 09 Sep 2017 10:00:00 +0800</pubDate><enclosure url=\"http://www.example.com/1.jpg\" type=\"image/jpeg\"/></item>"
+            + "</channel></rss>"), 0);
+
+        Assert.assertEquals(1, feed.getItems().size());
+        Assert.assertEquals("Title <br>", feed.getItems().get(0).getTitle());
+        Assert.assertEquals("http://www.example.com/1", feed.getItems().get(0).getLink());
+        Assert.assertEquals("<p>Description</p>", feed.getItems().get(0).getDescription());
+        Assert.assertEquals(1504922400000L, feed.getItems().get(0).getPublishDate().getTime());
+        Assert.assertEquals("http://www.example.com/1.jpg", feed.getItems().get(0).getImages().get(0).getUrl());
+    }
+
+    @Test
+    public void testParseStopsAtStaleItems() throws Exception {
+        final RssFeed feed = RssParser.parse(new StringReader("<rss><channel>"
+            + RssParserTest.createItem("1", "Sat, 09 Sep 2017 10:00:00 +0800")
+            + RssParserTest.createItem("2", "Fri, 08 Sep 2017 10:00:00 +0800")
+            + RssParserTest.createItem("3", "Sat, 09 Sep 2017 09:00:00 +0800")
+            + RssParserTest.createItem("4", "Thu, 07 Sep 2017 10:00:00 +0800")
+            + RssParserTest.createItem("5", "Wed, 06 Sep 2017 10:00:00 +0800")
+            + RssParserTest.createItem("6", "Tue, 05 Sep 2017 10:00:00 +0800")
+            + RssParserTest.createItem("7", "Sat, 09 Sep 2017 08:00:00 +0800")
+            + "</channel></rss>"), 1504900000000L);
+
+        Assert.assertEquals(2, feed.getItems().size());
+        Assert.assertEquals("1", feed.getItems().get(0).getLink());
+        Assert.assertEquals("3", feed.getItems().get(1).getLink());
+    }
+
+    @Test
+    public void testCopy() throws Exception {
+        final RssFeed feed = RssParser.parse(new StringReader("<rss><channel>"
+            + "<item><title>Title</title><link>http://www.example.com/1</link><description>Description</description><pubDate>Sat, 09 Sep 2017 10:00:00 +0800</pubDate><enclosure url=\"http://www.example.com/1.jpg\" type=\"image/jpeg\"/></item>"
+            + "</channel></rss>"), 0);
+        final RssFeed copy = feed.copy();
+
+        Assert.assertEquals(1, copy.getItems().size());
+        Assert.assertNotSame(feed.getItems().get(0), copy.getItems().get(0));
+        Assert.assertEquals("Title", copy.getItems().get(0).getTitle());
+        Assert.assertEquals("http://www.example.com/1", copy.getItems().get(0).getLink());
+        Assert.assertEquals("Description", copy.getItems().get(0).getDescription());
+        Assert.assertEquals(1504922400000L, copy.getItems().get(0).getPublishDate().getTime());
+        Assert.assertEquals("http://www.example.com/1.jpg", copy.getItems().get(0).getImages().get(0).getUrl());
+
+        copy.getItems().get(0).setTitle("Modified");
+        Assert.assertEquals("Title", feed.getItems().get(0).getTitle());
+    }
+
+    @NonNull
+    private static String createItem(@NonNull final String link, @NonNull final String pubDate) {
+        return "<item><title>" + link + "</title><link>" + link + "</link><pubDate>" + pubDate + "</pubDate></item>";
+    }
+}
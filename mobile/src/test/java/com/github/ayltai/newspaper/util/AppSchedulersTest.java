@@ -0,0 +1,23 @@
+package com.github.ayltai.newspaper.util;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.github.ayltai.newspaper.UnitTest;
+
+import io.reactivex.Scheduler;
+
+public final class AppSchedulersTest extends UnitTest {
+    @Test
+    public void testDatabaseReader() {
+        final Set<Scheduler> readers = new HashSet<>();
+        for (int i = 0; i < 3; i++) readers.add(AppSchedulers.databaseReader());
+
+        Assert.assertEquals(3, readers.size());
+        Assert.assertFalse(readers.contains(AppSchedulers.database()));
+        Assert.assertEquals(8, AppSchedulers.getExecutors().size());
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.ayltai.newspaper.util;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.github.ayltai.newspaper.UnitTest;
+
+public final class DateParserTest extends UnitTest {
+    @Test
+    public void testParseRfc822() throws ParseException {
+        final SimpleDateFormat format = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss Z", Locale.ENGLISH);
+
+        Assert.assertEquals(format.parse("Sat, 09 Sep 2017 10:00:00 +0800").getTime(), DateParser.parseRfc822("Sat, 09 Sep 2017 10:00:00 +0800"));
+        Assert.assertEquals(format.parse("Sun, 10 Sep 2017 02:30:15 +0000").getTime(), DateParser.parseRfc822("Sun, 10 Sep 2017 02:30:15 GMT"));
+        Assert.assertEquals(format.parse("Tue, 29 Feb 2000 23:59:59 -0530").getTime(), DateParser.parseRfc822("Tue, 29 Feb 2000 23:59:59 -0530"));
+        Assert.assertEquals(format.parse("Sat, 09 Sep 2017 10:00:00 +0800").getTime(), DateParser.parseRfc822("Sat, 09 Sep 2017 10:00:00 EDT"));
+        Assert.assertEquals(format.parse("Sat, 09 Sep 2017 10:00:00 +0800").getTime(), DateParser.parseRfc822("\n    Sat, 9 Sep 2017 10:00:00 +0800    \n"));
+    }
+
+    @Test
+    public void testParseLocalDates() throws ParseException {
+        Assert.assertEquals(new SimpleDateFormat("yyyy-MM-dd HH:mm", Locale.ENGLISH).parse("2017-09-10 18:46").getTime(), DateParser.parseIsoDateTime("2017-09-10 18:46"));
+        Assert.assertEquals(new SimpleDateFormat("yyyy-MM-dd", Locale.ENGLISH).parse("2017-09-10").getTime(), DateParser.parseIsoDate("2017-09-10"));
+        Assert.assertEquals(new SimpleDateFormat("dd MMM yyyy h:mm a", Locale.ENGLISH).parse("09 Sep 2017 6:30 PM").getTime(), DateParser.parseDayMonthYear("09 Sep 2017 6:30 PM"));
+        Assert.assertEquals(new SimpleDateFormat("dd MMM yyyy h:mm a", Locale.ENGLISH).parse("09 Sep 2017 12:05 AM").getTime(), DateParser.parseDayMonthYear("09 Sep 2017 12:05 AM"));
+        Assert.assertEquals(new SimpleDateFormat("dd MMM yyyy", Locale.ENGLISH).parse("09 Sep 2017").getTime(), DateParser.parseDayMonthYear("09 Sep 2017"));
+        Assert.assertEquals(1504900568000L, DateParser.parseEpochSeconds("1504900568"));
+    }
+
+    @Test
+    public void testParseInvalidDates() {
+        for (final String text : new String[] { "Sat, 99 Sep 9999 99:99:99", "", "Now" }) {
+            try {
+                DateParser.parseRfc822(text);
+
+                Assert.fail("ParseException expected for " + text);
+            } catch (final ParseException e) {
+                // Expected
+            }
+        }
+
+        try {
+            DateParser.parseEpochSeconds("15049x0568");
+
+            Assert.fail("ParseException expected");
+        } catch (final ParseException e) {
+            // Expected
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.ayltai.newspaper.util;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.github.ayltai.newspaper.UnitTest;
+
+public final class MarkerScannerTest extends UnitTest {
+    private static final String TEXT = "<ul><li><a href=\"1\">一</a></li><li><a href=\"2\">二</a></li><li></li></ul><p>[a][b][c]</p>";
+
+    @Test
+    public void testBetween() {
+        final MarkerScanner.Matches matches = MarkerScanner.compile("<ul>", "</ul>", "href=\"", "\"", "\">", "</a>", "<p>", "</p>", "[", "]").scan(MarkerScannerTest.TEXT);
+
+        Assert.assertEquals(StringUtils.substringBetween(MarkerScannerTest.TEXT, "href=\"", "\""), Slice.asString(matches.between("href=\"", "\"")));
+        Assert.assertEquals(StringUtils.substringBetween(MarkerScannerTest.TEXT, "\">", "</a>"), Slice.asString(matches.between("\">", "</a>")));
+        Assert.assertNull(matches.between("</ul>", "<ul>"));
+        Assert.assertNull(matches.between("[", "]", null));
+        Assert.assertEquals(3, matches.count("["));
+    }
+
+    @Test
+    public void testAllBetween() {
+        final MarkerScanner         scanner  = MarkerScanner.compile("<ul>", "</ul>", "<li>", "</li>", "href=\"", "\"", "<p>", "</p>", "[", "]");
+        final MarkerScanner.Matches matches  = scanner.scan(MarkerScannerTest.TEXT);
+        final Slice                 list     = matches.between("<ul>", "</ul>");
+        final List<Slice>           items    = matches.allBetween("<li>", "</li>", list);
+        final String[]              expected = StringUtils.substringsBetween(StringUtils.substringBetween(MarkerScannerTest.TEXT, "<ul>", "</ul>"), "<li>", "</li>");
+
+        Assert.assertEquals(expected.length, items.size());
+        for (int i = 0; i < expected.length; i++) Assert.assertEquals(expected[i], items.get(i).toString());
+
+        Assert.assertEquals("1", Slice.asString(matches.between("href=\"", "\"", items.get(0))));
+        Assert.assertEquals("2", Slice.asString(matches.between("href=\"", "\"", items.get(1))));
+        Assert.assertNull(matches.between("href=\"", "\"", items.get(2)));
+
+        final List<Slice> brackets = scanner.scan(matches.between("<p>", "</p>")).allBetween("[", "]");
+        Assert.assertEquals(3, brackets.size());
+        Assert.assertEquals("c", brackets.get(2).toString());
+
+        Assert.assertTrue(matches.allBetween("[", "]", null).isEmpty());
+    }
+
+    @Test
+    public void testOverlappingMarkers() {
+        final String                text    = "<div class=\"clear\"></div></div>";
+        final MarkerScanner.Matches matches = MarkerScanner.compile("<div class=\"clear\"></div>", "</div>", "<div", "div").scan(text);
+
+        Assert.assertEquals(2, matches.count("</div>"));
+        Assert.assertEquals(3, matches.count("div"));
+        Assert.assertEquals(StringUtils.substringBetween(text, "<div", "</div>"), Slice.asString(matches.between("<div", "</div>")));
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.ayltai.newspaper.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.github.ayltai.newspaper.UnitTest;
+
+public final class TokenizerTest extends UnitTest {
+    @Test
+    public void testTokenize() {
+        Assert.assertEquals(Collections.emptyList(), Tokenizer.tokenize(null));
+        Assert.assertEquals(Arrays.asList("香港", "港天", "天氣"), Tokenizer.tokenize("香港天氣"));
+        Assert.assertEquals(Arrays.asList("港", "hong", "kong", "2018"), Tokenizer.tokenize("港 Hong-Kong, 2018!"));
+        Assert.assertEquals(Arrays.asList("香港", "legco", "立法", "法會"), Tokenizer.tokenize("香港LegCo立法會"));
+        Assert.assertEquals(Arrays.asList("香港", "港天", "天氣", "香", "港", "天", "氣"), Tokenizer.tokenize("香港天氣", true));
+        Assert.assertEquals(Arrays.asList("港", "hong"), Tokenizer.tokenize("港 Hong", true));
+    }
+
+    @Test
+    public void testTokenizeHtml() {
+        Assert.assertEquals(Arrays.asList("新聞", "news", "today"), Tokenizer.tokenize("<p class=\"content\">新聞&nbsp;<b>News</b> &amp; today</p>"));
+        Assert.assertEquals(Arrays.asList("a", "b"), Tokenizer.tokenize("a < b"));
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.ayltai.newspaper.view;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+import android.view.ViewGroup;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.github.ayltai.newspaper.UnitTest;
+import com.github.ayltai.newspaper.view.binding.Binder;
+import com.github.ayltai.newspaper.view.binding.BinderFactory;
+import com.github.ayltai.newspaper.view.binding.FullBinderFactory;
+import com.github.ayltai.newspaper.view.binding.PartBinderFactory;
+
+public final class UniversalAdapterTest extends UnitTest {
+    private int binderCount;
+
+    private final class TestAdapter extends UniversalAdapter<String, View, RecyclerView.ViewHolder> {
+        TestAdapter() {
+            super(Collections.singletonList(new FullBinderFactory<String>() {
+                @NonNull
+                @Override
+                public Collection<BinderFactory<String>> getParts(@Nullable final String model) {
+                    return Collections.singletonList(new PartBinderFactory<String, View>() {
+                        @Override
+                        public int getPartType() {
+                            return 0;
+                        }
+
+                        @NonNull
+                        @Override
+                        public Binder<View> create(@Nullable final String model) {
+                            UniversalAdapterTest.this.binderCount++;
+
+                            return view -> {
+                            };
+                        }
+
+                        @Override
+                        public boolean isNeeded(@Nullable final String model) {
+                            return model != null;
+                        }
+                    });
+                }
+
+                @Override
+                public boolean isNeeded(@Nullable final String model) {
+                    return true;
+                }
+            }));
+        }
+
+        @Override
+        protected boolean areContentsTheSame(@Nullable final String oldModel, @Nullable final String newModel) {
+            return oldModel == null ? newModel == null : oldModel.equals(newModel);
+        }
+
+        @Override
+        public RecyclerView.ViewHolder onCreateViewHolder(final ViewGroup parent, final int viewType) {
+            return null;
+        }
+    }
+
+    @Test
+    public void testGetBinder() {
+        final List<String> items = new ArrayList<>();
+        for (int i = 0; i < 500; i++) items.add(String.valueOf(i));
+
+        final UniversalAdapterTest.TestAdapter adapter = new UniversalAdapterTest.TestAdapter();
+        adapter.onDataSetChanged(items);
+
+        Assert.assertEquals(500, adapter.getItemCount());
+        Assert.assertEquals(0, adapter.getItemViewType(499));
+        Assert.assertEquals(0, this.binderCount);
+
+        final Binder<View> binder = adapter.getBinder(499);
+
+        Assert.assertSame(binder, adapter.getBinder(499));
+        Assert.assertEquals(1, this.binderCount);
+
+        for (int i = 0; i < 100; i++) adapter.getBinder(i);
+
+        Assert.assertEquals(101, this.binderCount);
+        Assert.assertNotSame(binder, adapter.getBinder(499));
+    }
+
+    @Test
+    public void testOnItemsChanged() {
+        final UniversalAdapterTest.TestAdapter adapter = new UniversalAdapterTest.TestAdapter();
+        adapter.onDataSetChanged(Arrays.asList("a", "b", null));
+
+        Assert.assertEquals(2, adapter.getItemCount());
+
+        final Binder<View> a = adapter.getBinder(0);
+        final Binder<View> b = adapter.getBinder(1);
+
+        final List<String> items = Arrays.asList("b", "c", "a", null);
+        adapter.onItemsChanged(items);
+
+        Assert.assertEquals(3, adapter.getItemCount());
+        Assert.assertSame(b, adapter.getBinder(0));
+        Assert.assertNotSame(a, adapter.getBinder(1));
+        Assert.assertNotSame(b, adapter.getBinder(1));
+        Assert.assertSame(a, adapter.getBinder(2));
+
+        adapter.onItemsChanged(Collections.singletonList("c"));
+
+        Assert.assertEquals(1, adapter.getItemCount());
+    }
+}